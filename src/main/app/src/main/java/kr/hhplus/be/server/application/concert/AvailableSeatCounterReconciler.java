@@ -0,0 +1,69 @@
+package kr.hhplus.be.server.application.concert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import kr.hhplus.be.server.domain.concert.repository.SeatRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스케줄 잔여 좌석 수 재계산
+ *
+ * available_seats 는 예약/만료 때 좌석 상태 변경과 같은 트랜잭션에서 원자적 UPDATE 로 증감하는 계수기다.
+ * 판매 가능 좌석을 잡을 때만 차감하고 (만료 처리 전의 임시 예약을 넘겨받으면 이전 예약만 취소), 만료 처리는 실제로 되돌린 좌석만 더하므로
+ * 정상 경로에서는 어긋나지 않는다. 수동 데이터 수정이나 배포 전에 쌓인 오차에 대비해 리더 노드가 reconcile-interval 마다
+ * 공연 전 스케줄의 값을 seats 테이블의 판매 가능 좌석 수로 맞춘다.
+ */
+@Component
+public class AvailableSeatCounterReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailableSeatCounterReconciler.class);
+
+    private final SeatRepository seatRepository;
+    private final SchedulerLeaderElection leaderElection;
+    private final Counter corrected;
+
+    public AvailableSeatCounterReconciler(SeatRepository seatRepository,
+                                          SchedulerLeaderElection leaderElection,
+                                          MeterRegistry meterRegistry) {
+        this.seatRepository = seatRepository;
+        this.leaderElection = leaderElection;
+        this.corrected = Counter.builder("seat.counter.corrected")
+                .description("Schedules whose available seat count drifted from the seats table")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${seat.counter.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+        try {
+            reconcileAll();
+        } catch (RuntimeException e) {
+            logger.warn("잔여 좌석 수 재계산 실패", e);
+        }
+    }
+
+    /**
+     * @return 값이 어긋나 있어 바로잡은 스케줄 수
+     */
+    int reconcileAll() {
+        List<Long> scheduleIds = seatRepository.findUpcomingScheduleIds(LocalDateTime.now());
+        int drifted = 0;
+        for (Long scheduleId : scheduleIds) {
+            if (seatRepository.reconcileAvailableSeats(scheduleId) > 0) {
+                drifted++;
+                logger.info("잔여 좌석 수 보정: scheduleId={}", scheduleId);
+            }
+        }
+        corrected.increment(drifted);
+        return drifted;
+    }
+}
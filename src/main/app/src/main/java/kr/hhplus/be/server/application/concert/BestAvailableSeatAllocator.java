@@ -0,0 +1,143 @@
+package kr.hhplus.be.server.application.concert;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.domain.concert.SeatUnavailableException;
+import kr.hhplus.be.server.infrastructure.redis.SeatCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 최적 연속 좌석 자동 배정 ("등급 X 로 N 석")
+ *
+ * 좌석 배치도로 만든 스케줄별 점유 격자에서 행마다 연속으로 비어 있는 블록을 찾고, 가장 좋은 candidate-blocks 개 중 하나를 무작위로 골라 일괄 예약한다.
+ * 모두가 같은 최선의 좌석을 고르지 않도록 동시 요청을 여러 블록에 흩뜨리며, 이 노드에서 시도 중인 좌석은 pending-ttl 동안 다른 요청의 후보에서 뺀다.
+ * 다른 노드와 겹쳐 예약에 실패하면 그 블록을 빼고 max-attempts 까지 다시 고른다.
+ */
+@Component
+public class BestAvailableSeatAllocator {
+
+    private static final Logger log = LoggerFactory.getLogger(BestAvailableSeatAllocator.class);
+
+    private final ReservationUseCase reservationUseCase;
+    private final int candidateBlocks;
+    private final int maxAttempts;
+
+    private final Cache<Long, SeatOccupancyGrid> grids;
+    private final Cache<Long, Boolean> pendingSeats;
+
+    private final Counter allocations;
+    private final Counter retries;
+    private final Counter exhausted;
+
+    public BestAvailableSeatAllocator(ReservationUseCase reservationUseCase,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${seat.allocation.candidate-blocks:8}") int candidateBlocks,
+                                      @Value("${seat.allocation.max-attempts:3}") int maxAttempts,
+                                      @Value("${seat.allocation.pending-ttl-ms:2000}") long pendingTtlMillis) {
+        this.reservationUseCase = reservationUseCase;
+        this.candidateBlocks = candidateBlocks;
+        this.maxAttempts = maxAttempts;
+        this.grids = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .build();
+        this.pendingSeats = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(pendingTtlMillis))
+                .build();
+
+        this.allocations = Counter.builder("seat.allocation.reserved")
+                .description("Best-available requests that reserved a contiguous block")
+                .register(meterRegistry);
+        this.retries = Counter.builder("seat.allocation.retries")
+                .description("Best-available attempts that lost their block to another request")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("seat.allocation.exhausted").register(meterRegistry);
+    }
+
+    public ReservationUseCase.SeatsReservationResult reserveBestAvailable(ReserveBestSeatsCommand command) {
+        if (command.getCount() <= 0) {
+            throw new IllegalArgumentException("Seat count must be positive");
+        }
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            SeatOccupancyGrid.SeatBlock block = chooseBlock(command);
+            if (block == null) {
+                exhausted.increment();
+                throw new IllegalStateException("No contiguous seats available");
+            }
+
+            List<Long> seatIds = block.getSeatIds();
+            seatIds.forEach(seatId -> pendingSeats.put(seatId, Boolean.TRUE));
+            try {
+                ReservationUseCase.SeatsReservationResult result = reservationUseCase.reserveSeats(
+                        new ReservationUseCase.ReserveSeatsCommand(command.getTokenUuid(), command.getUserId(),
+                                seatIds, block.getSeats().get(0).getPrice()));
+                allocations.increment();
+                return result;
+            } catch (SeatUnavailableException e) {
+                // 다른 요청이 먼저 잡은 블록 (pending 으로 남겨 다음 시도에서 제외)
+                if (attempt == maxAttempts) {
+                    throw e;
+                }
+                retries.increment();
+                log.debug("Best-available block {} taken for schedule {}, retrying ({}/{})",
+                        seatIds, command.getScheduleId(), attempt, maxAttempts);
+            } catch (RuntimeException e) {
+                pendingSeats.invalidateAll(seatIds);
+                throw e;
+            }
+        }
+        throw new IllegalStateException("No contiguous seats available");
+    }
+
+    // 좋은 순으로 상위 candidateBlocks 개 중 무작위 하나
+    private SeatOccupancyGrid.SeatBlock chooseBlock(ReserveBestSeatsCommand command) {
+        List<SeatOccupancyGrid.SeatBlock> blocks = gridOf(command.getScheduleId())
+                .findBlocks(command.getSeatGrade(), command.getCount(), seatId -> pendingSeats.getIfPresent(seatId) != null);
+        if (blocks.isEmpty()) {
+            return null;
+        }
+        return blocks.get(ThreadLocalRandom.current().nextInt(Math.min(candidateBlocks, blocks.size())));
+    }
+
+    // 배치도 캐시가 새 스냅샷을 돌려줄 때만 격자를 다시 만듦
+    private SeatOccupancyGrid gridOf(Long scheduleId) {
+        List<SeatCacheService.SeatLayoutDto> layout = reservationUseCase.getSeatLayout(scheduleId);
+        SeatOccupancyGrid grid = grids.getIfPresent(scheduleId);
+        if (grid == null || !grid.isBuiltFrom(layout)) {
+            grid = new SeatOccupancyGrid(layout);
+            grids.put(scheduleId, grid);
+        }
+        return grid;
+    }
+
+    public static class ReserveBestSeatsCommand {
+        private final String tokenUuid;
+        private final Long userId;
+        private final Long scheduleId;
+        private final String seatGrade;
+        private final int count;
+
+        public ReserveBestSeatsCommand(String tokenUuid, Long userId, Long scheduleId, String seatGrade, int count) {
+            this.tokenUuid = tokenUuid;
+            this.userId = userId;
+            this.scheduleId = scheduleId;
+            this.seatGrade = seatGrade;
+            this.count = count;
+        }
+
+        public String getTokenUuid() { return tokenUuid; }
+        public Long getUserId() { return userId; }
+        public Long getScheduleId() { return scheduleId; }
+        public String getSeatGrade() { return seatGrade; }
+        public int getCount() { return count; }
+    }
+}
@@ -1,109 +1,431 @@
 package kr.hhplus.be.server.application.concert;
 
+import kr.hhplus.be.server.application.queue.AdmissionBudgetController;
+import kr.hhplus.be.server.application.queue.QueueManagementUseCase;
+import kr.hhplus.be.server.application.queue.QueueTokenCache;
+import kr.hhplus.be.server.application.queue.QueueTokenVerifier;
 import kr.hhplus.be.server.domain.concert.Reservation;
 import kr.hhplus.be.server.domain.concert.Seat;
-import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.concert.SeatClaimResult;
+import kr.hhplus.be.server.domain.concert.SeatLocation;
+import kr.hhplus.be.server.domain.concert.SeatUnavailableException;
+import kr.hhplus.be.server.domain.concert.repository.ReservationRepository;
+import kr.hhplus.be.server.domain.concert.repository.SeatClaimRepository;
+import kr.hhplus.be.server.domain.concert.repository.SeatRepository;
+import kr.hhplus.be.server.domain.queue.QueueWatermark;
 import kr.hhplus.be.server.infrastructure.redis.RedisDistributedLock;
 import kr.hhplus.be.server.infrastructure.redis.SeatCacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.Duration;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 public class ReservationUseCase {
 
+    private static final String STRATEGY_LOCK = "lock";
+    private static final String STRATEGY_UPDATE = "update";
+
     private final SeatRepository seatRepository;
     private final ReservationRepository reservationRepository;
-    private final QueueTokenRepository queueTokenRepository;
     private final UserBalanceService userBalanceService;
     private final PaymentService paymentService;
     private final RedisDistributedLock distributedLock;
     private final SeatCacheService seatCacheService;
+    private final SeatLayoutLoader seatLayoutLoader;
+    private final QueueTokenVerifier queueTokenVerifier;
+    private final QueueManagementUseCase queueManagementUseCase;
+    private final AdmissionBudgetController admissionBudgetController;
+    private final SeatClaimRepository seatClaimRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String reservationStrategy;
+    private final int holdMinutes;
+    private final int maxSeatsPerRequest;
 
     public ReservationUseCase(SeatRepository seatRepository,
                             ReservationRepository reservationRepository,
-                            QueueTokenRepository queueTokenRepository,
                             UserBalanceService userBalanceService,
                             PaymentService paymentService,
                             RedisDistributedLock distributedLock,
-                            SeatCacheService seatCacheService) {
+                            SeatCacheService seatCacheService,
+                            SeatLayoutLoader seatLayoutLoader,
+                            QueueTokenVerifier queueTokenVerifier,
+                            QueueManagementUseCase queueManagementUseCase,
+                            AdmissionBudgetController admissionBudgetController,
+                            SeatClaimRepository seatClaimRepository,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${seat.reservation.strategy:claim}") String reservationStrategy,
+                            @Value("${seat.reservation.hold-minutes:5}") int holdMinutes,
+                            @Value("${seat.reservation.max-seats-per-request:4}") int maxSeatsPerRequest) {
         this.seatRepository = seatRepository;
         this.reservationRepository = reservationRepository;
-        this.queueTokenRepository = queueTokenRepository;
         this.userBalanceService = userBalanceService;
         this.paymentService = paymentService;
         this.distributedLock = distributedLock;
         this.seatCacheService = seatCacheService;
+        this.seatLayoutLoader = seatLayoutLoader;
+        this.queueTokenVerifier = queueTokenVerifier;
+        this.queueManagementUseCase = queueManagementUseCase;
+        this.admissionBudgetController = admissionBudgetController;
+        this.seatClaimRepository = seatClaimRepository;
+        this.eventPublisher = eventPublisher;
+        this.reservationStrategy = reservationStrategy;
+        this.holdMinutes = holdMinutes;
+        this.maxSeatsPerRequest = maxSeatsPerRequest;
     }
 
+    /**
+     * 좌석 임시 예약
+     *
+     * claim(기본): Redis Lua 한 번으로 좌석을 선점하고, 이미 선점된 좌석은 대기 없이 즉시 거절한 뒤 조건부 UPDATE 로 확정한다.
+     * update: Redis 없이 조건부 UPDATE 한 문장으로 경합을 판정한다 (패자는 0행 갱신으로 즉시 거절).
+     * lock: 좌석별 분산 락을 잡고 엔티티를 조회하여 확인한다 (경합 좌석의 요청이 락 대기로 직렬화됨).
+     */
     @Transactional
     public ReservationResult reserveSeat(ReserveSeatCommand command) {
-        String lockKey = "seat:reserve:" + command.getSeatId();
+        // 지연/오류율을 입장 예산 조정에 반영
+        return admissionBudgetController.measure(() -> switch (reservationStrategy) {
+            case STRATEGY_LOCK -> reserveWithLock(command);
+            case STRATEGY_UPDATE -> reserveWithUpdate(command);
+            default -> reserveWithClaim(command);
+        });
+    }
 
-        return distributedLock.executeWithLock(lockKey, 3, 10, () -> {
-            // 1. 토큰 검증
-            QueueToken token = queueTokenRepository.findByTokenUuid(command.getTokenUuid())
-                    .orElseThrow(() -> new IllegalArgumentException("Invalid token"));
+    private ReservationResult reserveWithClaim(ReserveSeatCommand command) {
+        // 1. 토큰 검증 (유효하지 않은 토큰이 좌석을 선점하지 않도록 먼저 확인)
+        QueueTokenCache.TokenState tokenState = queueTokenVerifier.requireActive(command.getTokenUuid());
 
-            if (!token.isActive()) {
-                throw new IllegalStateException("Token is not active");
-            }
+        // 2. 좌석 선점 (다른 사용자가 선점 중이면 즉시 거절)
+        SeatClaimResult claim = seatClaimRepository.claim(
+                command.getSeatId(), command.getUserId(), Duration.ofMinutes(holdMinutes));
+        if (!claim.isGranted()) {
+            throw new SeatUnavailableException("Seat is temporarily reserved by another user");
+        }
+
+        // 3. 조건부 UPDATE 로 확정 (커밋되지 않으면 이번에 잡은 선점만 되돌림)
+        return holdClaimed(List.of(command.getSeatId()), List.of(claim), command.getUserId(),
+                () -> holdWithUpdate(command, tokenState));
+    }
 
-            // 2. 캐시에서 임시 예약 상태 확인
-            SeatCacheService.TemporaryReservation tempReservation =
-                seatCacheService.getTemporaryReservation(command.getSeatId());
+    private ReservationResult reserveWithUpdate(ReserveSeatCommand command) {
+        QueueTokenCache.TokenState tokenState = queueTokenVerifier.requireActive(command.getTokenUuid());
+        return holdWithUpdate(command, tokenState);
+    }
 
-            if (tempReservation != null && !tempReservation.getUserId().equals(command.getUserId())) {
-                throw new IllegalStateException("Seat is temporarily reserved by another user");
+    private ReservationResult holdWithUpdate(ReserveSeatCommand command, QueueTokenCache.TokenState tokenState) {
+        // 비어 있거나 만료된 좌석만 갱신 (다른 스케줄 대기열에서 입장한 토큰은 해당 스케줄 좌석만)
+        LocalDateTime now = LocalDateTime.now();
+        Long tokenScheduleId = QueueWatermark.scheduleIdOf(tokenState.getQueueName());
+        boolean fromAvailable = seatRepository.reserveIfAvailable(command.getSeatId(), tokenScheduleId,
+                command.getUserId(), now, now.plusMinutes(holdMinutes)) > 0;
+        if (!fromAvailable) {
+            // 만료 처리 전의 임시 예약 좌석은 넘겨받고 이전 예약을 같은 트랜잭션에서 취소 (잔여 좌석 수는 이미 빠져 있음)
+            if (seatRepository.takeOverExpiredHold(command.getSeatId(), tokenScheduleId, command.getUserId(),
+                    now, now.plusMinutes(holdMinutes)) == 0) {
+                throw new SeatUnavailableException("Seat is not available");
             }
+            reservationRepository.cancelSupersededHolds(List.of(command.getSeatId()), now);
+        }
+
+        // 승자만 응답/캐시 갱신용 값 조회 (엔티티 로딩 없음)
+        SeatLocation location = seatRepository.findLocationById(command.getSeatId())
+                .orElseThrow(() -> new IllegalArgumentException("Seat not found"));
+
+        Reservation reservation = new Reservation(command.getUserId(),
+                seatRepository.getReferenceById(command.getSeatId()), command.getPrice(), holdMinutes);
+        reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new SeatHeldEvent(reservation.getReservationId(), reservation.getExpiresAt()));
+        eventPublisher.publishEvent(new SeatStatusChangedEvent(location.getScheduleId(), command.getSeatId(), false));
+
+        if (fromAvailable) {
+            seatRepository.decreaseAvailableSeats(location.getScheduleId());
+        }
+
+        return new ReservationResult(
+                reservation.getReservationId(),
+                location.getSeatNumber(),
+                reservation.getPrice(),
+                reservation.getExpiresAt()
+        );
+    }
+
+    /**
+     * 선점한 좌석을 확정하고, 트랜잭션이 커밋되지 않으면 이번 요청이 새로 잡은(CLAIMED) 선점을 되돌린다.
+     * 확정 중 예외뿐 아니라 커밋 시점의 롤백(플러시/제약 조건 실패 등)에도 선점이 holdTtl 동안 남지 않도록 트랜잭션 완료 후 해제한다.
+     * 트랜잭션 밖에서 호출되면 확정이 실패한 즉시 해제한다.
+     */
+    private <T> T holdClaimed(List<Long> seatIds, List<SeatClaimResult> claims, Long userId, Supplier<T> hold) {
+        List<Long> claimed = IntStream.range(0, seatIds.size())
+                .filter(i -> claims.get(i) == SeatClaimResult.CLAIMED)
+                .mapToObj(seatIds::get)
+                .toList();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        claimed.forEach(seatId -> releaseClaim(seatId, userId));
+                    }
+                }
+            });
+            return hold.get();
+        }
+
+        try {
+            return hold.get();
+        } catch (RuntimeException e) {
+            claimed.forEach(seatId -> releaseClaim(seatId, userId));
+            throw e;
+        }
+    }
+
+    // 이미 판매된 좌석이면 이후 선점 시도가 DB 를 거치지 않도록 표시, 그 외에는 선점 해제
+    private void releaseClaim(Long seatId, Long userId) {
+        boolean sold = seatRepository.findById(seatId)
+                .map(seat -> seat.getSeatStatus() == Seat.SeatStatus.RESERVED)
+                .orElse(false);
+        if (sold) {
+            seatClaimRepository.markSold(seatId);
+        } else {
+            seatClaimRepository.release(seatId, userId);
+        }
+    }
+
+    private ReservationResult reserveWithLock(ReserveSeatCommand command) {
+        String lockKey = "seat:reserve:" + command.getSeatId();
+
+        return distributedLock.executeWithLock(lockKey, 3, 10, () -> {
+            QueueTokenCache.TokenState tokenState = queueTokenVerifier.requireActive(command.getTokenUuid());
 
-            // 3. 좌석 조회 및 예약 가능성 확인
             Seat seat = seatRepository.findById(command.getSeatId())
                     .orElseThrow(() -> new IllegalArgumentException("Seat not found"));
+            return holdWithEntity(seat, command, tokenState);
+        });
+    }
 
-            if (!seat.isAvailable()) {
-                throw new IllegalStateException("Seat is not available");
-            }
+    private ReservationResult holdWithEntity(Seat seat, ReserveSeatCommand command, QueueTokenCache.TokenState tokenState) {
+        // 좌석 예약 가능성 확인 (락 안에서 조회한 DB 상태 기준)
+        if (!seat.isAvailable()) {
+            throw new SeatUnavailableException("Seat is not available");
+        }
 
-            // 4. 좌석 임시 예약 (5분)
-            seat.reserve(command.getUserId(), 5);
-            seatRepository.save(seat);
+        // 다른 스케줄 대기열에서 입장한 토큰으로는 예약 불가
+        if (!tokenState.allowsSchedule(seat.getSchedule().getScheduleId())) {
+            throw new IllegalStateException("Token is not valid for this schedule");
+        }
 
-            // 5. 좌석 배치도 캐시 무효화 (예약 상태 변경으로 인한 캐시 갱신)
-            seatCacheService.invalidateSeatLayout(seat.getSchedule().getScheduleId());
+        // 좌석 임시 예약 (만료 처리 전의 임시 예약 좌석이면 이전 예약을 취소하고, 잔여 좌석 수는 차감하지 않음)
+        boolean takenOver = seat.getSeatStatus() == Seat.SeatStatus.TEMPORARY_RESERVED;
+        seat.reserve(command.getUserId(), holdMinutes);
+        seatRepository.save(seat);
+        if (takenOver) {
+            reservationRepository.cancelSupersededHolds(List.of(seat.getSeatId()), LocalDateTime.now());
+        }
 
-            // 7. 예약 정보 저장
-            Reservation reservation = new Reservation(command.getUserId(), seat, command.getPrice());
-            reservationRepository.save(reservation);
+        // 예약 정보 저장
+        Reservation reservation = new Reservation(command.getUserId(), seat, command.getPrice(), holdMinutes);
+        reservationRepository.save(reservation);
+        eventPublisher.publishEvent(new SeatHeldEvent(reservation.getReservationId(), reservation.getExpiresAt()));
+        eventPublisher.publishEvent(new SeatStatusChangedEvent(seat.getSchedule().getScheduleId(), seat.getSeatId(), false));
 
-            // 8. 좌석 예약 현황 업데이트
-            seat.getSchedule().decreaseAvailableSeats();
+        // 좌석 예약 현황 업데이트 (스케줄 엔티티를 고치지 않고 원자적 UPDATE 로 차감)
+        if (!takenOver) {
+            seatRepository.decreaseAvailableSeats(seat.getSchedule().getScheduleId());
+        }
 
-            return new ReservationResult(
-                    reservation.getReservationId(),
-                    seat.getSeatNumber(),
-                    reservation.getPrice(),
-                    reservation.getExpiresAt()
-            );
+        return new ReservationResult(
+                reservation.getReservationId(),
+                seat.getSeatNumber(),
+                reservation.getPrice(),
+                reservation.getExpiresAt()
+        );
+    }
+
+    /**
+     * 여러 좌석 일괄 임시 예약 (전부 성공하거나 전부 실패)
+     *
+     * 좌석은 seatId 오름차순으로 처리한다. claim 은 Lua 한 번으로 전체를 선점하고, lock 은 이 순서로 좌석 락을 잡아 요청 간 교착을 피한다.
+     * 확정은 조건부 UPDATE 한 문장과 예약 일괄 저장으로 하며, 한 좌석이라도 실패하면 트랜잭션 롤백과 함께 이번에 잡은 선점도 모두 되돌린다.
+     * 배치도 캐시는 커밋 이후 한 번에 갱신한다.
+     */
+    @Transactional
+    public SeatsReservationResult reserveSeats(ReserveSeatsCommand command) {
+        List<Long> seatIds = sortedSeatIds(command.getSeatIds());
+
+        return admissionBudgetController.measure(() -> switch (reservationStrategy) {
+            case STRATEGY_LOCK -> reserveAllWithLock(command, seatIds);
+            case STRATEGY_UPDATE -> holdAllWithUpdate(command, seatIds,
+                    queueTokenVerifier.requireActive(command.getTokenUuid()));
+            default -> reserveAllWithClaim(command, seatIds);
         });
     }
 
+    private List<Long> sortedSeatIds(List<Long> seatIds) {
+        if (seatIds == null || seatIds.isEmpty()) {
+            throw new IllegalArgumentException("Seat ids are required");
+        }
+        List<Long> sorted = seatIds.stream().distinct().sorted().toList();
+        if (sorted.size() != seatIds.size()) {
+            throw new IllegalArgumentException("Duplicate seat ids");
+        }
+        if (sorted.size() > maxSeatsPerRequest) {
+            throw new IllegalArgumentException("Cannot reserve more than " + maxSeatsPerRequest + " seats at once");
+        }
+        return sorted;
+    }
+
+    private SeatsReservationResult reserveAllWithClaim(ReserveSeatsCommand command, List<Long> seatIds) {
+        QueueTokenCache.TokenState tokenState = queueTokenVerifier.requireActive(command.getTokenUuid());
+
+        // 하나라도 다른 사용자가 선점 중이면 아무것도 선점하지 않고 즉시 거절
+        List<SeatClaimResult> claims = seatClaimRepository.claimAll(
+                seatIds, command.getUserId(), Duration.ofMinutes(holdMinutes));
+        if (!claims.stream().allMatch(SeatClaimResult::isGranted)) {
+            throw new SeatUnavailableException("Seat is temporarily reserved by another user");
+        }
+
+        return holdClaimed(seatIds, claims, command.getUserId(),
+                () -> holdAllWithUpdate(command, seatIds, tokenState));
+    }
+
+    private SeatsReservationResult holdAllWithUpdate(ReserveSeatsCommand command, List<Long> seatIds,
+                                                     QueueTokenCache.TokenState tokenState) {
+        // 좌석 위치를 한 번에 조회하여 존재 여부와 스케줄 확인
+        List<SeatLocation> locations = seatRepository.findLocationsByIds(seatIds);
+        if (locations.size() != seatIds.size()) {
+            throw new IllegalArgumentException("Seat not found");
+        }
+        Long scheduleId = requireSingleSchedule(locations.stream().map(SeatLocation::getScheduleId).toList(), tokenState);
+
+        // 판매 가능 좌석을 먼저 잡고 나머지는 만료 처리 전의 임시 예약 좌석에서 넘겨받음
+        // 일부 좌석만 갱신되면 거절 (갱신된 좌석은 트랜잭션 롤백으로 되돌아감)
+        LocalDateTime now = LocalDateTime.now();
+        int fromAvailable = seatRepository.reserveAllIfAvailable(seatIds, scheduleId, command.getUserId(),
+                now, now.plusMinutes(holdMinutes));
+        int takenOver = fromAvailable < seatIds.size()
+                ? seatRepository.takeOverExpiredHolds(seatIds, scheduleId, command.getUserId(), now, now.plusMinutes(holdMinutes))
+                : 0;
+        if (fromAvailable + takenOver != seatIds.size()) {
+            throw new SeatUnavailableException("Seat is not available");
+        }
+        if (takenOver > 0) {
+            reservationRepository.cancelSupersededHolds(seatIds, now);
+        }
+
+        List<Reservation> reservations = reservationRepository.saveAll(seatIds.stream()
+                .map(seatId -> new Reservation(command.getUserId(), seatRepository.getReferenceById(seatId),
+                        command.getPrice(), holdMinutes))
+                .toList());
+        // 넘겨받은 좌석은 이미 잔여 좌석 수에서 빠져 있으므로 판매 가능 상태였던 좌석만 차감
+        if (fromAvailable > 0) {
+            seatRepository.decreaseAvailableSeatsBy(scheduleId, fromAvailable);
+        }
+
+        Map<Long, Integer> seatNumbers = locations.stream()
+                .collect(Collectors.toMap(SeatLocation::getSeatId, SeatLocation::getSeatNumber));
+        return publishHolds(scheduleId, seatIds, reservations, seatNumbers);
+    }
+
+    private SeatsReservationResult reserveAllWithLock(ReserveSeatsCommand command, List<Long> seatIds) {
+        return withSeatLocks(seatIds, 0, () -> {
+            QueueTokenCache.TokenState tokenState = queueTokenVerifier.requireActive(command.getTokenUuid());
+
+            List<Seat> seats = seatRepository.findAllById(seatIds).stream()
+                    .sorted(Comparator.comparing(Seat::getSeatId))
+                    .toList();
+            if (seats.size() != seatIds.size()) {
+                throw new IllegalArgumentException("Seat not found");
+            }
+            Long scheduleId = requireSingleSchedule(
+                    seats.stream().map(seat -> seat.getSchedule().getScheduleId()).toList(), tokenState);
+            if (!seats.stream().allMatch(Seat::isAvailable)) {
+                throw new SeatUnavailableException("Seat is not available");
+            }
+
+            // 만료 처리 전의 임시 예약 좌석은 이전 예약을 취소하고 잔여 좌석 수에서 차감하지 않음
+            List<Long> takenOverSeatIds = seats.stream()
+                    .filter(seat -> seat.getSeatStatus() == Seat.SeatStatus.TEMPORARY_RESERVED)
+                    .map(Seat::getSeatId)
+                    .toList();
+
+            // 락 해제 전에 반영되도록 좌석은 즉시 flush
+            seats.forEach(seat -> seat.reserve(command.getUserId(), holdMinutes));
+            seatRepository.saveAll(seats);
+            if (!takenOverSeatIds.isEmpty()) {
+                reservationRepository.cancelSupersededHolds(takenOverSeatIds, LocalDateTime.now());
+            }
+
+            List<Reservation> reservations = reservationRepository.saveAll(seats.stream()
+                    .map(seat -> new Reservation(command.getUserId(), seat, command.getPrice(), holdMinutes))
+                    .toList());
+            int fromAvailable = seats.size() - takenOverSeatIds.size();
+            if (fromAvailable > 0) {
+                seatRepository.decreaseAvailableSeatsBy(scheduleId, fromAvailable);
+            }
+
+            Map<Long, Integer> seatNumbers = seats.stream()
+                    .collect(Collectors.toMap(Seat::getSeatId, Seat::getSeatNumber));
+            return publishHolds(scheduleId, seatIds, reservations, seatNumbers);
+        });
+    }
+
+    // 앞 좌석의 락을 잡은 채로 다음 좌석 락을 잡음 (모든 요청이 같은 순서로 잡으므로 교착 없음)
+    private <T> T withSeatLocks(List<Long> sortedSeatIds, int index, Supplier<T> action) {
+        if (index == sortedSeatIds.size()) {
+            return action.get();
+        }
+        return distributedLock.executeWithLock("seat:reserve:" + sortedSeatIds.get(index), 3, 10,
+                () -> withSeatLocks(sortedSeatIds, index + 1, action));
+    }
+
+    private Long requireSingleSchedule(List<Long> scheduleIds, QueueTokenCache.TokenState tokenState) {
+        Long scheduleId = scheduleIds.get(0);
+        if (scheduleIds.stream().anyMatch(id -> !id.equals(scheduleId))) {
+            throw new IllegalArgumentException("Seats must belong to the same schedule");
+        }
+        if (!tokenState.allowsSchedule(scheduleId)) {
+            throw new IllegalStateException("Token is not valid for this schedule");
+        }
+        return scheduleId;
+    }
+
+    // 예약마다 만료 등록, 배치도 캐시는 한 번에 갱신 (커밋 이후)
+    private SeatsReservationResult publishHolds(Long scheduleId, List<Long> seatIds, List<Reservation> reservations,
+                                                Map<Long, Integer> seatNumbers) {
+        reservations.forEach(reservation -> eventPublisher.publishEvent(
+                new SeatHeldEvent(reservation.getReservationId(), reservation.getExpiresAt())));
+        eventPublisher.publishEvent(new SeatStatusChangedEvent(scheduleId, seatIds, false));
+
+        List<ReservationResult> results = reservations.stream()
+                .map(reservation -> new ReservationResult(
+                        reservation.getReservationId(),
+                        seatNumbers.get(reservation.getSeat().getSeatId()),
+                        reservation.getPrice(),
+                        reservation.getExpiresAt()))
+                .toList();
+        return new SeatsReservationResult(scheduleId, results);
+    }
+
     @Transactional
     public PaymentResult processPayment(ProcessPaymentCommand command) {
         String lockKey = "payment:" + command.getReservationId();
 
-        return distributedLock.executeWithLock(lockKey, 3, 10, () -> {
-            // 1. 토큰 검증
-            QueueToken token = queueTokenRepository.findByTokenUuid(command.getTokenUuid())
-                    .orElseThrow(() -> new IllegalArgumentException("Invalid token"));
-
-            if (!token.isActive()) {
-                throw new IllegalStateException("Token is not active");
-            }
+        return admissionBudgetController.measure(() -> distributedLock.executeWithLock(lockKey, 3, 10, () -> {
+            // 1. 토큰 검증 (서명 토큰은 저장소 조회 없이 검증)
+            QueueTokenCache.TokenState tokenState = queueTokenVerifier.requireActive(command.getTokenUuid());
 
             // 2. 예약 조회 및 검증
             Reservation reservation = reservationRepository.findById(command.getReservationId())
@@ -135,15 +457,15 @@ public class ReservationUseCase {
             reservation.confirm();
             reservation.getSeat().confirmReservation();
 
-            // 6. 좌석 배치도 캐시 무효화 (결제 완료로 좌석 상태 변경)
-            seatCacheService.invalidateSeatLayout(reservation.getSeat().getSchedule().getScheduleId());
-
-            // 8. 토큰 완료 처리
-            token.complete();
+            // 6. 좌석 배치도 캐시에서 해당 좌석 상태만 갱신 (커밋 이후)
+            eventPublisher.publishEvent(new SeatStatusChangedEvent(
+                    reservation.getSeat().getSchedule().getScheduleId(), reservation.getSeat().getSeatId(), false));
 
             reservationRepository.save(reservation);
             seatRepository.save(reservation.getSeat());
-            queueTokenRepository.save(token);
+
+            // 8. 토큰 완료 처리 및 폐기 (빈 슬롯은 커밋 직후 다음 대기자에게 즉시 배정됨)
+            queueManagementUseCase.completeToken(tokenState.getTokenUuid());
 
             return new PaymentResult(
                     paymentInfo.getPaymentId(),
@@ -151,7 +473,7 @@ public class ReservationUseCase {
                     reservation.getPrice(),
                     LocalDateTime.now()
             );
-        });
+        }));
     }
 
     @Transactional(readOnly = true)
@@ -161,10 +483,10 @@ public class ReservationUseCase {
 
     @Transactional(readOnly = true)
     public List<AvailableSeatInfo> getAvailableSeats(Long scheduleId) {
-        return seatRepository.findAvailableSeatsByScheduleId(scheduleId);
+        return seatRepository.findAvailableSeatsByScheduleIdWithPrice(scheduleId);
     }
 
-    @Transactional(readOnly = true)
+    // 적재를 기다리는 호출이 커넥션을 점유하지 않도록 트랜잭션 없이 조회
     public List<SeatCacheService.SeatLayoutDto> getSeatLayout(Long scheduleId) {
         // 캐시에서 먼저 조회 시도
         List<SeatCacheService.SeatLayoutDto> cachedLayout = seatCacheService.getCachedSeatLayout(scheduleId);
@@ -172,11 +494,8 @@ public class ReservationUseCase {
             return cachedLayout;
         }
 
-        // 캐시 미스인 경우 DB에서 조회 후 캐시 저장
-        List<SeatCacheService.SeatLayoutDto> seatLayout = seatRepository.findSeatLayoutByScheduleId(scheduleId);
-        seatCacheService.cacheSeatLayout(scheduleId, seatLayout);
-
-        return seatLayout;
+        // 캐시 미스인 경우 스케줄별로 적재를 하나로 합쳐 DB 조회 후 캐시 저장
+        return seatLayoutLoader.load(scheduleId);
     }
 
     // Command 클래스들
@@ -199,6 +518,25 @@ public class ReservationUseCase {
         public BigDecimal getPrice() { return price; }
     }
 
+    public static class ReserveSeatsCommand {
+        private final String tokenUuid;
+        private final Long userId;
+        private final List<Long> seatIds;
+        private final BigDecimal price; // 좌석당 가격
+
+        public ReserveSeatsCommand(String tokenUuid, Long userId, List<Long> seatIds, BigDecimal price) {
+            this.tokenUuid = tokenUuid;
+            this.userId = userId;
+            this.seatIds = seatIds;
+            this.price = price;
+        }
+
+        public String getTokenUuid() { return tokenUuid; }
+        public Long getUserId() { return userId; }
+        public List<Long> getSeatIds() { return seatIds; }
+        public BigDecimal getPrice() { return price; }
+    }
+
     public static class ProcessPaymentCommand {
         private final String tokenUuid;
         private final Long userId;
@@ -235,6 +573,24 @@ public class ReservationUseCase {
         public LocalDateTime getExpiresAt() { return expiresAt; }
     }
 
+    public static class SeatsReservationResult {
+        private final Long scheduleId;
+        private final List<ReservationResult> reservations;
+        private final BigDecimal totalPrice;
+
+        public SeatsReservationResult(Long scheduleId, List<ReservationResult> reservations) {
+            this.scheduleId = scheduleId;
+            this.reservations = reservations;
+            this.totalPrice = reservations.stream()
+                    .map(ReservationResult::getPrice)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+
+        public Long getScheduleId() { return scheduleId; }
+        public List<ReservationResult> getReservations() { return reservations; }
+        public BigDecimal getTotalPrice() { return totalPrice; }
+    }
+
     public static class PaymentResult {
         private final String paymentId;
         private final Long reservationId;
@@ -254,6 +610,41 @@ public class ReservationUseCase {
         public LocalDateTime getPaidAt() { return paidAt; }
     }
 
+    // Event 클래스들
+    public static class SeatHeldEvent {
+        private final Long reservationId;
+        private final LocalDateTime expiresAt;
+
+        public SeatHeldEvent(Long reservationId, LocalDateTime expiresAt) {
+            this.reservationId = reservationId;
+            this.expiresAt = expiresAt;
+        }
+
+        public Long getReservationId() { return reservationId; }
+        public LocalDateTime getExpiresAt() { return expiresAt; }
+    }
+
+    public static class SeatStatusChangedEvent {
+        private final Long scheduleId;
+        private final List<Long> seatIds;
+        private final boolean available;
+
+        public SeatStatusChangedEvent(Long scheduleId, Long seatId, boolean available) {
+            this(scheduleId, List.of(seatId), available);
+        }
+
+        // 같은 스케줄 좌석 여러 개 (배치도 캐시는 한 번에 갱신)
+        public SeatStatusChangedEvent(Long scheduleId, List<Long> seatIds, boolean available) {
+            this.scheduleId = scheduleId;
+            this.seatIds = List.copyOf(seatIds);
+            this.available = available;
+        }
+
+        public Long getScheduleId() { return scheduleId; }
+        public List<Long> getSeatIds() { return seatIds; }
+        public boolean isAvailable() { return available; }
+    }
+
     public static class AvailableScheduleInfo {
         private final Long scheduleId;
         private final String concertTitle;
@@ -290,24 +681,6 @@ public class ReservationUseCase {
     }
 }
 
-// Repository 인터페이스들 (Domain Layer)
-interface SeatRepository {
-    Seat findById(Long seatId);
-    void save(Seat seat);
-    List<ReservationUseCase.AvailableScheduleInfo> findAvailableSchedules();
-    List<ReservationUseCase.AvailableSeatInfo> findAvailableSeatsByScheduleId(Long scheduleId);
-}
-
-interface ReservationRepository {
-    void save(Reservation reservation);
-    Reservation findById(Long reservationId);
-}
-
-interface QueueTokenRepository {
-    java.util.Optional<QueueToken> findByTokenUuid(String tokenUuid);
-    void save(QueueToken token);
-}
-
 // Service 인터페이스들 (Domain Layer)
 interface UserBalanceService {
     void deductBalance(Long userId, BigDecimal amount);
@@ -0,0 +1,144 @@
+package kr.hhplus.be.server.application.concert;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.application.scheduling.HashedTimerWheel;
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import kr.hhplus.be.server.domain.concert.ReservationHold;
+import kr.hhplus.be.server.domain.concert.repository.ReservationRepository;
+import kr.hhplus.be.server.infrastructure.redis.SeatCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 임시 예약 만료 처리기
+ *
+ * 임시 예약이 커밋되면 만료 시각을 해시 타이머 바퀴에 등록하고, tick 마다 만료된 예약을 batch-size 단위로 취소하여 좌석과 잔여 좌석 수를 되돌린다.
+ * 바퀴는 노드 메모리에만 있으므로 reservations(reservation_status, expires_at) 인덱스를 영속 만료 인덱스로 삼아,
+ * 리더 노드가 recovery-interval 마다 만료 후 recovery-grace 가 지나도록 남아 있는 임시 예약만 적재한다 (재시작/다른 노드 종료로 빠진 예약 복구).
+ * 살아 있는 노드의 바퀴가 제시간에 처리할 예약은 건드리지 않으며, 겹치더라도 만료 처리는 좌석 행을 잠가 한 번만 반영된다.
+ */
+@Component
+public class SeatHoldExpiryScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(SeatHoldExpiryScheduler.class);
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final ReservationRepository reservationRepository;
+    private final SeatCacheService seatCacheService;
+    private final SchedulerLeaderElection leaderElection;
+    private final HashedTimerWheel<Long> wheel;
+    private final int batchSize;
+    private final long recoveryGraceMillis;
+    private final int recoveryLimit;
+
+    private final Counter expiredReservations;
+    private final Counter failures;
+
+    public SeatHoldExpiryScheduler(ReservationRepository reservationRepository,
+                                   SeatCacheService seatCacheService,
+                                   SchedulerLeaderElection leaderElection,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${seat.expiry.tick-ms:100}") long tickMillis,
+                                   @Value("${seat.expiry.wheel-size:512}") int wheelSize,
+                                   @Value("${seat.expiry.batch-size:500}") int batchSize,
+                                   @Value("${seat.expiry.recovery-grace-ms:5000}") long recoveryGraceMillis,
+                                   @Value("${seat.expiry.recovery-limit:10000}") int recoveryLimit) {
+        this.reservationRepository = reservationRepository;
+        this.seatCacheService = seatCacheService;
+        this.leaderElection = leaderElection;
+        this.wheel = new HashedTimerWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        this.batchSize = batchSize;
+        this.recoveryGraceMillis = recoveryGraceMillis;
+        this.recoveryLimit = recoveryLimit;
+
+        this.expiredReservations = Counter.builder("seat.expiry.reservations")
+                .description("Seats returned to sale by temporary reservation expiry")
+                .register(meterRegistry);
+        this.failures = Counter.builder("seat.expiry.failures").register(meterRegistry);
+        Gauge.builder("seat.expiry.pending", wheel, HashedTimerWheel::size)
+                .description("Temporary reservations waiting in the expiry timer wheel")
+                .register(meterRegistry);
+    }
+
+    // 임시 예약 커밋 이후 등록 (롤백된 예약은 등록하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatHeld(ReservationUseCase.SeatHeldEvent event) {
+        schedule(event.getReservationId(), event.getExpiresAt());
+    }
+
+    public void schedule(Long reservationId, LocalDateTime expiresAt) {
+        wheel.schedule(reservationId, toEpochMillis(expiresAt));
+    }
+
+    @Scheduled(fixedRateString = "${seat.expiry.tick-ms:100}")
+    public void tick() {
+        expireDue(System.currentTimeMillis());
+    }
+
+    /**
+     * 영속 만료 인덱스에서 만료 후 recovery-grace 가 지나도록 처리되지 않은 임시 예약을 바퀴에 적재 (다음 tick 에 처리)
+     */
+    @Scheduled(fixedDelayString = "${seat.expiry.recovery-interval-ms:5000}")
+    public void recover() {
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+        try {
+            List<ReservationHold> holds = reservationRepository.findTemporaryHoldsDueBefore(
+                    LocalDateTime.now().minus(Duration.ofMillis(recoveryGraceMillis)), recoveryLimit);
+            holds.forEach(hold -> schedule(hold.getReservationId(), hold.getExpiresAt()));
+        } catch (RuntimeException e) {
+            logger.warn("임시 예약 만료 복구 실패", e);
+        }
+    }
+
+    /**
+     * @return 이번 tick 에 취소된 임시 예약 수
+     */
+    int expireDue(long nowMillis) {
+        List<Long> due = wheel.advance(nowMillis);
+        int expired = 0;
+        for (int from = 0; from < due.size(); from += batchSize) {
+            expired += expireBatch(due.subList(from, Math.min(from + batchSize, due.size())), nowMillis);
+        }
+        return expired;
+    }
+
+    private int expireBatch(List<Long> reservationIds, long nowMillis) {
+        try {
+            List<ReservationHold> expired = reservationRepository.expireTemporaryReservations(
+                    reservationIds, toDateTime(nowMillis));
+            // 배치도 캐시에서 되돌린 좌석의 상태만 갱신 (만료 처리는 이미 커밋됨)
+            expired.forEach(hold -> seatCacheService.updateSeatStatus(hold.getScheduleId(), hold.getSeatId(), true));
+            expiredReservations.increment(expired.size());
+            return expired.size();
+        } catch (RuntimeException e) {
+            // 다음 시도는 잠시 뒤로 미룸 (실패한 묶음 전체 재등록)
+            failures.increment();
+            logger.warn("임시 예약 만료 처리 실패: count={}", reservationIds.size(), e);
+            reservationIds.forEach(id -> wheel.schedule(id, nowMillis + RETRY_DELAY_MILLIS));
+            return 0;
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
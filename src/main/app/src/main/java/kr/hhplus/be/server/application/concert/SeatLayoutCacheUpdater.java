@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.application.concert;
+
+import kr.hhplus.be.server.infrastructure.redis.SeatCacheService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좌석 상태 변경을 배치도 캐시에 반영
+ *
+ * 커밋 이후에만 반영하므로 롤백된 예약/결제가 캐시에 남지 않는다.
+ */
+@Component
+public class SeatLayoutCacheUpdater {
+
+    private final SeatCacheService seatCacheService;
+
+    public SeatLayoutCacheUpdater(SeatCacheService seatCacheService) {
+        this.seatCacheService = seatCacheService;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSeatStatusChanged(ReservationUseCase.SeatStatusChangedEvent event) {
+        seatCacheService.updateSeatStatus(event.getScheduleId(), event.getSeatIds(), event.isAvailable());
+    }
+}
@@ -0,0 +1,164 @@
+package kr.hhplus.be.server.application.concert;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.domain.concert.Seat;
+import kr.hhplus.be.server.domain.concert.repository.SeatRepository;
+import kr.hhplus.be.server.infrastructure.redis.RedisDistributedLock;
+import kr.hhplus.be.server.infrastructure.redis.SeatCacheService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 좌석 배치도 캐시 미스 적재기
+ *
+ * 배치도 키가 만료/무효화된 순간 몰린 조회가 모두 DB 로 가지 않도록 적재를 합친다.
+ * 노드 안에서는 스케줄마다 적재를 하나만 실행하고 나머지 호출은 같은 결과를 기다리거나, 직전에 적재한 배치도가 있으면 그것을 바로 받는다.
+ * 노드 사이에서는 짧은 분산 락을 잡은 노드만 DB 를 조회하고, 락을 기다린 노드는 그 사이 채워진 Redis 배치도를 읽는다.
+ * 락을 얻지 못하면(대기 초과, Redis 장애) 조회를 실패시키지 않고 직접 DB 에서 적재한다.
+ */
+@Component
+public class SeatLayoutLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatLayoutLoader.class);
+    private static final String LOAD_LOCK_PREFIX = "seat:layout:load:";
+    private static final String DEFAULT_SEAT_GRADE = "R";
+    private static final BigDecimal DEFAULT_SEAT_PRICE = new BigDecimal("50000");
+    private static final int LAYOUT_COLUMNS = 10;
+
+    private final SeatRepository seatRepository;
+    private final SeatCacheService seatCacheService;
+    private final RedisDistributedLock distributedLock;
+    private final long lockWaitSeconds;
+    private final long lockLeaseSeconds;
+
+    private final ConcurrentMap<Long, CompletableFuture<List<SeatCacheService.SeatLayoutDto>>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<Long, List<SeatCacheService.SeatLayoutDto>> staleLayouts;
+
+    private final Counter databaseLoads;
+    private final Counter coalescedLoads;
+    private final Counter staleServed;
+
+    public SeatLayoutLoader(SeatRepository seatRepository,
+                            SeatCacheService seatCacheService,
+                            RedisDistributedLock distributedLock,
+                            MeterRegistry meterRegistry,
+                            @Value("${seat.layout.load.lock-wait-seconds:1}") long lockWaitSeconds,
+                            @Value("${seat.layout.load.lock-lease-seconds:5}") long lockLeaseSeconds,
+                            @Value("${seat.layout.load.stale-ttl-ms:5000}") long staleTtlMillis) {
+        this.seatRepository = seatRepository;
+        this.seatCacheService = seatCacheService;
+        this.distributedLock = distributedLock;
+        this.lockWaitSeconds = lockWaitSeconds;
+        this.lockLeaseSeconds = lockLeaseSeconds;
+        this.staleLayouts = Caffeine.newBuilder()
+                .maximumSize(1000)
+                .expireAfterWrite(Duration.ofMillis(staleTtlMillis))
+                .build();
+
+        this.databaseLoads = Counter.builder("seat.layout.load.database")
+                .description("Seat layouts loaded from the database on a cache miss")
+                .register(meterRegistry);
+        this.coalescedLoads = Counter.builder("seat.layout.load.coalesced")
+                .description("Cache misses that waited on another caller's load")
+                .register(meterRegistry);
+        this.staleServed = Counter.builder("seat.layout.load.stale")
+                .description("Cache misses served the previous layout while a load was running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 미스 시 배치도 적재 (같은 스케줄의 동시 호출은 적재 한 번을 공유)
+     */
+    public List<SeatCacheService.SeatLayoutDto> load(Long scheduleId) {
+        CompletableFuture<List<SeatCacheService.SeatLayoutDto>> mine = new CompletableFuture<>();
+        CompletableFuture<List<SeatCacheService.SeatLayoutDto>> running = inFlight.putIfAbsent(scheduleId, mine);
+        if (running != null) {
+            return awaitOrStale(scheduleId, running);
+        }
+
+        try {
+            List<SeatCacheService.SeatLayoutDto> layout = loadAcrossNodes(scheduleId);
+            staleLayouts.put(scheduleId, layout);
+            mine.complete(layout);
+            return layout;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(scheduleId, mine);
+        }
+    }
+
+    private List<SeatCacheService.SeatLayoutDto> awaitOrStale(Long scheduleId,
+                                                              CompletableFuture<List<SeatCacheService.SeatLayoutDto>> running) {
+        List<SeatCacheService.SeatLayoutDto> stale = staleLayouts.getIfPresent(scheduleId);
+        if (stale != null) {
+            staleServed.increment();
+            return stale;
+        }
+
+        coalescedLoads.increment();
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private List<SeatCacheService.SeatLayoutDto> loadAcrossNodes(Long scheduleId) {
+        AtomicBoolean acquired = new AtomicBoolean(false);
+        try {
+            return distributedLock.executeWithLock(LOAD_LOCK_PREFIX + scheduleId, lockWaitSeconds, lockLeaseSeconds, () -> {
+                acquired.set(true);
+                // 락을 기다리는 동안 다른 노드가 채웠으면 그대로 사용
+                List<SeatCacheService.SeatLayoutDto> cached = seatCacheService.getCachedSeatLayout(scheduleId);
+                return cached != null ? cached : loadFromDatabase(scheduleId);
+            });
+        } catch (RuntimeException e) {
+            if (acquired.get()) {
+                throw e;
+            }
+            log.warn("Seat layout load lock unavailable for schedule: {}, loading directly", scheduleId, e);
+            return loadFromDatabase(scheduleId);
+        }
+    }
+
+    // 조회 도중 좌석 상태가 바뀌었으면 (버전 불일치) 캐시에 저장하지 않음
+    private List<SeatCacheService.SeatLayoutDto> loadFromDatabase(Long scheduleId) {
+        databaseLoads.increment();
+        long version = seatCacheService.getSeatLayoutVersion(scheduleId);
+        List<SeatCacheService.SeatLayoutDto> layout = seatRepository.findByScheduleId(scheduleId).stream()
+                .map(SeatLayoutLoader::toLayout)
+                .sorted(Comparator.comparing(SeatCacheService.SeatLayoutDto::getSeatNumber))
+                .toList();
+        seatCacheService.cacheSeatLayout(scheduleId, layout, version);
+        return layout;
+    }
+
+    // 좌석 등급/가격 정보가 없으므로 단일 등급, 행당 LAYOUT_COLUMNS 석 배치로 표현
+    private static SeatCacheService.SeatLayoutDto toLayout(Seat seat) {
+        int index = seat.getSeatNumber() - 1;
+        boolean available = seat.getSeatStatus() == Seat.SeatStatus.AVAILABLE
+                || (seat.getSeatStatus() == Seat.SeatStatus.TEMPORARY_RESERVED && seat.isExpired());
+        return new SeatCacheService.SeatLayoutDto(seat.getSeatId(), seat.getSeatNumber(), DEFAULT_SEAT_GRADE,
+                DEFAULT_SEAT_PRICE, index / LAYOUT_COLUMNS + 1, index % LAYOUT_COLUMNS + 1, available);
+    }
+}
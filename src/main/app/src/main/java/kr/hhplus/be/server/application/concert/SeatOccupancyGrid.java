@@ -0,0 +1,147 @@
+package kr.hhplus.be.server.application.concert;
+
+import kr.hhplus.be.server.infrastructure.redis.SeatCacheService;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongPredicate;
+
+/**
+ * 스케줄 좌석 배치도의 등급별/행별 점유 현황 (행마다 빈 열을 BitSet 으로 보관)
+ *
+ * 배치도 스냅샷 하나로 만든 뒤 바꾸지 않으며, 배치도가 바뀌면 새로 만든다.
+ */
+final class SeatOccupancyGrid {
+
+    // 앞 행이 항상 우선이고 (행 길이와 무관), 같은 행에서는 가운데에 가까울수록 우선
+    private static final Comparator<SeatBlock> BEST_FIRST = Comparator.comparingInt(SeatBlock::getRowNumber)
+            .thenComparingDouble(SeatBlock::getDistance);
+
+    private final List<SeatCacheService.SeatLayoutDto> source;
+    private final Map<String, TreeMap<Integer, Row>> rowsByGrade = new HashMap<>();
+
+    SeatOccupancyGrid(List<SeatCacheService.SeatLayoutDto> layout) {
+        this.source = layout;
+
+        Map<String, TreeMap<Integer, List<SeatCacheService.SeatLayoutDto>>> seatsByRow = new HashMap<>();
+        for (SeatCacheService.SeatLayoutDto seat : layout) {
+            seatsByRow.computeIfAbsent(seat.getSeatGrade(), grade -> new TreeMap<>())
+                    .computeIfAbsent(seat.getRowNumber(), row -> new ArrayList<>())
+                    .add(seat);
+        }
+        seatsByRow.forEach((grade, rows) -> {
+            TreeMap<Integer, Row> gradeRows = new TreeMap<>();
+            rows.forEach((rowNumber, seats) -> gradeRows.put(rowNumber, new Row(rowNumber, seats)));
+            rowsByGrade.put(grade, gradeRows);
+        });
+    }
+
+    // 같은 배치도 스냅샷으로 만든 격자인지 (배치도 캐시는 상태가 바뀔 때마다 새 목록으로 교체됨)
+    boolean isBuiltFrom(List<SeatCacheService.SeatLayoutDto> layout) {
+        return source == layout;
+    }
+
+    /**
+     * 등급 grade 에서 count 석이 연속으로 비어 있는 블록 후보 (좋은 순: 앞 행, 행 가운데에 가까운 순)
+     * 빈 구간마다 가운데에 가장 가까운 블록부터 좌우로 겹치지 않게 잘라 후보로 삼는다.
+     *
+     * @param excluded 비어 있어도 후보에서 뺄 좌석 (다른 요청이 시도 중인 좌석)
+     */
+    List<SeatBlock> findBlocks(String grade, int count, LongPredicate excluded) {
+        TreeMap<Integer, Row> rows = rowsByGrade.get(grade);
+        if (rows == null || count <= 0) {
+            return List.of();
+        }
+
+        List<SeatBlock> blocks = new ArrayList<>();
+        for (Row row : rows.values()) {
+            BitSet free = row.freeColumns(excluded);
+            for (int start = free.nextSetBit(0); start >= 0; start = free.nextSetBit(start)) {
+                int end = free.nextClearBit(start); // [start, end) 가 하나의 빈 구간
+                if (end - start >= count) {
+                    addBlocks(row, start, end, count, blocks);
+                }
+                start = end;
+            }
+        }
+        blocks.sort(BEST_FIRST);
+        return blocks;
+    }
+
+    private static void addBlocks(Row row, int start, int end, int count, List<SeatBlock> blocks) {
+        int best = Math.max(start, Math.min(end - count, (int) Math.round(row.center - (count - 1) / 2.0)));
+        for (int from = best; from >= start; from -= count) {
+            blocks.add(row.block(from, count));
+        }
+        for (int from = best + count; from + count <= end; from += count) {
+            blocks.add(row.block(from, count));
+        }
+    }
+
+    private static final class Row {
+        private final int rowNumber;
+        private final int minColumn;
+        private final double center;
+        private final SeatCacheService.SeatLayoutDto[] seatsByColumn; // 인덱스 = 열 번호 - minColumn
+        private final BitSet available = new BitSet();
+
+        Row(int rowNumber, List<SeatCacheService.SeatLayoutDto> seats) {
+            this.rowNumber = rowNumber;
+            this.minColumn = seats.stream().mapToInt(SeatCacheService.SeatLayoutDto::getColumnNumber).min().orElse(1);
+            int maxColumn = seats.stream().mapToInt(SeatCacheService.SeatLayoutDto::getColumnNumber).max().orElse(minColumn);
+            this.center = (maxColumn - minColumn) / 2.0;
+            this.seatsByColumn = new SeatCacheService.SeatLayoutDto[maxColumn - minColumn + 1];
+            for (SeatCacheService.SeatLayoutDto seat : seats) {
+                int index = seat.getColumnNumber() - minColumn;
+                seatsByColumn[index] = seat;
+                if (seat.isAvailable()) {
+                    available.set(index);
+                }
+            }
+        }
+
+        BitSet freeColumns(LongPredicate excluded) {
+            BitSet free = (BitSet) available.clone();
+            for (int index = free.nextSetBit(0); index >= 0; index = free.nextSetBit(index + 1)) {
+                if (excluded.test(seatsByColumn[index].getSeatId())) {
+                    free.clear(index);
+                }
+            }
+            return free;
+        }
+
+        SeatBlock block(int from, int count) {
+            List<SeatCacheService.SeatLayoutDto> seats = new ArrayList<>(count);
+            for (int index = from; index < from + count; index++) {
+                seats.add(seatsByColumn[index]);
+            }
+            double distance = Math.abs(from + (count - 1) / 2.0 - center);
+            return new SeatBlock(List.copyOf(seats), rowNumber, distance);
+        }
+    }
+
+    static final class SeatBlock {
+        private final List<SeatCacheService.SeatLayoutDto> seats;
+        private final int rowNumber;
+        private final double distance; // 행 가운데로부터의 거리 (열 단위)
+
+        SeatBlock(List<SeatCacheService.SeatLayoutDto> seats, int rowNumber, double distance) {
+            this.seats = seats;
+            this.rowNumber = rowNumber;
+            this.distance = distance;
+        }
+
+        List<SeatCacheService.SeatLayoutDto> getSeats() { return seats; }
+        int getRowNumber() { return rowNumber; }
+        double getDistance() { return distance; }
+
+        List<Long> getSeatIds() {
+            return seats.stream().map(SeatCacheService.SeatLayoutDto::getSeatId).toList();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.application.ecommerce;
 
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
 import kr.hhplus.be.server.domain.ecommerce.Outbox;
 import kr.hhplus.be.server.domain.ecommerce.repository.OutboxRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,11 +19,14 @@ public class MockMessageProducer {
     private static final Logger logger = LoggerFactory.getLogger(MockMessageProducer.class);
     private final OutboxRepository outboxRepository;
     private final ObjectMapper objectMapper;
+    private final SchedulerLeaderElection leaderElection;
     private final Random random = new Random();
 
-    public MockMessageProducer(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+    public MockMessageProducer(OutboxRepository outboxRepository, ObjectMapper objectMapper,
+                               SchedulerLeaderElection leaderElection) {
         this.outboxRepository = outboxRepository;
         this.objectMapper = objectMapper;
+        this.leaderElection = leaderElection;
     }
 
     @Transactional
@@ -47,6 +51,11 @@ public class MockMessageProducer {
     @Scheduled(fixedRate = 10000) // 10초마다 실행
     @Transactional
     public void processOutboxEvents() {
+        // 스케줄러 리더 노드에서만 발행 (여러 노드가 같은 이벤트를 중복 발행하지 않도록)
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+
         // 1. 대기 중인 이벤트 처리
         List<Outbox> pendingEvents = outboxRepository.findPendingEvents();
         for (Outbox outbox : pendingEvents) {
@@ -0,0 +1,273 @@
+package kr.hhplus.be.server.application.queue;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import kr.hhplus.be.server.domain.queue.AdmissionSamples;
+import kr.hhplus.be.server.domain.queue.QueueLoad;
+import kr.hhplus.be.server.domain.queue.repository.AdmissionSampleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 활성 토큰 수(입장 예산) AIMD 제어
+ *
+ * 예약/결제 구간의 p99 지연과 오류율을 조정 주기마다 측정해
+ * - 목표 이내면 예산을 고정 폭으로 늘리고 (additive increase)
+ * - 목표를 넘으면 예산을 비율로 줄인다 (multiplicative decrease)
+ * 예산은 [min-budget, max-budget] 범위를 벗어나지 않는다.
+ * 모든 대기열(샤드)이 같은 DB 를 사용하므로 예산은 전체 기준으로 조정하고, allocate 로 대기열별로 나눈다.
+ *
+ * 입장 처리는 리더만 하므로 표본도 클러스터 전체 기준이어야 한다.
+ * 각 노드는 sample-flush-ms 마다 요청/오류/목표 지연 초과 요청 수를 저장소 합계에 더하고, 리더가 조정 주기마다 합계를 비워 예산을 정한다.
+ * p99 가 목표를 넘었는지는 목표 지연을 넘은 요청이 1% 를 넘는지로 판단한다 (노드별 p99 는 합칠 수 없으므로).
+ * 리더가 정한 예산은 저장소에 남겨 다른 노드가 통계에 같은 값을 보여 주고, 리더가 바뀌면 그 값에서 이어서 조정한다.
+ */
+@Component
+public class AdmissionBudgetController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdmissionBudgetController.class);
+    private static final double P99_EXCEEDED_RATIO = 0.01; // 목표 지연을 넘은 요청이 이 비율을 넘으면 p99 > 목표
+
+    private final int minBudget;
+    private final int maxBudget;
+    private final int additiveIncrease;
+    private final double multiplicativeDecrease;
+    private final long targetP99Millis;
+    private final double maxErrorRate;
+    private final long minSamples;
+    private final int activeDurationMinutes;
+    private final int shardMaxBudget;
+    private final long targetP99Nanos;
+
+    private final AdmissionSampleRepository admissionSampleRepository;
+    private final SchedulerLeaderElection leaderElection;
+
+    private final AtomicInteger budget;
+    // 저장소 합계에 아직 더하지 않은 이 노드의 표본
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong slowCount = new AtomicLong();
+    private final Timer latency;
+
+    public AdmissionBudgetController(MeterRegistry meterRegistry,
+                                     AdmissionSampleRepository admissionSampleRepository,
+                                     SchedulerLeaderElection leaderElection,
+                                     @Value("${queue.admission.initial-budget:100}") int initialBudget,
+                                     @Value("${queue.admission.min-budget:20}") int minBudget,
+                                     @Value("${queue.admission.max-budget:1000}") int maxBudget,
+                                     @Value("${queue.admission.additive-increase:10}") int additiveIncrease,
+                                     @Value("${queue.admission.multiplicative-decrease:0.5}") double multiplicativeDecrease,
+                                     @Value("${queue.admission.target-p99-ms:500}") long targetP99Millis,
+                                     @Value("${queue.admission.max-error-rate:0.01}") double maxErrorRate,
+                                     @Value("${queue.admission.min-samples:20}") long minSamples,
+                                     @Value("${queue.admission.adjust-interval-ms:5000}") long adjustIntervalMillis,
+                                     @Value("${queue.admission.active-duration-minutes:10}") int activeDurationMinutes,
+                                     @Value("${queue.admission.shard-max-budget:1000}") int shardMaxBudget) {
+        if (minBudget < 1 || minBudget > maxBudget) {
+            throw new IllegalArgumentException("Invalid admission budget bounds: " + minBudget + ".." + maxBudget);
+        }
+
+        this.minBudget = minBudget;
+        this.maxBudget = maxBudget;
+        this.additiveIncrease = additiveIncrease;
+        this.multiplicativeDecrease = multiplicativeDecrease;
+        this.targetP99Millis = targetP99Millis;
+        this.maxErrorRate = maxErrorRate;
+        this.minSamples = minSamples;
+        this.activeDurationMinutes = activeDurationMinutes;
+        this.shardMaxBudget = shardMaxBudget;
+        this.targetP99Nanos = TimeUnit.MILLISECONDS.toNanos(targetP99Millis);
+        this.admissionSampleRepository = admissionSampleRepository;
+        this.leaderElection = leaderElection;
+        this.budget = new AtomicInteger(Math.min(maxBudget, Math.max(minBudget, initialBudget)));
+
+        // 조정 주기 단위로 p99 를 계산하도록 히스토그램 윈도우를 주기와 맞춘다
+        this.latency = Timer.builder("queue.admission.backend.latency")
+                .description("reserveSeat/processPayment latency used for admission control")
+                .publishPercentiles(0.99)
+                .distributionStatisticExpiry(Duration.ofMillis(adjustIntervalMillis))
+                .distributionStatisticBufferLength(1)
+                .register(meterRegistry);
+        Gauge.builder("queue.admission.budget", budget, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * 예약/결제 구간 실행 시간과 오류 여부 기록
+     * 잘못된 요청/비즈니스 규칙 위반(IllegalArgument/IllegalState)은 백엔드 오류로 보지 않는다.
+     */
+    public <T> T measure(Supplier<T> supplier) {
+        long startNanos = System.nanoTime();
+        boolean failed = false;
+        try {
+            return supplier.get();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        } finally {
+            record(System.nanoTime() - startNanos, failed);
+        }
+    }
+
+    void record(long elapsedNanos, boolean failed) {
+        latency.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        requestCount.incrementAndGet();
+        if (failed) {
+            errorCount.incrementAndGet();
+        }
+        if (elapsedNanos > targetP99Nanos) {
+            slowCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 이 노드의 표본을 클러스터 합계에 더하고, 리더가 아니면 리더가 정한 예산을 가져옴
+     */
+    @Scheduled(fixedDelayString = "${queue.admission.sample-flush-ms:1000}")
+    public void flush() {
+        flushSamples();
+        if (leaderElection.isLeader()) {
+            return;
+        }
+        try {
+            Integer shared = admissionSampleRepository.findBudget();
+            if (shared != null) {
+                budget.set(Math.min(maxBudget, Math.max(minBudget, shared)));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read admission budget", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${queue.admission.adjust-interval-ms:5000}")
+    public void adjust() {
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+        flushSamples();
+
+        AdmissionSamples samples;
+        try {
+            samples = admissionSampleRepository.drainSamples();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read admission samples", e);
+            return;
+        }
+
+        long requests = samples.getRequests();
+        // 표본이 부족하면 예산 유지 (유휴 시간에 예산이 최대치로 부풀지 않도록)
+        if (requests < minSamples) {
+            return;
+        }
+
+        double errorRate = (double) samples.getErrors() / requests;
+        double slowRate = (double) samples.getSlowRequests() / requests;
+
+        int previous = budget.get();
+        int next;
+        if (slowRate > P99_EXCEEDED_RATIO || errorRate > maxErrorRate) {
+            next = budget.updateAndGet(b -> Math.max(minBudget, (int) (b * multiplicativeDecrease)));
+        } else {
+            next = budget.updateAndGet(b -> Math.min(maxBudget, b + additiveIncrease));
+        }
+
+        try {
+            admissionSampleRepository.saveBudget(next);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to save admission budget", e);
+        }
+        if (next != previous) {
+            logger.info("Admission budget adjusted: {} -> {} (over {}ms={}, errorRate={}, samples={}, local p99={}ms)",
+                    previous, next, targetP99Millis, slowRate, errorRate, requests, Math.round(getP99Millis()));
+        }
+    }
+
+    private void flushSamples() {
+        long requests = requestCount.getAndSet(0);
+        long errors = errorCount.getAndSet(0);
+        long slow = slowCount.getAndSet(0);
+        if (requests == 0) {
+            return;
+        }
+        try {
+            admissionSampleRepository.addSamples(requests, errors, slow);
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도
+            requestCount.addAndGet(requests);
+            errorCount.addAndGet(errors);
+            slowCount.addAndGet(slow);
+            logger.warn("Failed to flush admission samples", e);
+        }
+    }
+
+    /**
+     * 전체 예산을 대기열별 활성 슬롯 상한으로 분배 (max-min 공정 분배)
+     *
+     * 수요(활성 + 대기)가 작은 대기열부터 공정 몫 이내에서 수요만큼 배정하고, 남은 예산은 나머지 대기열이 나눠 갖는다.
+     * 한 대기열이 받을 수 있는 예산은 shard-max-budget 을 넘지 않는다.
+     */
+    public Map<String, Integer> allocate(List<QueueLoad> loads) {
+        List<QueueLoad> byDemand = new ArrayList<>(loads);
+        byDemand.sort(Comparator.comparingLong(QueueLoad::getDemand));
+
+        Map<String, Integer> budgets = new HashMap<>();
+        long remaining = getBudget();
+        for (int i = 0; i < byDemand.size(); i++) {
+            QueueLoad load = byDemand.get(i);
+            long queuesLeft = byDemand.size() - i;
+            long fairShare = (remaining + queuesLeft - 1) / queuesLeft;
+
+            int allocated = (int) Math.min(Math.min(load.getDemand(), shardMaxBudget), fairShare);
+            budgets.put(load.getQueueName(), allocated);
+            remaining -= allocated;
+        }
+        return budgets;
+    }
+
+    public int getBudget() {
+        return budget.get();
+    }
+
+    public int getMinBudget() {
+        return minBudget;
+    }
+
+    public int getMaxBudget() {
+        return maxBudget;
+    }
+
+    public int getShardMaxBudget() {
+        return shardMaxBudget;
+    }
+
+    public int getActiveDurationMinutes() {
+        return activeDurationMinutes;
+    }
+
+    private double getP99Millis() {
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.99) {
+                return percentile.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,119 @@
+package kr.hhplus.be.server.application.queue;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 단일 스레드 입장 처리기
+ *
+ * 토큰 완료(슬롯 반환) 이벤트를 받으면 커밋 직후 processQueue 를 실행해 다음 대기자를 바로 입장시킨다.
+ * 입장시킨 토큰의 만료 시각에도 다시 깨어나 만료 처리 후 빈 슬롯을 채운다.
+ * 이벤트가 몰리면 실행 요청을 하나로 합쳐 처리한다.
+ * 여러 노드 중 스케줄러 리더만 입장 처리를 실행하며, 다른 노드에서 반환된 슬롯은 QueueSlotFreedRelay 가 리더에게 전달한다 (유실 시 주기 실행 tick-ms 로 채움).
+ */
+@Component
+public class QueueAdmitter {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueueAdmitter.class);
+    private static final long EXPIRY_WAKEUP_GRANULARITY_MILLIS = 1000; // 만료 기상 예약 병합 단위
+
+    private final QueueManagementUseCase queueManagementUseCase;
+    private final SchedulerLeaderElection leaderElection;
+    private final ThreadPoolTaskScheduler scheduler;
+
+    private final AtomicBoolean pending = new AtomicBoolean();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong lastExpiryWakeupMillis = new AtomicLong();
+
+    public QueueAdmitter(QueueManagementUseCase queueManagementUseCase, SchedulerLeaderElection leaderElection) {
+        this.queueManagementUseCase = queueManagementUseCase;
+        this.leaderElection = leaderElection;
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setPoolSize(1); // 단일 작성자: 리더 노드 안에서도 입장 처리는 동시에 실행되지 않음
+        this.scheduler.setThreadNamePrefix("QueueAdmitter-");
+        this.scheduler.initialize();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${queue.admitter.tick-ms:500}")
+    public void tick() {
+        signal();
+    }
+
+    @EventListener
+    public void onLeadershipChanged(SchedulerLeaderElection.LeadershipChangedEvent event) {
+        if (event.isLeader()) {
+            signal(); // 이전 리더가 남긴 빈 슬롯을 바로 채움
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSlotFreed(QueueManagementUseCase.QueueSlotFreedEvent event) {
+        signal();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQueueAdmitted(QueueManagementUseCase.QueueAdmittedEvent event) {
+        long expiresAtMillis = event.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        // 같은 시각 부근의 만료 기상은 한 번만 예약
+        long last = lastExpiryWakeupMillis.get();
+        if (expiresAtMillis - last < EXPIRY_WAKEUP_GRANULARITY_MILLIS
+                || !lastExpiryWakeupMillis.compareAndSet(last, expiresAtMillis)) {
+            return;
+        }
+        scheduler.schedule(this::signal, Instant.ofEpochMilli(expiresAtMillis));
+    }
+
+    /**
+     * 입장 처리 요청 (실행 중이면 끝난 뒤 한 번 더 실행, 리더가 아니면 무시)
+     */
+    public void signal() {
+        if (!leaderElection.isLeader()) {
+            return;
+        }
+        pending.set(true);
+        if (running.compareAndSet(false, true)) {
+            scheduler.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (pending.getAndSet(false)) {
+                // 대기 중 리더를 잃었으면 실행하지 않음
+                if (!leaderElection.isLeader()) {
+                    continue;
+                }
+                try {
+                    queueManagementUseCase.processQueue();
+                } catch (RuntimeException e) {
+                    logger.error("Queue admission failed", e);
+                }
+            }
+        } finally {
+            running.set(false);
+            // running 해제 직전에 들어온 요청 처리
+            if (pending.get() && running.compareAndSet(false, true)) {
+                scheduler.execute(this::drain);
+            }
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package kr.hhplus.be.server.application.queue;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.domain.queue.QueueLoad;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열(샤드)별 대기/활성 토큰 수 실시간 카운터
+ *
+ * 토큰 상태가 바뀌는 지점(발급, 입장, 만료, 완료)에서 증감하여 통계 조회와 입장 처리가 토큰을 조회하지 않고 O(1) 로 부하를 얻는다.
+ * 다른 노드에서 일어난 발급/완료와 롤백은 반영되지 않으므로 reconcile-interval 마다 저장소의 대기열별 COUNT 로 보정한다.
+ * 보정은 조회 결과에 조회를 시작한 뒤 이 노드에서 기록된 증감을 더해 적용하므로, 쉬지 않고 바뀌는 대기열도 매번 보정된다
+ * (조회 도중 커밋된 증감이 조회 결과에도 포함되면 다음 보정까지 그만큼 어긋날 수 있음).
+ * 대기열 목록은 저장소 기준이며, 처음 보는 대기열은 바로 COUNT 로 채워 다른 노드에서 만든 대기열도 보정을 기다리지 않고 입장 처리한다.
+ * 입장/만료 처리량(초당)은 최근 rate-window 구간 기준이며, 입장 처리를 수행하는 리더 노드에서만 의미가 있다.
+ */
+@Component
+public class QueueCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueueCounters.class);
+
+    private final QueueTokenRepository queueTokenRepository;
+    private final Map<String, ShardCounter> shards = new ConcurrentHashMap<>();
+    private final RateWindow admittedRate;
+    private final RateWindow expiredRate;
+
+    public QueueCounters(QueueTokenRepository queueTokenRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${queue.counters.rate-window-seconds:10}") int rateWindowSeconds) {
+        this.queueTokenRepository = queueTokenRepository;
+        this.admittedRate = new RateWindow(rateWindowSeconds);
+        this.expiredRate = new RateWindow(rateWindowSeconds);
+
+        Gauge.builder("queue.tokens", this, QueueCounters::getWaitingCount)
+                .description("Waiting queue tokens (live counter)")
+                .tag("state", "waiting")
+                .register(meterRegistry);
+        Gauge.builder("queue.tokens", this, QueueCounters::getActiveCount)
+                .description("Active queue tokens (live counter)")
+                .tag("state", "active")
+                .register(meterRegistry);
+    }
+
+    public void onIssued(String queueName) {
+        add(queueName, 1, 0);
+    }
+
+    public void onAdmitted(String queueName, int count) {
+        if (count > 0) {
+            add(queueName, -count, count);
+            admittedRate.record(count, System.nanoTime());
+        }
+    }
+
+    public void onExpired(String queueName, int waitingCount, int activeCount) {
+        if (waitingCount > 0 || activeCount > 0) {
+            add(queueName, -waitingCount, -activeCount);
+            expiredRate.record(waitingCount + activeCount, System.nanoTime());
+        }
+    }
+
+    public void onCompleted(String queueName) {
+        add(queueName, 0, -1);
+    }
+
+    // 활성 토큰 완료 → 커밋 이후 반영 (롤백된 완료는 세지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSlotFreed(QueueManagementUseCase.QueueSlotFreedEvent event) {
+        onCompleted(event.getQueueName());
+    }
+
+    /**
+     * 대기 또는 활성 토큰이 있는 대기열 (저장소 목록 + 이 노드가 아는 대기열, 저장소 조회 실패 시 이 노드 기준)
+     */
+    public List<String> getQueueNames() {
+        Set<String> queueNames = new LinkedHashSet<>(shards.keySet());
+        try {
+            for (String queueName : queueTokenRepository.findQueueNames()) {
+                if (queueNames.add(queueName)) {
+                    reconcile(queueName); // 다른 노드에서 만든 대기열
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("대기열 목록 조회 실패", e);
+        }
+        return new ArrayList<>(queueNames);
+    }
+
+    public QueueLoad getLoad(String queueName) {
+        ShardCounter counter = shards.get(queueName);
+        return counter != null ? counter.toLoad(queueName) : new QueueLoad(queueName, 0, 0);
+    }
+
+    public List<QueueLoad> getLoads() {
+        List<QueueLoad> loads = new ArrayList<>();
+        shards.forEach((queueName, counter) -> loads.add(counter.toLoad(queueName)));
+        return loads;
+    }
+
+    public long getWaitingCount() {
+        return shards.values().stream().mapToLong(ShardCounter::getWaiting).sum();
+    }
+
+    public long getActiveCount() {
+        return shards.values().stream().mapToLong(ShardCounter::getActive).sum();
+    }
+
+    public double getAdmittedPerSecond() {
+        return admittedRate.perSecond(System.nanoTime());
+    }
+
+    public double getExpiredPerSecond() {
+        return expiredRate.perSecond(System.nanoTime());
+    }
+
+    /**
+     * 저장소의 대기열별 대기/활성 수로 카운터 보정 (대기열 수만큼의 COUNT, 토큰 수와 무관)
+     */
+    @Scheduled(fixedDelayString = "${queue.counters.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        try {
+            Set<String> queueNames = new HashSet<>(queueTokenRepository.findQueueNames());
+            queueNames.addAll(shards.keySet());
+
+            for (String queueName : queueNames) {
+                reconcile(queueName);
+            }
+        } catch (Exception e) {
+            logger.warn("대기열 카운터 보정 실패", e);
+        }
+    }
+
+    private void reconcile(String queueName) {
+        ShardCounter counter = shards.computeIfAbsent(queueName, name -> new ShardCounter());
+        ShardCounter.Mark mark = counter.mark();
+        long active = queueTokenRepository.countActiveTokens(queueName);
+        long waiting = queueTokenRepository.countWaitingTokens(queueName);
+        // 비어 있는 대기열은 목록에서 제거 (증감과 같은 키 단위 원자 연산으로 처리해 유실 방지)
+        shards.computeIfPresent(queueName, (name, current) -> {
+            if (current != counter) {
+                return current;
+            }
+            return current.reset(mark, waiting, active) ? null : current;
+        });
+    }
+
+    private void add(String queueName, long waitingDelta, long activeDelta) {
+        shards.compute(queueName, (name, counter) -> {
+            ShardCounter target = counter != null ? counter : new ShardCounter();
+            target.add(waitingDelta, activeDelta);
+            return target;
+        });
+    }
+
+    private static class ShardCounter {
+        private long waiting;
+        private long active;
+        // 누적 증감 (하한 0 으로 자르지 않음, 보정 조회 이후 기록된 증감 계산용)
+        private long waitingTotal;
+        private long activeTotal;
+
+        synchronized void add(long waitingDelta, long activeDelta) {
+            waiting = Math.max(0, waiting + waitingDelta);
+            active = Math.max(0, active + activeDelta);
+            waitingTotal += waitingDelta;
+            activeTotal += activeDelta;
+        }
+
+        synchronized Mark mark() {
+            return new Mark(waitingTotal, activeTotal);
+        }
+
+        /**
+         * 저장소 조회 결과 + 조회 시작 이후의 증감으로 덮어씀
+         *
+         * @return 비어 있고 조회 이후 변경도 없어 목록에서 제거해도 되는지
+         */
+        synchronized boolean reset(Mark mark, long waiting, long active) {
+            long waitingDelta = waitingTotal - mark.waitingTotal;
+            long activeDelta = activeTotal - mark.activeTotal;
+            this.waiting = Math.max(0, waiting + waitingDelta);
+            this.active = Math.max(0, active + activeDelta);
+            return this.waiting == 0 && this.active == 0 && waitingDelta == 0 && activeDelta == 0;
+        }
+
+        synchronized long getWaiting() {
+            return waiting;
+        }
+
+        synchronized long getActive() {
+            return active;
+        }
+
+        synchronized QueueLoad toLoad(String queueName) {
+            return new QueueLoad(queueName, active, waiting);
+        }
+
+        private static class Mark {
+            private final long waitingTotal;
+            private final long activeTotal;
+
+            Mark(long waitingTotal, long activeTotal) {
+                this.waitingTotal = waitingTotal;
+                this.activeTotal = activeTotal;
+            }
+        }
+    }
+
+    /**
+     * 최근 N초 동안의 초당 발생 수 (1초 단위 버킷 순환)
+     */
+    static class RateWindow {
+        private static final long BUCKET_NANOS = 1_000_000_000L;
+
+        private final long[] counts;
+        private final long[] buckets; // 각 칸이 담고 있는 초 (오래된 칸 재사용 판별)
+
+        RateWindow(int seconds) {
+            this.counts = new long[Math.max(1, seconds)];
+            this.buckets = new long[counts.length];
+            Arrays.fill(buckets, Long.MIN_VALUE);
+        }
+
+        synchronized void record(long count, long nowNanos) {
+            long bucket = nowNanos / BUCKET_NANOS;
+            int index = (int) Math.floorMod(bucket, (long) counts.length);
+            if (buckets[index] != bucket) {
+                buckets[index] = bucket;
+                counts[index] = 0;
+            }
+            counts[index] += count;
+        }
+
+        synchronized double perSecond(long nowNanos) {
+            long current = nowNanos / BUCKET_NANOS;
+            long total = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (buckets[i] > current - counts.length) {
+                    total += counts[i];
+                }
+            }
+            return (double) total / counts.length;
+        }
+    }
+}
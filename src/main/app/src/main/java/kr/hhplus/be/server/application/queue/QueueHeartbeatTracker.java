@@ -0,0 +1,191 @@
+package kr.hhplus.be.server.application.queue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.domain.queue.ExpiryBatch;
+import kr.hhplus.be.server.domain.queue.QueueHeartbeat;
+import kr.hhplus.be.server.domain.queue.QueueToken.TokenStatus;
+import kr.hhplus.be.server.domain.queue.repository.QueueHeartbeatRepository;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기열 토큰 활동(heartbeat) 추적 및 이탈 토큰 정리
+ *
+ * 상태 조회, SSE 구독, 토큰을 사용한 요청이 있을 때마다 touch 로 기록하며,
+ * 같은 토큰은 write-interval 동안 한 번만 기록하고 flush 주기마다 대기열별로 모아서 저장한다.
+ * 입장 처리 직전(QueueShardProcessor.expire) 에 활동이 끊긴 토큰을 만료시켜
+ * 떠난 사용자에게 입장 슬롯이 배정되거나 활성 슬롯이 만료 시각까지 점유되지 않도록 한다.
+ */
+@Component
+public class QueueHeartbeatTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueueHeartbeatTracker.class);
+
+    private final QueueHeartbeatRepository queueHeartbeatRepository;
+    private final QueueTokenRepository queueTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration waitingTimeout;
+    private final Duration activeIdleTimeout;
+    private final int evictionBatchSize;
+
+    private final Cache<String, Boolean> recentlyTouched; // write-interval 안에 이미 기록한 토큰
+    private final Map<String, Set<String>> pending = new ConcurrentHashMap<>(); // queueName -> 기록 대기 토큰
+
+    private final Counter evictedWaiting;
+    private final Counter evictedActive;
+
+    public QueueHeartbeatTracker(QueueHeartbeatRepository queueHeartbeatRepository,
+                                 QueueTokenRepository queueTokenRepository,
+                                 ApplicationEventPublisher eventPublisher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${queue.heartbeat.waiting-timeout-seconds:120}") long waitingTimeoutSeconds,
+                                 @Value("${queue.heartbeat.active-idle-timeout-seconds:180}") long activeIdleTimeoutSeconds,
+                                 @Value("${queue.heartbeat.eviction-batch-size:1000}") int evictionBatchSize,
+                                 @Value("${queue.heartbeat.write-interval-seconds:10}") long writeIntervalSeconds) {
+        this.queueHeartbeatRepository = queueHeartbeatRepository;
+        this.queueTokenRepository = queueTokenRepository;
+        this.eventPublisher = eventPublisher;
+        this.waitingTimeout = Duration.ofSeconds(waitingTimeoutSeconds);
+        this.activeIdleTimeout = Duration.ofSeconds(activeIdleTimeoutSeconds);
+        this.evictionBatchSize = evictionBatchSize;
+        this.recentlyTouched = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(writeIntervalSeconds))
+                .maximumSize(1_000_000)
+                .build();
+
+        this.evictedWaiting = Counter.builder("queue.heartbeat.evicted")
+                .description("Queue tokens expired because their owner stopped sending heartbeats")
+                .tag("state", "waiting")
+                .register(meterRegistry);
+        this.evictedActive = Counter.builder("queue.heartbeat.evicted")
+                .description("Queue tokens expired because their owner stopped sending heartbeats")
+                .tag("state", "active")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 토큰 소유자의 활동 기록 (저장은 flush 에서 일괄 처리)
+     */
+    public void touch(String queueName, String tokenUuid) {
+        if (queueName == null || tokenUuid == null) {
+            return;
+        }
+        if (recentlyTouched.asMap().putIfAbsent(tokenUuid, Boolean.TRUE) != null) {
+            return;
+        }
+        pending.computeIfAbsent(queueName, name -> ConcurrentHashMap.newKeySet()).add(tokenUuid);
+    }
+
+    @Scheduled(fixedDelayString = "${queue.heartbeat.flush-interval-ms:1000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        for (String queueName : new ArrayList<>(pending.keySet())) {
+            Set<String> tokenUuids = pending.remove(queueName);
+            if (tokenUuids == null || tokenUuids.isEmpty()) {
+                continue;
+            }
+            try {
+                queueHeartbeatRepository.touch(queueName, tokenUuids, now);
+            } catch (Exception e) {
+                // 활동 기록 실패는 조회/구독 응답에 영향을 주지 않음 (다음 touch 에서 다시 기록)
+                tokenUuids.forEach(recentlyTouched::invalidate);
+                logger.warn("대기열 활동 기록 실패: {} ({}건)", queueName, tokenUuids.size(), e);
+            }
+        }
+    }
+
+    /**
+     * 활동이 끊긴 대기/활성 토큰 만료 (입장 처리 트랜잭션 안에서 호출)
+     *
+     * @return 상태별 만료된 토큰 수
+     */
+    public ExpiryBatch evictSilentTokens(String queueName, LocalDateTime now) {
+        LocalDateTime waitingCutoff = now.minus(waitingTimeout);
+        LocalDateTime activeCutoff = now.minus(activeIdleTimeout);
+        LocalDateTime queryCutoff = waitingCutoff.isAfter(activeCutoff) ? waitingCutoff : activeCutoff;
+
+        List<QueueHeartbeat> silent = queueHeartbeatRepository.findSilent(queueName, queryCutoff, evictionBatchSize);
+        if (silent.isEmpty()) {
+            return ExpiryBatch.empty();
+        }
+
+        List<String> waitingCandidates = new ArrayList<>();
+        List<String> activeCandidates = new ArrayList<>();
+        List<String> stale = new ArrayList<>(); // 어느 상태로도 더 이상 살아 있을 수 없는 기록
+        for (QueueHeartbeat heartbeat : silent) {
+            boolean waitingSilent = heartbeat.isSilentSince(waitingCutoff);
+            boolean activeSilent = heartbeat.isSilentSince(activeCutoff);
+            if (waitingSilent) {
+                waitingCandidates.add(heartbeat.getTokenUuid());
+            }
+            if (activeSilent) {
+                activeCandidates.add(heartbeat.getTokenUuid());
+            }
+            if (waitingSilent && activeSilent) {
+                stale.add(heartbeat.getTokenUuid());
+            }
+        }
+
+        List<String> expiredWaiting = expire(queueName, waitingCandidates, TokenStatus.WAITING, now);
+        List<String> expiredActive = expire(queueName, activeCandidates, TokenStatus.ACTIVE, now);
+
+        // 만료된 토큰과 이미 종료(완료/만료)된 토큰의 기록 정리
+        Set<String> removable = new HashSet<>();
+        removable.addAll(expiredWaiting);
+        removable.addAll(expiredActive);
+        removable.addAll(stale);
+        queueHeartbeatRepository.remove(queueName, removable);
+
+        evictedWaiting.increment(expiredWaiting.size());
+        evictedActive.increment(expiredActive.size());
+        if (!expiredActive.isEmpty()) {
+            // 캐시/서명 토큰 검증에서도 제외 (커밋 이후 QueueTokenVerifier 에서 처리)
+            eventPublisher.publishEvent(new QueueTokensEvictedEvent(queueName, expiredActive));
+        }
+        if (!expiredWaiting.isEmpty() || !expiredActive.isEmpty()) {
+            logger.info("활동 없는 대기열 토큰 만료: {} (대기 {}건, 활성 {}건)",
+                    queueName, expiredWaiting.size(), expiredActive.size());
+        }
+        return new ExpiryBatch(expiredWaiting.size(), expiredActive.size());
+    }
+
+    private List<String> expire(String queueName, Collection<String> tokenUuids, TokenStatus fromStatus,
+                                LocalDateTime now) {
+        if (tokenUuids.isEmpty()) {
+            return List.of();
+        }
+        return queueTokenRepository.expireTokens(queueName, tokenUuids, fromStatus, now);
+    }
+
+    // 활동이 없어 만료된 활성 토큰 이벤트
+    public static class QueueTokensEvictedEvent {
+        private final String queueName;
+        private final List<String> tokenUuids;
+
+        public QueueTokensEvictedEvent(String queueName, List<String> tokenUuids) {
+            this.queueName = queueName;
+            this.tokenUuids = tokenUuids;
+        }
+
+        public String getQueueName() { return queueName; }
+        public List<String> getTokenUuids() { return tokenUuids; }
+    }
+}
@@ -1,55 +1,119 @@
 package kr.hhplus.be.server.application.queue;
 
+import kr.hhplus.be.server.domain.queue.AdmissionBatch;
+import kr.hhplus.be.server.domain.queue.ExpiryBatch;
+import kr.hhplus.be.server.domain.queue.QueueLoad;
 import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.QueueWatermark;
+import kr.hhplus.be.server.domain.queue.WaitTimeEstimate;
 import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
-import org.springframework.scheduling.annotation.Scheduled;
+import kr.hhplus.be.server.domain.queue.repository.QueueWatermarkRepository;
+import kr.hhplus.be.server.infrastructure.queue.HmacQueueTokenSigner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 @Service
 public class QueueManagementUseCase {
 
-    private static final int MAX_ACTIVE_TOKENS = 100; // 동시 활성화 가능한 최대 토큰 수
-    private static final int ACTIVE_DURATION_MINUTES = 10; // 토큰 활성 시간 (분)
+    private static final Logger logger = LoggerFactory.getLogger(QueueManagementUseCase.class);
 
     private final QueueTokenRepository queueTokenRepository;
+    private final QueueWatermarkRepository queueWatermarkRepository;
+    private final QueueTokenVerifier queueTokenVerifier;
+    private final HmacQueueTokenSigner tokenSigner;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AdmissionBudgetController admissionBudgetController; // 동시 활성 토큰 수/활성 시간
+    private final QueueShardProcessor queueShardProcessor;
+    private final Executor queueShardExecutor;
+    private final QueueThroughputEstimator queueThroughputEstimator;
+    private final QueueSequenceAllocator queueSequenceAllocator;
+    private final QueueHeartbeatTracker queueHeartbeatTracker;
+    private final QueueCounters queueCounters; // 대기열별 대기/활성 수 (토큰 조회 없이 O(1))
 
-    public QueueManagementUseCase(QueueTokenRepository queueTokenRepository) {
+    public QueueManagementUseCase(QueueTokenRepository queueTokenRepository,
+                                  QueueWatermarkRepository queueWatermarkRepository,
+                                  QueueTokenVerifier queueTokenVerifier,
+                                  HmacQueueTokenSigner tokenSigner,
+                                  ApplicationEventPublisher eventPublisher,
+                                  AdmissionBudgetController admissionBudgetController,
+                                  QueueShardProcessor queueShardProcessor,
+                                  @Qualifier("queueShardExecutor") Executor queueShardExecutor,
+                                  QueueThroughputEstimator queueThroughputEstimator,
+                                  QueueSequenceAllocator queueSequenceAllocator,
+                                  QueueHeartbeatTracker queueHeartbeatTracker,
+                                  QueueCounters queueCounters) {
         this.queueTokenRepository = queueTokenRepository;
+        this.queueWatermarkRepository = queueWatermarkRepository;
+        this.queueTokenVerifier = queueTokenVerifier;
+        this.tokenSigner = tokenSigner;
+        this.eventPublisher = eventPublisher;
+        this.admissionBudgetController = admissionBudgetController;
+        this.queueShardProcessor = queueShardProcessor;
+        this.queueShardExecutor = queueShardExecutor;
+        this.queueThroughputEstimator = queueThroughputEstimator;
+        this.queueSequenceAllocator = queueSequenceAllocator;
+        this.queueHeartbeatTracker = queueHeartbeatTracker;
+        this.queueCounters = queueCounters;
     }
 
-    @Transactional
     public QueueTokenResult issueToken(Long userId) {
+        return issueToken(userId, null);
+    }
+
+    /**
+     * 스케줄별 대기열에 토큰 발급 (scheduleId 가 없으면 전역 대기열)
+     *
+     * 순번 구간 예약이 호출자 트랜잭션에 묶여 잠금을 오래 잡지 않도록 트랜잭션 없이 실행한다 (토큰 저장은 단건 INSERT).
+     */
+    public QueueTokenResult issueToken(Long userId, Long scheduleId) {
+        String queueName = QueueWatermark.queueNameOf(scheduleId);
+
         // 이미 활성화된 토큰이 있는지 확인
-        Optional<QueueToken> existingToken = queueTokenRepository.findByUserId(userId);
+        Optional<QueueToken> existingToken = queueTokenRepository.findByUserIdAndQueueName(userId, queueName);
         if (existingToken.isPresent()) {
             QueueToken token = existingToken.get();
             if (token.isActive()) {
+                queueHeartbeatTracker.touch(queueName, token.getTokenUuid());
                 return new QueueTokenResult(
                         token.getTokenUuid(),
                         token.getTokenStatus().name(),
                         token.getQueuePosition(),
-                        0L, // 대기 시간 0
-                        token.getExpiresAt()
+                        WaitTimeEstimate.none(),
+                        token.getExpiresAt(),
+                        tokenSigner.sign(token)
                 );
             }
         }
 
         // 새로운 토큰 발급
-        Long nextPosition = queueTokenRepository.getNextQueuePosition();
-        QueueToken newToken = new QueueToken(userId, nextPosition);
+        Long nextPosition = queueSequenceAllocator.next(queueName);
+        QueueToken newToken = new QueueToken(userId, queueName, nextPosition);
         queueTokenRepository.save(newToken);
+        queueCounters.onIssued(queueName);
+        queueHeartbeatTracker.touch(queueName, newToken.getTokenUuid());
 
+        long admittedSequence = queueWatermarkRepository.findAdmittedSequence(queueName);
+        queueThroughputEstimator.observe(queueName, admittedSequence);
         return new QueueTokenResult(
                 newToken.getTokenUuid(),
                 newToken.getTokenStatus().name(),
-                newToken.getQueuePosition(),
-                newToken.getEstimatedWaitTimeMinutes(),
-                newToken.getExpiresAt()
+                waitingPositionOf(newToken),
+                newToken.estimateWaitTime(admittedSequence, queueThroughputEstimator.getThroughput(queueName)),
+                newToken.getExpiresAt(),
+                null
         );
     }
 
@@ -58,47 +122,86 @@ public class QueueManagementUseCase {
         QueueToken token = queueTokenRepository.findByTokenUuid(tokenUuid)
                 .orElseThrow(() -> new IllegalArgumentException("Token not found"));
 
+        // 상태 조회(폴링)는 사용자가 아직 대기 중이라는 신호
+        if (token.isWaiting() || token.isActive()) {
+            queueHeartbeatTracker.touch(token.getQueueName(), tokenUuid);
+        }
+
+        // 대기 순위는 앞선 대기 토큰 수, 예상 대기 시간은 도착 순번과 입장 워터마크로부터 계산
+        long admittedSequence = 0L;
+        if (token.isWaiting()) {
+            admittedSequence = queueWatermarkRepository.findAdmittedSequence(token.getQueueName());
+            queueThroughputEstimator.observe(token.getQueueName(), admittedSequence); // 조회한 워터마크를 처리량 관측에 재사용
+        }
         return new QueueStatusResult(
                 token.getTokenUuid(),
                 token.getTokenStatus().name(),
-                token.getQueuePosition(),
-                token.getEstimatedWaitTimeMinutes(),
+                token.isWaiting() ? waitingPositionOf(token) : token.getQueuePosition(),
+                token.estimateWaitTime(admittedSequence, queueThroughputEstimator.getThroughput(token.getQueueName())),
                 token.isActive(),
-                token.getExpiresAt()
+                token.getExpiresAt(),
+                tokenSigner.sign(token) // 활성 토큰이면 저장소 조회 없이 검증 가능한 서명 토큰 발급
         );
     }
 
-    @Scheduled(fixedRate = 30000) // 30초마다 실행
-    @Transactional
+    /**
+     * 현재 대기 순위 (1부터 시작, 내 앞에 남은 대기자 수 + 1)
+     *
+     * 도착 순번은 노드별 구간 예약으로 빈 번호가 생기므로 (순번 - 워터마크) 가 아니라 저장소의 순위로 계산한다.
+     */
+    private long waitingPositionOf(QueueToken token) {
+        return queueTokenRepository.countWaitingAhead(token.getQueueName(), token.getQueuePosition()) + 1;
+    }
+
+    /**
+     * 대기열(샤드)별로 만료 처리 후 빈 슬롯만큼 입장 처리
+     * QueueAdmitter 의 단일 스레드에서만 호출되며, 대기열들은 각자의 트랜잭션으로 병렬 처리된다.
+     */
     public void processQueue() {
-        // 1. 만료된 토큰들 정리
-        List<QueueToken> expiredTokens = queueTokenRepository.findExpiredTokens();
-        for (QueueToken token : expiredTokens) {
-            if (!token.isExpired()) {
-                token.expire();
-                queueTokenRepository.save(token);
-            }
+        List<String> queueNames = queueCounters.getQueueNames();
+        if (queueNames.isEmpty()) {
+            return;
         }
 
-        // 2. 현재 활성화된 토큰 수 확인
-        List<QueueToken> activeTokens = queueTokenRepository.findActiveTokens();
-        int currentActiveCount = activeTokens.size();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(admissionBudgetController.getActiveDurationMinutes());
 
-        // 3. 새로운 토큰들을 활성화
-        int availableSlots = MAX_ACTIVE_TOKENS - currentActiveCount;
-        if (availableSlots > 0) {
-            List<QueueToken> waitingTokens = queueTokenRepository.findWaitingTokens();
-            int tokensToActivate = Math.min(availableSlots, waitingTokens.size());
+        // 1. 만료 시각이 지난 활성 토큰 일괄 만료 후 카운터에서 대기열별 활성/대기 수 확인 (COUNT 조회 없음)
+        List<QueueLoad> loads = forEachQueue(queueNames, queueName -> {
+            ExpiryBatch expired = queueShardProcessor.expire(queueName, now);
+            queueCounters.onExpired(queueName, expired.getExpiredWaitingCount(), expired.getExpiredActiveCount());
+            return queueCounters.getLoad(queueName);
+        });
 
-            for (int i = 0; i < tokensToActivate; i++) {
-                QueueToken token = waitingTokens.get(i);
-                token.activate(ACTIVE_DURATION_MINUTES);
-                queueTokenRepository.save(token);
+        // 2. 전체 입장 예산(백엔드 지연/오류율에 따라 조정됨)을 대기열별로 분배
+        Map<String, Integer> budgets = admissionBudgetController.allocate(loads);
+
+        // 3. 대기열별 빈 슬롯만큼 대기 토큰을 순서대로 일괄 활성화
+        forEachQueue(loads, load -> {
+            int availableSlots = budgets.getOrDefault(load.getQueueName(), 0) - (int) load.getActiveCount();
+            if (availableSlots <= 0 || load.getWaitingCount() == 0) {
+                return AdmissionBatch.empty();
             }
+            AdmissionBatch batch = queueShardProcessor.admit(load.getQueueName(), availableSlots, now, expiresAt);
+            queueCounters.onAdmitted(load.getQueueName(), batch.getAdmittedCount());
+            return batch;
+        });
+    }
 
-            // 4. 대기 중인 토큰들의 순서 업데이트
-            updateQueuePositions();
-        }
+    // 대기열별 작업을 병렬 실행 (한 대기열의 실패가 다른 대기열 처리를 막지 않도록 실패한 대기열은 건너뜀)
+    private <T, R> List<R> forEachQueue(List<T> queues, Function<T, R> task) {
+        List<CompletableFuture<R>> futures = queues.stream()
+                .map(queue -> CompletableFuture.supplyAsync(() -> task.apply(queue), queueShardExecutor)
+                        .exceptionally(e -> {
+                            logger.error("Queue processing failed: {}", queue, e);
+                            return null;
+                        }))
+                .toList();
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Transactional
@@ -106,53 +209,109 @@ public class QueueManagementUseCase {
         QueueToken token = queueTokenRepository.findByTokenUuid(tokenUuid)
                 .orElseThrow(() -> new IllegalArgumentException("Token not found"));
 
+        boolean wasActive = token.isActive();
         token.complete();
         queueTokenRepository.save(token);
-    }
+        queueTokenVerifier.revoke(tokenUuid, token.getExpiresAt());
 
-    private void updateQueuePositions() {
-        List<QueueToken> waitingTokens = queueTokenRepository.findWaitingTokens();
-        for (int i = 0; i < waitingTokens.size(); i++) {
-            QueueToken token = waitingTokens.get(i);
-            token.updatePosition((long) (i + 1));
-            queueTokenRepository.save(token);
+        // 활성 슬롯 반환 → 커밋 직후 다음 대기자 입장
+        if (wasActive) {
+            eventPublisher.publishEvent(new QueueSlotFreedEvent(tokenUuid, token.getQueueName()));
         }
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 대기열 현황 (실시간 카운터 기준, 저장소 조회 없음)
+     */
     public QueueStatistics getQueueStatistics() {
-        Long waitingCount = queueTokenRepository.countWaitingTokens();
-        List<QueueToken> activeTokens = queueTokenRepository.findActiveTokens();
+        // 대기열별 현황과 분배된 예산
+        List<QueueLoad> loads = queueCounters.getLoads();
+        Map<String, Integer> budgets = admissionBudgetController.allocate(loads);
+        List<ShardStatistics> shards = loads.stream()
+                .map(load -> new ShardStatistics(
+                        load.getQueueName(),
+                        load.getWaitingCount(),
+                        load.getActiveCount(),
+                        (long) budgets.getOrDefault(load.getQueueName(), 0)))
+                .toList();
 
         return new QueueStatistics(
-                waitingCount,
-                (long) activeTokens.size(),
-                (long) MAX_ACTIVE_TOKENS
+                loads.stream().mapToLong(QueueLoad::getWaitingCount).sum(),
+                loads.stream().mapToLong(QueueLoad::getActiveCount).sum(),
+                (long) admissionBudgetController.getBudget(),
+                (long) admissionBudgetController.getMinBudget(),
+                (long) admissionBudgetController.getMaxBudget(),
+                queueCounters.getAdmittedPerSecond(),
+                queueCounters.getExpiredPerSecond(),
+                shards
         );
     }
 
+    // 입장 처리 이벤트
+    public static class QueueAdmittedEvent {
+        private final String queueName;
+        private final int admittedCount;
+        private final Long admittedSequence;
+        private final LocalDateTime expiresAt;
+
+        public QueueAdmittedEvent(String queueName, int admittedCount, Long admittedSequence, LocalDateTime expiresAt) {
+            this.queueName = queueName;
+            this.admittedCount = admittedCount;
+            this.admittedSequence = admittedSequence;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getQueueName() { return queueName; }
+        public int getAdmittedCount() { return admittedCount; }
+        public Long getAdmittedSequence() { return admittedSequence; }
+        public LocalDateTime getExpiresAt() { return expiresAt; }
+    }
+
+    // 활성 슬롯 반환 이벤트 (토큰 완료)
+    public static class QueueSlotFreedEvent {
+        private final String tokenUuid;
+        private final String queueName;
+
+        public QueueSlotFreedEvent(String tokenUuid, String queueName) {
+            this.tokenUuid = tokenUuid;
+            this.queueName = queueName;
+        }
+
+        public String getTokenUuid() { return tokenUuid; }
+        public String getQueueName() { return queueName; }
+    }
+
     // Result 클래스들
     public static class QueueTokenResult {
         private final String tokenUuid;
         private final String status;
         private final Long queuePosition;
         private final Long estimatedWaitTimeMinutes;
+        private final Long estimatedWaitTimeLowerMinutes; // 신뢰 구간 하한
+        private final Long estimatedWaitTimeUpperMinutes; // 신뢰 구간 상한
         private final LocalDateTime expiresAt;
+        private final String accessToken; // 활성 토큰의 서명 토큰 (비활성 시 null)
 
         public QueueTokenResult(String tokenUuid, String status, Long queuePosition,
-                               Long estimatedWaitTimeMinutes, LocalDateTime expiresAt) {
+                               WaitTimeEstimate estimatedWaitTime, LocalDateTime expiresAt, String accessToken) {
             this.tokenUuid = tokenUuid;
             this.status = status;
             this.queuePosition = queuePosition;
-            this.estimatedWaitTimeMinutes = estimatedWaitTimeMinutes;
+            this.estimatedWaitTimeMinutes = estimatedWaitTime.getMinutes();
+            this.estimatedWaitTimeLowerMinutes = estimatedWaitTime.getLowerMinutes();
+            this.estimatedWaitTimeUpperMinutes = estimatedWaitTime.getUpperMinutes();
             this.expiresAt = expiresAt;
+            this.accessToken = accessToken;
         }
 
         public String getTokenUuid() { return tokenUuid; }
         public String getStatus() { return status; }
         public Long getQueuePosition() { return queuePosition; }
         public Long getEstimatedWaitTimeMinutes() { return estimatedWaitTimeMinutes; }
+        public Long getEstimatedWaitTimeLowerMinutes() { return estimatedWaitTimeLowerMinutes; }
+        public Long getEstimatedWaitTimeUpperMinutes() { return estimatedWaitTimeUpperMinutes; }
         public LocalDateTime getExpiresAt() { return expiresAt; }
+        public String getAccessToken() { return accessToken; }
     }
 
     public static class QueueStatusResult {
@@ -160,40 +319,86 @@ public class QueueManagementUseCase {
         private final String status;
         private final Long queuePosition;
         private final Long estimatedWaitTimeMinutes;
+        private final Long estimatedWaitTimeLowerMinutes; // 신뢰 구간 하한
+        private final Long estimatedWaitTimeUpperMinutes; // 신뢰 구간 상한
         private final boolean isActive;
         private final LocalDateTime expiresAt;
+        private final String accessToken; // 활성 토큰의 서명 토큰 (비활성 시 null)
 
         public QueueStatusResult(String tokenUuid, String status, Long queuePosition,
-                                Long estimatedWaitTimeMinutes, boolean isActive, LocalDateTime expiresAt) {
+                                WaitTimeEstimate estimatedWaitTime, boolean isActive, LocalDateTime expiresAt,
+                                String accessToken) {
             this.tokenUuid = tokenUuid;
             this.status = status;
             this.queuePosition = queuePosition;
-            this.estimatedWaitTimeMinutes = estimatedWaitTimeMinutes;
+            this.estimatedWaitTimeMinutes = estimatedWaitTime.getMinutes();
+            this.estimatedWaitTimeLowerMinutes = estimatedWaitTime.getLowerMinutes();
+            this.estimatedWaitTimeUpperMinutes = estimatedWaitTime.getUpperMinutes();
             this.isActive = isActive;
             this.expiresAt = expiresAt;
+            this.accessToken = accessToken;
         }
 
         public String getTokenUuid() { return tokenUuid; }
         public String getStatus() { return status; }
         public Long getQueuePosition() { return queuePosition; }
         public Long getEstimatedWaitTimeMinutes() { return estimatedWaitTimeMinutes; }
+        public Long getEstimatedWaitTimeLowerMinutes() { return estimatedWaitTimeLowerMinutes; }
+        public Long getEstimatedWaitTimeUpperMinutes() { return estimatedWaitTimeUpperMinutes; }
         public boolean isActive() { return isActive; }
         public LocalDateTime getExpiresAt() { return expiresAt; }
+        public String getAccessToken() { return accessToken; }
     }
 
     public static class QueueStatistics {
         private final Long waitingCount;
         private final Long activeCount;
-        private final Long maxActiveCount;
+        private final Long maxActiveCount; // 현재 입장 예산
+        private final Long minActiveBudget;
+        private final Long maxActiveBudget;
+        private final double admittedPerSecond; // 최근 입장 처리량
+        private final double expiredPerSecond; // 최근 만료 처리량 (시간 초과 + 이탈)
+        private final List<ShardStatistics> shards; // 대기열별 현황
 
-        public QueueStatistics(Long waitingCount, Long activeCount, Long maxActiveCount) {
+        public QueueStatistics(Long waitingCount, Long activeCount, Long maxActiveCount,
+                               Long minActiveBudget, Long maxActiveBudget,
+                               double admittedPerSecond, double expiredPerSecond, List<ShardStatistics> shards) {
             this.waitingCount = waitingCount;
             this.activeCount = activeCount;
             this.maxActiveCount = maxActiveCount;
+            this.minActiveBudget = minActiveBudget;
+            this.maxActiveBudget = maxActiveBudget;
+            this.admittedPerSecond = admittedPerSecond;
+            this.expiredPerSecond = expiredPerSecond;
+            this.shards = shards;
         }
 
         public Long getWaitingCount() { return waitingCount; }
         public Long getActiveCount() { return activeCount; }
         public Long getMaxActiveCount() { return maxActiveCount; }
+        public Long getMinActiveBudget() { return minActiveBudget; }
+        public Long getMaxActiveBudget() { return maxActiveBudget; }
+        public double getAdmittedPerSecond() { return admittedPerSecond; }
+        public double getExpiredPerSecond() { return expiredPerSecond; }
+        public List<ShardStatistics> getShards() { return shards; }
+    }
+
+    public static class ShardStatistics {
+        private final String queueName;
+        private final Long waitingCount;
+        private final Long activeCount;
+        private final Long activeBudget; // 이 대기열에 분배된 활성 슬롯 상한
+
+        public ShardStatistics(String queueName, Long waitingCount, Long activeCount, Long activeBudget) {
+            this.queueName = queueName;
+            this.waitingCount = waitingCount;
+            this.activeCount = activeCount;
+            this.activeBudget = activeBudget;
+        }
+
+        public String getQueueName() { return queueName; }
+        public Long getWaitingCount() { return waitingCount; }
+        public Long getActiveCount() { return activeCount; }
+        public Long getActiveBudget() { return activeBudget; }
     }
 }
\ No newline at end of file
@@ -0,0 +1,250 @@
+package kr.hhplus.be.server.application.queue;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import kr.hhplus.be.server.domain.queue.repository.QueueWatermarkRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대기 순위 SSE 브로드캐스터
+ *
+ * 대기열마다 하나의 입장 워터마크를 기준으로, 워터마크가 움직일 때만 해당 대기열 구독자에게 순위를 전파한다.
+ * - 순위는 저장소의 앞선 대기 토큰 수이며, 대기열의 모든 구독자를 한 번에 조회한다 (구독자별 왕복 없음)
+ * - 같은 노드의 processQueue 입장 이벤트는 커밋 직후 즉시 전파
+ * - 다른 노드에서 이동한 워터마크는 주기적으로 한 번만 읽어 전파
+ * 입장한 구독자에게는 서명 토큰이 포함된 활성 상태를 보내고 연결을 종료한다.
+ * 연결이 유지되는 구독자는 워터마크 폴링 주기마다 QueueHeartbeatTracker 에 활동으로 기록된다.
+ */
+@Component
+public class QueuePositionBroadcaster {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueuePositionBroadcaster.class);
+
+    static final String EVENT_POSITION = "position";
+    static final String EVENT_ACTIVATED = "activated";
+    static final String EVENT_STATUS = "status";
+
+    private final QueueTokenRepository queueTokenRepository;
+    private final QueueWatermarkRepository queueWatermarkRepository;
+    private final QueueManagementUseCase queueManagementUseCase;
+    private final QueueThroughputEstimator queueThroughputEstimator;
+    private final QueueHeartbeatTracker queueHeartbeatTracker;
+    private final long emitterTimeoutMillis;
+
+    // 대기열 이름 → (토큰 UUID → 구독자)
+    private final Map<String, Map<String, Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Long> broadcastSequences = new ConcurrentHashMap<>();
+
+    public QueuePositionBroadcaster(QueueTokenRepository queueTokenRepository,
+                                    QueueWatermarkRepository queueWatermarkRepository,
+                                    QueueManagementUseCase queueManagementUseCase,
+                                    QueueThroughputEstimator queueThroughputEstimator,
+                                    QueueHeartbeatTracker queueHeartbeatTracker,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${queue.sse.timeout-ms:600000}") long emitterTimeoutMillis) {
+        this.queueTokenRepository = queueTokenRepository;
+        this.queueWatermarkRepository = queueWatermarkRepository;
+        this.queueManagementUseCase = queueManagementUseCase;
+        this.queueThroughputEstimator = queueThroughputEstimator;
+        this.queueHeartbeatTracker = queueHeartbeatTracker;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+
+        Gauge.builder("queue.sse.subscribers", this, QueuePositionBroadcaster::getSubscriberCount).register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String tokenUuid) {
+        QueueToken token = queueTokenRepository.findByTokenUuid(tokenUuid)
+                .orElseThrow(() -> new IllegalArgumentException("Token not found"));
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        if (!token.isWaiting()) {
+            sendFinalStatus(tokenUuid, emitter);
+            return emitter;
+        }
+
+        String queueName = token.getQueueName();
+        Map<String, Subscriber> queueSubscribers = subscribers.computeIfAbsent(queueName, name -> new ConcurrentHashMap<>());
+        Subscriber subscriber = new Subscriber(token, emitter);
+        Subscriber previous = queueSubscribers.put(tokenUuid, subscriber);
+        if (previous != null) {
+            previous.close(); // 같은 토큰의 이전 연결은 종료
+        }
+
+        emitter.onCompletion(() -> queueSubscribers.remove(tokenUuid, subscriber));
+        emitter.onTimeout(() -> queueSubscribers.remove(tokenUuid, subscriber));
+        emitter.onError(e -> queueSubscribers.remove(tokenUuid, subscriber));
+        queueHeartbeatTracker.touch(queueName, tokenUuid);
+
+        // 등록 이전에 지나간 전파를 놓치지 않도록 현재 워터마크로 초기 순위 전송
+        long watermark = Math.max(broadcastSequences.getOrDefault(queueName, 0L),
+                queueWatermarkRepository.findAdmittedSequence(queueName));
+        push(queueName, List.of(subscriber), watermark);
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQueueAdmitted(QueueManagementUseCase.QueueAdmittedEvent event) {
+        broadcast(event.getQueueName(), event.getAdmittedSequence());
+    }
+
+    @Scheduled(fixedDelayString = "${queue.sse.watermark-poll-ms:1000}")
+    public void pollWatermark() {
+        subscribers.forEach((queueName, queueSubscribers) -> {
+            if (!queueSubscribers.isEmpty()) {
+                // 연결이 유지되는 구독자는 폴링 없이도 대기 중인 것으로 기록
+                queueSubscribers.keySet().forEach(tokenUuid -> queueHeartbeatTracker.touch(queueName, tokenUuid));
+                long admittedSequence = queueWatermarkRepository.findAdmittedSequence(queueName);
+                queueThroughputEstimator.observe(queueName, admittedSequence);
+                broadcast(queueName, admittedSequence);
+            }
+        });
+    }
+
+    /**
+     * 워터마크가 앞으로 이동했을 때만 해당 대기열 구독자에게 전파
+     */
+    public void broadcast(String queueName, long admittedSequence) {
+        Long previous = broadcastSequences.get(queueName);
+        Long current = broadcastSequences.merge(queueName, admittedSequence, Math::max);
+        if (previous != null && current <= previous) {
+            return;
+        }
+
+        Map<String, Subscriber> queueSubscribers = subscribers.get(queueName);
+        if (queueSubscribers != null && !queueSubscribers.isEmpty()) {
+            push(queueName, new ArrayList<>(queueSubscribers.values()), admittedSequence);
+        }
+    }
+
+    int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(Map::size).sum();
+    }
+
+    private void push(String queueName, List<Subscriber> targets, long admittedSequence) {
+        List<Subscriber> waiting = new ArrayList<>();
+        for (Subscriber subscriber : targets) {
+            if (subscriber.token.getQueuePosition() <= admittedSequence) {
+                activate(subscriber);
+            } else {
+                waiting.add(subscriber);
+            }
+        }
+        if (waiting.isEmpty()) {
+            return;
+        }
+
+        List<Long> aheadCounts;
+        try {
+            aheadCounts = queueTokenRepository.countWaitingAhead(queueName,
+                    waiting.stream().map(subscriber -> subscriber.token.getQueuePosition()).toList());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load queue positions: queueName={}", queueName, e);
+            return; // 다음 워터마크 이동 때 다시 전파
+        }
+        for (int i = 0; i < waiting.size(); i++) {
+            push(waiting.get(i), aheadCounts.get(i) + 1, admittedSequence);
+        }
+    }
+
+    // 입장 완료: 활성 상태(서명 토큰 포함)를 보내고 구독 종료
+    private void activate(Subscriber subscriber) {
+        synchronized (subscriber) {
+            if (subscriber.closed) {
+                return;
+            }
+            subscriber.closed = true;
+            unsubscribe(subscriber);
+            sendFinalStatus(subscriber.token.getTokenUuid(), subscriber.emitter);
+        }
+    }
+
+    private void push(Subscriber subscriber, long position, long admittedSequence) {
+        QueueToken token = subscriber.token;
+
+        synchronized (subscriber) {
+            if (subscriber.closed) {
+                return;
+            }
+            if (position == subscriber.lastPosition) {
+                return;
+            }
+            subscriber.lastPosition = position;
+
+            QueueManagementUseCase.QueueStatusResult status = new QueueManagementUseCase.QueueStatusResult(
+                    token.getTokenUuid(),
+                    QueueToken.TokenStatus.WAITING.name(),
+                    position,
+                    token.estimateWaitTime(admittedSequence, queueThroughputEstimator.getThroughput(token.getQueueName())),
+                    false,
+                    null,
+                    null
+            );
+            if (!send(subscriber.emitter, EVENT_POSITION, status)) {
+                subscriber.closed = true;
+                unsubscribe(subscriber);
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        Map<String, Subscriber> queueSubscribers = subscribers.get(subscriber.token.getQueueName());
+        if (queueSubscribers != null) {
+            queueSubscribers.remove(subscriber.token.getTokenUuid(), subscriber);
+        }
+    }
+
+    private void sendFinalStatus(String tokenUuid, SseEmitter emitter) {
+        try {
+            QueueManagementUseCase.QueueStatusResult status = queueManagementUseCase.getQueueStatus(tokenUuid);
+            if (send(emitter, status.isActive() ? EVENT_ACTIVATED : EVENT_STATUS, status)) {
+                emitter.complete();
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load final queue status: tokenUuid={}", tokenUuid, e);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private boolean send(SseEmitter emitter, String eventName, QueueManagementUseCase.QueueStatusResult status) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(status));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료
+            emitter.completeWithError(e);
+            return false;
+        }
+    }
+
+    private static class Subscriber {
+        private final QueueToken token;
+        private final SseEmitter emitter;
+        private long lastPosition = -1;
+        private boolean closed;
+
+        private Subscriber(QueueToken token, SseEmitter emitter) {
+            this.token = token;
+            this.emitter = emitter;
+        }
+
+        private synchronized void close() {
+            closed = true;
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.application.queue;
+
+import kr.hhplus.be.server.domain.queue.repository.QueueSequenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기열 도착 순번 할당기
+ *
+ * 저장소에서 순번 구간(block)을 예약해 노드 메모리에 두고, 구간 안에서는 저장소 접근 없이 순번을 발급한다.
+ * - 같은 노드에서 발급한 순번은 엄격히 증가하고, 노드 간에는 구간이 겹치지 않아 중복되지 않는다
+ * - 노드가 종료되거나 구간이 오래되면 남은 번호는 버린다 (빈 번호 허용)
+ * - 오래된 구간을 버리므로 노드 간 도착 순서 역전은 block-max-age-ms 이내로 제한된다
+ * - 구간을 다 쓰기 전에 버리면 다음 구간은 절반으로, 빨리 소진하면 두 배로 (최대 block-size) 조정해 빈 번호를 줄인다
+ */
+@Component
+public class QueueSequenceAllocator {
+
+    private final QueueSequenceRepository queueSequenceRepository;
+    private final int maxBlockSize;
+    private final long blockMaxAgeNanos;
+
+    private final Map<String, SequenceBlock> blocks = new ConcurrentHashMap<>();
+
+    public QueueSequenceAllocator(QueueSequenceRepository queueSequenceRepository,
+                                  @Value("${queue.sequence.block-size:100}") int maxBlockSize,
+                                  @Value("${queue.sequence.block-max-age-ms:1000}") long blockMaxAgeMillis) {
+        this.queueSequenceRepository = queueSequenceRepository;
+        this.maxBlockSize = maxBlockSize;
+        this.blockMaxAgeNanos = TimeUnit.MILLISECONDS.toNanos(blockMaxAgeMillis);
+    }
+
+    public long next(String queueName) {
+        return next(queueName, System.nanoTime());
+    }
+
+    long next(String queueName, long nowNanos) {
+        return blocks.computeIfAbsent(queueName, SequenceBlock::new).next(nowNanos);
+    }
+
+    private class SequenceBlock {
+        private final String queueName;
+        private int blockSize = 1;
+        private long nextValue = 1;
+        private long lastValue = 0; // 비어 있는 구간으로 시작
+        private long reservedAtNanos;
+
+        private SequenceBlock(String queueName) {
+            this.queueName = queueName;
+        }
+
+        // 노드 내 경합 구간은 메모리 연산뿐이며, 저장소 예약은 구간이 바뀔 때만 일어난다
+        private synchronized long next(long nowNanos) {
+            boolean exhausted = nextValue > lastValue;
+            boolean stale = nowNanos - reservedAtNanos > blockMaxAgeNanos;
+            if (exhausted || stale) {
+                if (lastValue > 0 && stale && !exhausted) {
+                    blockSize = Math.max(1, blockSize / 2);
+                } else if (lastValue > 0 && exhausted && !stale) {
+                    blockSize = Math.min(maxBlockSize, blockSize * 2);
+                }
+                lastValue = queueSequenceRepository.reserveBlock(queueName, blockSize);
+                nextValue = lastValue - blockSize + 1;
+                reservedAtNanos = nowNanos;
+            }
+            return nextValue++;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.application.queue;
+
+import kr.hhplus.be.server.domain.queue.AdmissionBatch;
+import kr.hhplus.be.server.domain.queue.ExpiryBatch;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import kr.hhplus.be.server.domain.queue.repository.QueueWatermarkRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기열(샤드) 하나의 만료/입장 처리
+ *
+ * 대기열마다 독립된 트랜잭션으로 실행되어 processQueue 에서 병렬로 호출된다.
+ */
+@Component
+public class QueueShardProcessor {
+
+    private final QueueTokenRepository queueTokenRepository;
+    private final QueueWatermarkRepository queueWatermarkRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QueueHeartbeatTracker queueHeartbeatTracker;
+
+    public QueueShardProcessor(QueueTokenRepository queueTokenRepository,
+                               QueueWatermarkRepository queueWatermarkRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               QueueHeartbeatTracker queueHeartbeatTracker) {
+        this.queueTokenRepository = queueTokenRepository;
+        this.queueWatermarkRepository = queueWatermarkRepository;
+        this.eventPublisher = eventPublisher;
+        this.queueHeartbeatTracker = queueHeartbeatTracker;
+    }
+
+    /**
+     * 만료 시각이 지난 활성 토큰과 활동이 끊긴 토큰을 일괄 만료하고 상태별 만료 수 반환
+     */
+    @Transactional
+    public ExpiryBatch expire(String queueName, LocalDateTime now) {
+        int timedOut = queueTokenRepository.expireActiveTokens(queueName, now);
+        // 떠난 사용자의 대기 토큰은 이어지는 입장 처리에서 건너뛰고, 유휴 활성 토큰은 슬롯을 반환
+        ExpiryBatch evicted = queueHeartbeatTracker.evictSilentTokens(queueName, now);
+
+        return new ExpiryBatch(0, timedOut).plus(evicted);
+    }
+
+    /**
+     * 대기 토큰을 도착 순서대로 일괄 활성화하고 워터마크 이동
+     */
+    @Transactional
+    public AdmissionBatch admit(String queueName, int count, LocalDateTime activatedAt, LocalDateTime expiresAt) {
+        AdmissionBatch batch = queueTokenRepository.activateNextWaitingTokens(queueName, count, activatedAt, expiresAt);
+
+        // 대기 토큰들의 순위는 워터마크로 계산되므로 개별 갱신 불필요
+        if (!batch.isEmpty()) {
+            queueWatermarkRepository.advanceAdmittedSequence(queueName, batch.getLastAdmittedSequence());
+
+            // 대기 중인 구독자들에게 순위/입장 변경 전파 (커밋 이후 QueuePositionBroadcaster 에서 처리)
+            eventPublisher.publishEvent(new QueueManagementUseCase.QueueAdmittedEvent(
+                    queueName, batch.getAdmittedCount(), batch.getLastAdmittedSequence(), expiresAt));
+        }
+        return batch;
+    }
+}
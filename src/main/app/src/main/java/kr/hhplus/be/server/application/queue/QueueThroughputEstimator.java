@@ -0,0 +1,135 @@
+package kr.hhplus.be.server.application.queue;
+
+import kr.hhplus.be.server.domain.queue.QueueThroughput;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대기열(샤드)별 입장 처리량 추정기
+ *
+ * 입장 워터마크의 이동량을 일정 구간(window) 단위로 표본화해 처리량의 EWMA 평균/분산을 유지한다.
+ * - 같은 노드의 입장 이벤트와, 상태 조회/SSE 폴링에서 읽은 워터마크를 모두 관측값으로 사용 (다른 노드에서도 수렴)
+ * - 조회는 마지막으로 계산된 불변 스냅샷을 돌려주므로 상태 조회마다 호출해도 비용이 거의 없다
+ * - 표본이 부족하면 고정 처리량(default-rate-per-minute)으로 계산
+ */
+@Component
+public class QueueThroughputEstimator {
+
+    private final Map<String, RateWindow> windows = new ConcurrentHashMap<>();
+
+    private final QueueThroughput defaultThroughput;
+    private final long windowNanos;
+    private final long halfLifeNanos;
+    private final int minSamples;
+    private final double confidenceZ;
+    private final double minRatePerMinute;
+
+    public QueueThroughputEstimator(@Value("${queue.eta.default-rate-per-minute:10}") double defaultRatePerMinute,
+                                    @Value("${queue.eta.window-ms:5000}") long windowMillis,
+                                    @Value("${queue.eta.half-life-seconds:60}") long halfLifeSeconds,
+                                    @Value("${queue.eta.min-samples:3}") int minSamples,
+                                    @Value("${queue.eta.confidence-z:1.96}") double confidenceZ,
+                                    @Value("${queue.eta.min-rate-per-minute:1}") double minRatePerMinute) {
+        this.defaultThroughput = QueueThroughput.fixed(defaultRatePerMinute);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+        this.halfLifeNanos = TimeUnit.SECONDS.toNanos(halfLifeSeconds);
+        this.minSamples = minSamples;
+        this.confidenceZ = confidenceZ;
+        this.minRatePerMinute = minRatePerMinute;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onQueueAdmitted(QueueManagementUseCase.QueueAdmittedEvent event) {
+        observe(event.getQueueName(), event.getAdmittedSequence());
+    }
+
+    /**
+     * 대기열의 현재 입장 워터마크 관측
+     */
+    public void observe(String queueName, long admittedSequence) {
+        observe(queueName, admittedSequence, System.nanoTime());
+    }
+
+    void observe(String queueName, long admittedSequence, long nowNanos) {
+        windows.computeIfAbsent(queueName, name -> new RateWindow(nowNanos)).observe(admittedSequence, nowNanos);
+    }
+
+    public QueueThroughput getThroughput(String queueName) {
+        RateWindow window = windows.get(queueName);
+        QueueThroughput throughput = window != null ? window.throughput : null;
+        return throughput != null ? throughput : defaultThroughput;
+    }
+
+    /**
+     * 오랫동안 관측되지 않은(종료된 공연 등) 대기열의 추정값 정리
+     */
+    @Scheduled(fixedDelayString = "${queue.eta.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        windows.values().removeIf(window -> now - window.lastObservedNanos > halfLifeNanos * 10);
+    }
+
+    private class RateWindow {
+        private long sampleStartNanos;
+        private long sampleStartSequence = -1; // 첫 관측은 기준점으로만 사용
+        private long lastSequence = -1;
+        private volatile long lastObservedNanos;
+
+        private double mean;     // 분당 입장 수 EWMA
+        private double variance; // 분당 입장 수 EWMA 분산
+        private int samples;
+
+        private volatile QueueThroughput throughput;
+
+        private RateWindow(long nowNanos) {
+            this.sampleStartNanos = nowNanos;
+            this.lastObservedNanos = nowNanos;
+        }
+
+        private synchronized void observe(long admittedSequence, long nowNanos) {
+            lastObservedNanos = nowNanos;
+
+            // 워터마크가 뒤로 간 경우(저장소 초기화 등) 기준점부터 다시 시작
+            if (sampleStartSequence < 0 || admittedSequence < lastSequence) {
+                sampleStartSequence = admittedSequence;
+                sampleStartNanos = nowNanos;
+                lastSequence = admittedSequence;
+                return;
+            }
+            lastSequence = admittedSequence;
+
+            long elapsedNanos = nowNanos - sampleStartNanos;
+            if (elapsedNanos < windowNanos) {
+                return;
+            }
+
+            double sample = (lastSequence - sampleStartSequence) * (double) TimeUnit.MINUTES.toNanos(1) / elapsedNanos;
+            // 관측 간격이 불규칙하므로 경과 시간에 비례한 가중치 (반감기 기준)
+            double alpha = samples == 0 ? 1.0 : 1 - Math.pow(0.5, (double) elapsedNanos / halfLifeNanos);
+            double diff = sample - mean;
+            mean += alpha * diff;
+            variance = (1 - alpha) * (variance + alpha * diff * diff);
+            samples++;
+
+            sampleStartSequence = lastSequence;
+            sampleStartNanos = nowNanos;
+
+            if (samples >= minSamples) {
+                double margin = confidenceZ * Math.sqrt(variance);
+                double rate = Math.max(mean, minRatePerMinute);
+                throughput = new QueueThroughput(
+                        rate,
+                        Math.max(mean - margin, minRatePerMinute),
+                        Math.max(mean + margin, rate)
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.application.queue;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 종료 토큰 보관 처리기
+ *
+ * 완료/만료된 지 retention-minutes 가 지난 토큰을 chunk-size 단위 트랜잭션으로 보관 테이블에 옮긴다.
+ * 한 번 실행에 최대 max-chunks-per-run 묶음까지만 처리해 입장 처리와 DB 를 오래 다투지 않도록 하고, 남은 토큰은 다음 실행에서 이어서 처리한다.
+ * 실행별 이동 건수/소요 시간은 queue.archive.* 메트릭으로 노출된다.
+ */
+@Component
+public class QueueTokenArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(QueueTokenArchiver.class);
+
+    private final QueueTokenRepository queueTokenRepository;
+    private final SchedulerLeaderElection leaderElection;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long retentionMinutes;
+
+    private final Timer runTimer;
+    private final DistributionSummary tokensPerRun;
+    private final Counter archivedTokens;
+    private final Counter failures;
+
+    public QueueTokenArchiver(QueueTokenRepository queueTokenRepository,
+                              SchedulerLeaderElection leaderElection,
+                              MeterRegistry meterRegistry,
+                              @Value("${queue.archive.chunk-size:500}") int chunkSize,
+                              @Value("${queue.archive.max-chunks-per-run:20}") int maxChunksPerRun,
+                              @Value("${queue.archive.retention-minutes:10}") long retentionMinutes) {
+        this.queueTokenRepository = queueTokenRepository;
+        this.leaderElection = leaderElection;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.retentionMinutes = retentionMinutes;
+
+        this.runTimer = Timer.builder("queue.archive.run")
+                .description("Duration of one terminal token archive run")
+                .register(meterRegistry);
+        this.tokensPerRun = DistributionSummary.builder("queue.archive.run.tokens")
+                .description("Terminal tokens archived per run")
+                .register(meterRegistry);
+        this.archivedTokens = Counter.builder("queue.archive.tokens").register(meterRegistry);
+        this.failures = Counter.builder("queue.archive.failures").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${queue.archive.interval-ms:10000}")
+    public void sweep() {
+        if (leaderElection.isLeader()) {
+            archive();
+        }
+    }
+
+    /**
+     * 보관 대상이 없거나 실행당 최대 묶음 수에 도달할 때까지 이동
+     *
+     * @return 이번 실행에서 이동한 토큰 수
+     */
+    public int archive() {
+        // 종료 직후의 토큰은 상태 조회/SSE 최종 응답에 쓰일 수 있으므로 보관 유예
+        LocalDateTime terminatedBefore = LocalDateTime.now().minusMinutes(retentionMinutes);
+        long startedAt = System.nanoTime();
+        int total = 0;
+        int chunks = 0;
+
+        try {
+            while (chunks < maxChunksPerRun) {
+                int archived = queueTokenRepository.archiveTerminalTokens(terminatedBefore, chunkSize);
+                total += archived;
+                chunks++;
+                if (archived < chunkSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            failures.increment();
+            logger.error("Queue token archive failed after {} tokens", total, e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startedAt;
+            runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            tokensPerRun.record(total);
+            archivedTokens.increment(total);
+            if (total > 0) {
+                logger.info("Archived queue tokens: count={}, chunks={}, elapsedMs={}",
+                        total, chunks, elapsedNanos / 1_000_000);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,127 @@
+package kr.hhplus.be.server.application.queue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.QueueWatermark;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Queue-Token 헤더 검증용 JVM 로컬 캐시
+ *
+ * 활성 토큰은 만료 시각(expiresAt)까지, 대기 토큰은 상태가 곧 바뀔 수 있으므로 짧게 보관한다.
+ * 다른 노드에서 완료된 토큰은 로컬 무효화가 전파되지 않으므로 최대 보관 시간(maxTtl)으로 지연을 제한한다.
+ * 적중/미적중 수치는 cache.gets{cache=queue.token.cache} 메트릭으로 노출된다.
+ */
+@Component
+public class QueueTokenCache {
+
+    private final Cache<String, TokenState> cache;
+    private final Duration maxTtl;
+    private final Duration waitingTtl;
+
+    public QueueTokenCache(MeterRegistry meterRegistry,
+                           @Value("${queue.token-cache.maximum-size:100000}") long maximumSize,
+                           @Value("${queue.token-cache.max-ttl-seconds:60}") long maxTtlSeconds,
+                           @Value("${queue.token-cache.waiting-ttl-seconds:5}") long waitingTtlSeconds) {
+        this.maxTtl = Duration.ofSeconds(maxTtlSeconds);
+        this.waitingTtl = Duration.ofSeconds(waitingTtlSeconds);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "queue.token.cache");
+    }
+
+    public TokenState get(String tokenUuid) {
+        return cache.getIfPresent(tokenUuid);
+    }
+
+    public TokenState put(QueueToken token) {
+        TokenState tokenState = new TokenState(
+                token.getTokenUuid(),
+                token.getUserId(),
+                token.getQueueName(),
+                token.getTokenStatus(),
+                token.getExpiresAt()
+        );
+        cache.put(token.getTokenUuid(), tokenState);
+        return tokenState;
+    }
+
+    public void invalidate(String tokenUuid) {
+        cache.invalidate(tokenUuid);
+    }
+
+    private long ttlNanos(TokenState token) {
+        if (token.getStatus() != QueueToken.TokenStatus.ACTIVE || token.getExpiresAt() == null) {
+            return waitingTtl.toNanos();
+        }
+
+        Duration untilExpiry = Duration.between(LocalDateTime.now(), token.getExpiresAt());
+        if (untilExpiry.isNegative()) {
+            return 0;
+        }
+        return Math.min(untilExpiry.toNanos(), maxTtl.toNanos());
+    }
+
+    private class TokenExpiry implements Expiry<String, TokenState> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenState value, long currentTime) {
+            return ttlNanos(value);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenState value, long currentTime, long currentDuration) {
+            return ttlNanos(value);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenState value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+
+    public static class TokenState {
+        private final String tokenUuid;
+        private final Long userId;
+        private final String queueName;
+        private final QueueToken.TokenStatus status;
+        private final LocalDateTime expiresAt;
+
+        public TokenState(String tokenUuid, Long userId, String queueName,
+                          QueueToken.TokenStatus status, LocalDateTime expiresAt) {
+            this.tokenUuid = tokenUuid;
+            this.userId = userId;
+            this.queueName = queueName;
+            this.status = status;
+            this.expiresAt = expiresAt;
+        }
+
+        public boolean isActive() {
+            return status == QueueToken.TokenStatus.ACTIVE
+                    && (expiresAt == null || LocalDateTime.now().isBefore(expiresAt));
+        }
+
+        // 스케줄별 대기열에서 입장한 토큰은 해당 스케줄만 예약 가능
+        public boolean allowsSchedule(Long scheduleId) {
+            return QueueWatermark.allowsSchedule(queueName, scheduleId);
+        }
+
+        public String getTokenUuid() { return tokenUuid; }
+        public Long getUserId() { return userId; }
+        public String getQueueName() { return queueName; }
+        public QueueToken.TokenStatus getStatus() { return status; }
+        public LocalDateTime getExpiresAt() { return expiresAt; }
+    }
+}
@@ -0,0 +1,125 @@
+package kr.hhplus.be.server.application.queue;
+
+import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.SignedQueueToken;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import kr.hhplus.be.server.infrastructure.queue.HmacQueueTokenSigner;
+import kr.hhplus.be.server.infrastructure.queue.QueueTokenRevocationList;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Queue-Token 헤더 검증
+ *
+ * 1. 서명 토큰(v1.*): 서명/만료/폐기 여부만 CPU 에서 확인 (저장소 조회 없음)
+ * 2. UUID 토큰: 로컬 캐시 우선, 미적중 시에만 저장소 조회
+ */
+@Component
+public class QueueTokenVerifier {
+
+    private final QueueTokenRepository queueTokenRepository;
+    private final QueueTokenCache queueTokenCache;
+    private final HmacQueueTokenSigner tokenSigner;
+    private final QueueTokenRevocationList revocationList;
+    private final QueueHeartbeatTracker queueHeartbeatTracker;
+
+    public QueueTokenVerifier(QueueTokenRepository queueTokenRepository,
+                              QueueTokenCache queueTokenCache,
+                              HmacQueueTokenSigner tokenSigner,
+                              QueueTokenRevocationList revocationList,
+                              QueueHeartbeatTracker queueHeartbeatTracker) {
+        this.queueTokenRepository = queueTokenRepository;
+        this.queueTokenCache = queueTokenCache;
+        this.tokenSigner = tokenSigner;
+        this.revocationList = revocationList;
+        this.queueHeartbeatTracker = queueHeartbeatTracker;
+    }
+
+    /**
+     * 유효한(대기 또는 활성) 토큰인지 검증
+     *
+     * 토큰을 사용한 요청은 소유자의 활동으로 기록한다.
+     */
+    public QueueTokenCache.TokenState validate(String headerValue) {
+        QueueTokenCache.TokenState state = verify(headerValue);
+        queueHeartbeatTracker.touch(state.getQueueName(), state.getTokenUuid());
+        return state;
+    }
+
+    /**
+     * 활성 토큰인지 검증 (예약/결제용)
+     */
+    public QueueTokenCache.TokenState requireActive(String headerValue) {
+        QueueTokenCache.TokenState state = validate(headerValue);
+
+        // 캐시된 대기 상태는 그 사이 입장했을 수 있으므로 저장소에서 다시 확인
+        if (!state.isActive() && !tokenSigner.isSigned(headerValue)) {
+            state = load(headerValue);
+        }
+
+        if (!state.isActive()) {
+            throw new IllegalStateException("Token is not active");
+        }
+        return state;
+    }
+
+    /**
+     * 완료/만료된 토큰을 캐시와 서명 토큰 검증에서 모두 제외
+     */
+    public void revoke(String tokenUuid, LocalDateTime expiresAt) {
+        queueTokenCache.invalidate(tokenUuid);
+        revocationList.revoke(tokenUuid, expiresAt);
+    }
+
+    /**
+     * 활동이 없어 만료된 활성 토큰을 이 노드의 캐시에서 제거하고 모든 노드에 폐기 전파
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTokensEvicted(QueueHeartbeatTracker.QueueTokensEvictedEvent event) {
+        // 원래 만료 시각을 알 수 없으므로 폐기 목록의 기본 보관 시간 사용
+        event.getTokenUuids().forEach(tokenUuid -> revoke(tokenUuid, null));
+    }
+
+    private QueueTokenCache.TokenState verify(String headerValue) {
+        if (tokenSigner.isSigned(headerValue)) {
+            return verifySigned(headerValue);
+        }
+
+        QueueTokenCache.TokenState cached = queueTokenCache.get(headerValue);
+        if (cached != null && !revocationList.isRevoked(headerValue)) {
+            return cached;
+        }
+        return load(headerValue);
+    }
+
+    private QueueTokenCache.TokenState verifySigned(String headerValue) {
+        SignedQueueToken signed = tokenSigner.verify(headerValue)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid token"));
+
+        if (!signed.isActive(LocalDateTime.now()) || revocationList.isRevoked(signed.getTokenUuid())) {
+            throw new IllegalStateException("Token is no longer valid");
+        }
+
+        return new QueueTokenCache.TokenState(
+                signed.getTokenUuid(),
+                signed.getUserId(),
+                signed.getQueueName(),
+                signed.getStatus(),
+                signed.getExpiresAt()
+        );
+    }
+
+    private QueueTokenCache.TokenState load(String tokenUuid) {
+        QueueToken token = queueTokenRepository.findByTokenUuid(tokenUuid)
+                .orElseThrow(() -> new IllegalArgumentException("Token not found"));
+
+        if (token.isExpired() || token.getTokenStatus() == QueueToken.TokenStatus.COMPLETED) {
+            throw new IllegalStateException("Token is no longer valid");
+        }
+
+        return queueTokenCache.put(token);
+    }
+}
@@ -0,0 +1,89 @@
+package kr.hhplus.be.server.application.scheduling;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 해시 타이머 바퀴
+ *
+ * 만료 시각을 tick 단위로 올림하여 (tick % 바퀴 크기) 칸에 넣고, advance 때 지나간 칸만 확인한다.
+ * 등록/취소는 O(1), 한 번의 advance 는 지나간 칸 수(최대 바퀴 크기)와 그 칸의 항목 수에 비례한다.
+ * 바퀴 한 바퀴보다 먼 항목은 같은 칸에 머물다가 자신의 tick 이 지난 뒤에 꺼내진다.
+ * 같은 항목을 다시 등록하면 만료 시각이 갱신된다 (중복 등록 없음).
+ */
+public class HashedTimerWheel<T> {
+
+    private final long tickMillis;
+    private final List<Set<T>> slots;
+    private final Map<T, Long> ticks = new HashMap<>(); // 항목별 만료 tick
+    private long currentTick; // 마지막으로 처리한 tick
+
+    public HashedTimerWheel(long tickMillis, int wheelSize, long nowMillis) {
+        this.tickMillis = Math.max(1, tickMillis);
+        this.slots = new ArrayList<>(Math.max(1, wheelSize));
+        for (int i = 0; i < Math.max(1, wheelSize); i++) {
+            slots.add(new LinkedHashSet<>());
+        }
+        this.currentTick = Math.floorDiv(nowMillis, this.tickMillis);
+    }
+
+    /**
+     * dueMillis 이후 첫 tick 에 꺼내지도록 등록 (이미 지난 시각이면 다음 tick)
+     */
+    public synchronized void schedule(T item, long dueMillis) {
+        long tick = Math.max(Math.floorDiv(dueMillis + tickMillis - 1, tickMillis), currentTick + 1);
+        Long previous = ticks.put(item, tick);
+        if (previous != null) {
+            if (previous == tick) {
+                return;
+            }
+            slot(previous).remove(item);
+        }
+        slot(tick).add(item);
+    }
+
+    public synchronized boolean cancel(T item) {
+        Long tick = ticks.remove(item);
+        return tick != null && slot(tick).remove(item);
+    }
+
+    /**
+     * nowMillis 까지 지나간 칸에서 만료된 항목을 꺼냄
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> due = new ArrayList<>();
+        if (targetTick <= currentTick) {
+            return due;
+        }
+
+        // 한 바퀴 이상 밀렸으면 모든 칸을 한 번씩만 확인
+        long steps = Math.min(targetTick - currentTick, slots.size());
+        for (long tick = targetTick - steps + 1; tick <= targetTick; tick++) {
+            Iterator<T> iterator = slot(tick).iterator();
+            while (iterator.hasNext()) {
+                T item = iterator.next();
+                if (ticks.get(item) <= targetTick) {
+                    iterator.remove();
+                    ticks.remove(item);
+                    due.add(item);
+                }
+            }
+        }
+        currentTick = targetTick;
+        return due;
+    }
+
+    public synchronized int size() {
+        return ticks.size();
+    }
+
+    private Set<T> slot(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+}
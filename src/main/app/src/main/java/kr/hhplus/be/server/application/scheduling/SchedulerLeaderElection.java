@@ -0,0 +1,122 @@
+package kr.hhplus.be.server.application.scheduling;
+
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.scheduling.repository.SchedulerLeaseRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * 임대(lease) 기반 스케줄러 리더 선출
+ *
+ * 모든 노드가 갱신 주기마다 임대 획득/연장을 시도하고, 임대를 보유한 한 노드만 주기 작업(입장 처리, 아웃박스 발행)을 실행한다.
+ * - 리더가 죽으면 임대 만료 후 다음 갱신 주기에 다른 노드가 이어받는다 (정상 종료 시에는 즉시 반납)
+ * - 갱신이 지연되면 로컬 기준으로 임대 만료 전에 스스로 리더를 내려놓아 두 노드가 동시에 리더가 되지 않도록 한다
+ */
+@Component
+public class SchedulerLeaderElection {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchedulerLeaderElection.class);
+
+    static final String LEASE_NAME = "scheduler-leader";
+
+    private final SchedulerLeaseRepository schedulerLeaseRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration leaseTime;
+    private final String nodeId;
+
+    private volatile long leaderUntilNanos; // 로컬 기준 임대 유효 시각 (획득 요청 직전 시각 + 임대 시간)
+    private volatile boolean leader;
+
+    public SchedulerLeaderElection(SchedulerLeaseRepository schedulerLeaseRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${scheduler.lease.lease-time-ms:3000}") long leaseTimeMillis) {
+        this.schedulerLeaseRepository = schedulerLeaseRepository;
+        this.eventPublisher = eventPublisher;
+        this.leaseTime = Duration.ofMillis(leaseTimeMillis);
+        this.nodeId = hostName() + ":" + UUID.randomUUID();
+    }
+
+    /**
+     * 임대 획득/연장 (갱신 주기는 임대 시간보다 충분히 짧아야 함)
+     */
+    @Scheduled(fixedDelayString = "${scheduler.lease.renew-interval-ms:1000}")
+    public void renew() {
+        long requestedAt = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = schedulerLeaseRepository.tryAcquire(LEASE_NAME, nodeId, leaseTime);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to renew scheduler lease: nodeId={}", nodeId, e);
+            acquired = false;
+        }
+
+        if (acquired) {
+            leaderUntilNanos = requestedAt + leaseTime.toNanos();
+        }
+        updateLeadership(acquired);
+    }
+
+    /**
+     * 현재 노드가 리더인지 (마지막 갱신이 로컬 기준으로 아직 유효한 경우만)
+     */
+    public boolean isLeader() {
+        return leader && System.nanoTime() - leaderUntilNanos < 0;
+    }
+
+    @PreDestroy
+    public void release() {
+        if (!leader) {
+            return;
+        }
+        updateLeadership(false);
+        try {
+            schedulerLeaseRepository.release(LEASE_NAME, nodeId);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to release scheduler lease: nodeId={}", nodeId, e);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private synchronized void updateLeadership(boolean acquired) {
+        if (leader == acquired) {
+            return;
+        }
+        leader = acquired;
+        logger.info("Scheduler leadership {}: nodeId={}", acquired ? "acquired" : "lost", nodeId);
+        eventPublisher.publishEvent(new LeadershipChangedEvent(nodeId, acquired));
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+
+    // 리더 획득/상실 이벤트
+    public static class LeadershipChangedEvent {
+        private final String nodeId;
+        private final boolean leader;
+
+        public LeadershipChangedEvent(String nodeId, boolean leader) {
+            this.nodeId = nodeId;
+            this.leader = leader;
+        }
+
+        public String getNodeId() { return nodeId; }
+        public boolean isLeader() { return leader; }
+    }
+}
@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.config;
+
+import kr.hhplus.be.server.controller.concert.QueueTokenInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final QueueTokenInterceptor queueTokenInterceptor;
+
+    public WebConfig(QueueTokenInterceptor queueTokenInterceptor) {
+        this.queueTokenInterceptor = queueTokenInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queueTokenInterceptor)
+                .addPathPatterns(
+                        "/api/concerts/schedules/**",
+                        "/api/concerts/reservations/**",
+                        "/api/concerts/payments/**"
+                );
+    }
+}
@@ -1,9 +1,13 @@
 package kr.hhplus.be.server.controller.concert;
 
+import kr.hhplus.be.server.application.concert.BestAvailableSeatAllocator;
 import kr.hhplus.be.server.application.concert.ReservationUseCase;
 import kr.hhplus.be.server.application.queue.QueueManagementUseCase;
+import kr.hhplus.be.server.application.queue.QueuePositionBroadcaster;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -13,18 +17,25 @@ import java.util.List;
 public class ConcertController {
 
     private final ReservationUseCase reservationUseCase;
+    private final BestAvailableSeatAllocator bestAvailableSeatAllocator;
     private final QueueManagementUseCase queueManagementUseCase;
+    private final QueuePositionBroadcaster queuePositionBroadcaster;
 
     public ConcertController(ReservationUseCase reservationUseCase,
-                           QueueManagementUseCase queueManagementUseCase) {
+                           BestAvailableSeatAllocator bestAvailableSeatAllocator,
+                           QueueManagementUseCase queueManagementUseCase,
+                           QueuePositionBroadcaster queuePositionBroadcaster) {
         this.reservationUseCase = reservationUseCase;
+        this.bestAvailableSeatAllocator = bestAvailableSeatAllocator;
         this.queueManagementUseCase = queueManagementUseCase;
+        this.queuePositionBroadcaster = queuePositionBroadcaster;
     }
 
     @PostMapping("/queue/token")
     public ResponseEntity<QueueManagementUseCase.QueueTokenResult> issueQueueToken(
             @RequestBody IssueTokenRequest request) {
-        QueueManagementUseCase.QueueTokenResult result = queueManagementUseCase.issueToken(request.getUserId());
+        QueueManagementUseCase.QueueTokenResult result = queueManagementUseCase.issueToken(
+                request.getUserId(), request.getScheduleId());
         return ResponseEntity.ok(result);
     }
 
@@ -35,23 +46,22 @@ public class ConcertController {
         return ResponseEntity.ok(result);
     }
 
-    @GetMapping("/schedules")
-    public ResponseEntity<List<ReservationUseCase.AvailableScheduleInfo>> getAvailableSchedules(
-            @RequestHeader("Queue-Token") String tokenUuid) {
-        // 토큰 유효성 검증
-        queueManagementUseCase.getQueueStatus(tokenUuid);
+    // 폴링 대신 순위/예상 대기 시간 변경과 입장 시점을 SSE 로 수신
+    @GetMapping(value = "/queue/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamQueueStatus(@RequestParam String tokenUuid) {
+        return queuePositionBroadcaster.subscribe(tokenUuid);
+    }
 
+    // Queue-Token 헤더 검증은 QueueTokenInterceptor 에서 수행
+    @GetMapping("/schedules")
+    public ResponseEntity<List<ReservationUseCase.AvailableScheduleInfo>> getAvailableSchedules() {
         List<ReservationUseCase.AvailableScheduleInfo> schedules = reservationUseCase.getAvailableSchedules();
         return ResponseEntity.ok(schedules);
     }
 
     @GetMapping("/schedules/{scheduleId}/seats")
     public ResponseEntity<List<ReservationUseCase.AvailableSeatInfo>> getAvailableSeats(
-            @PathVariable Long scheduleId,
-            @RequestHeader("Queue-Token") String tokenUuid) {
-        // 토큰 유효성 검증
-        queueManagementUseCase.getQueueStatus(tokenUuid);
-
+            @PathVariable Long scheduleId) {
         List<ReservationUseCase.AvailableSeatInfo> seats = reservationUseCase.getAvailableSeats(scheduleId);
         return ResponseEntity.ok(seats);
     }
@@ -72,6 +82,41 @@ public class ConcertController {
         return ResponseEntity.ok(result);
     }
 
+    // 여러 좌석을 한 요청으로 예약 (전부 성공하거나 전부 실패)
+    @PostMapping("/reservations/seats")
+    public ResponseEntity<ReservationUseCase.SeatsReservationResult> reserveSeats(
+            @RequestHeader("Queue-Token") String tokenUuid,
+            @RequestBody ReserveSeatsRequest request) {
+
+        ReservationUseCase.ReserveSeatsCommand command = new ReservationUseCase.ReserveSeatsCommand(
+                tokenUuid,
+                request.getUserId(),
+                request.getSeatIds(),
+                request.getPrice()
+        );
+
+        ReservationUseCase.SeatsReservationResult result = reservationUseCase.reserveSeats(command);
+        return ResponseEntity.ok(result);
+    }
+
+    // 좌석을 지정하지 않고 등급과 좌석 수만으로 가장 좋은 연속 좌석 배정
+    @PostMapping("/reservations/best-available")
+    public ResponseEntity<ReservationUseCase.SeatsReservationResult> reserveBestAvailable(
+            @RequestHeader("Queue-Token") String tokenUuid,
+            @RequestBody ReserveBestSeatsRequest request) {
+
+        BestAvailableSeatAllocator.ReserveBestSeatsCommand command = new BestAvailableSeatAllocator.ReserveBestSeatsCommand(
+                tokenUuid,
+                request.getUserId(),
+                request.getScheduleId(),
+                request.getSeatGrade(),
+                request.getCount()
+        );
+
+        ReservationUseCase.SeatsReservationResult result = bestAvailableSeatAllocator.reserveBestAvailable(command);
+        return ResponseEntity.ok(result);
+    }
+
     @PostMapping("/payments")
     public ResponseEntity<ReservationUseCase.PaymentResult> processPayment(
             @RequestHeader("Queue-Token") String tokenUuid,
@@ -96,9 +141,13 @@ public class ConcertController {
     // Request DTOs
     public static class IssueTokenRequest {
         private Long userId;
+        private Long scheduleId; // 선택: 지정 시 스케줄별 대기열에 입장
 
         public Long getUserId() { return userId; }
         public void setUserId(Long userId) { this.userId = userId; }
+
+        public Long getScheduleId() { return scheduleId; }
+        public void setScheduleId(Long scheduleId) { this.scheduleId = scheduleId; }
     }
 
     public static class ReserveSeatRequest {
@@ -116,6 +165,40 @@ public class ConcertController {
         public void setPrice(BigDecimal price) { this.price = price; }
     }
 
+    public static class ReserveSeatsRequest {
+        private Long userId;
+        private List<Long> seatIds;
+        private BigDecimal price; // 좌석당 가격
+
+        public Long getUserId() { return userId; }
+        public void setUserId(Long userId) { this.userId = userId; }
+
+        public List<Long> getSeatIds() { return seatIds; }
+        public void setSeatIds(List<Long> seatIds) { this.seatIds = seatIds; }
+
+        public BigDecimal getPrice() { return price; }
+        public void setPrice(BigDecimal price) { this.price = price; }
+    }
+
+    public static class ReserveBestSeatsRequest {
+        private Long userId;
+        private Long scheduleId;
+        private String seatGrade;
+        private int count;
+
+        public Long getUserId() { return userId; }
+        public void setUserId(Long userId) { this.userId = userId; }
+
+        public Long getScheduleId() { return scheduleId; }
+        public void setScheduleId(Long scheduleId) { this.scheduleId = scheduleId; }
+
+        public String getSeatGrade() { return seatGrade; }
+        public void setSeatGrade(String seatGrade) { this.seatGrade = seatGrade; }
+
+        public int getCount() { return count; }
+        public void setCount(int count) { this.count = count; }
+    }
+
     public static class ProcessPaymentRequest {
         private Long userId;
         private Long reservationId;
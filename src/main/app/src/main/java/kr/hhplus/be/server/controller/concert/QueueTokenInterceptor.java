@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.controller.concert;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kr.hhplus.be.server.application.queue.QueueTokenVerifier;
+import kr.hhplus.be.server.application.queue.QueueTokenCache;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 대기열 토큰이 필요한 API 의 Queue-Token 헤더 검증
+ *
+ * 검증된 토큰은 요청 속성(VALIDATED_TOKEN_ATTRIBUTE)에 담아 컨트롤러에서 재조회 없이 사용할 수 있게 한다.
+ */
+@Component
+public class QueueTokenInterceptor implements HandlerInterceptor {
+
+    public static final String QUEUE_TOKEN_HEADER = "Queue-Token";
+    public static final String VALIDATED_TOKEN_ATTRIBUTE = "validatedQueueToken";
+
+    private final QueueTokenVerifier queueTokenVerifier;
+
+    public QueueTokenInterceptor(QueueTokenVerifier queueTokenVerifier) {
+        this.queueTokenVerifier = queueTokenVerifier;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String headerValue = request.getHeader(QUEUE_TOKEN_HEADER);
+        if (headerValue == null || headerValue.isBlank()) {
+            throw new IllegalArgumentException("Queue-Token header is required");
+        }
+
+        QueueTokenCache.TokenState token = queueTokenVerifier.validate(headerValue);
+        request.setAttribute(VALIDATED_TOKEN_ATTRIBUTE, token);
+        return true;
+    }
+}
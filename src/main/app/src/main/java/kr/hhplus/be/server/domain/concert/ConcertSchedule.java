@@ -27,6 +27,7 @@ public class ConcertSchedule {
     @Column(name = "total_seats", nullable = false)
     private Integer totalSeats = 50; // 기본값 50석
 
+    // 예약/만료 시 원자적 UPDATE 로만 변경하고 주기적으로 seats 테이블과 맞춤 (엔티티로 고치면 동시 예약 간 갱신 유실)
     @Column(name = "available_seats", nullable = false)
     private Integer availableSeats = 50;
 
@@ -70,18 +71,6 @@ public class ConcertSchedule {
         return availableSeats > 0;
     }
 
-    public void decreaseAvailableSeats() {
-        if (availableSeats > 0) {
-            this.availableSeats--;
-        }
-    }
-
-    public void increaseAvailableSeats() {
-        if (availableSeats < totalSeats) {
-            this.availableSeats++;
-        }
-    }
-
     public Long getScheduleId() {
         return scheduleId;
     }
@@ -5,7 +5,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+    @Index(name = "idx_reservation_status_expires", columnList = "reservation_status, expires_at")
+})
 public class Reservation {
 
     @Id
@@ -46,12 +48,16 @@ public class Reservation {
     }
 
     public Reservation(Long userId, Seat seat, BigDecimal price) {
+        this(userId, seat, price, 5); // 5분 임시 예약
+    }
+
+    public Reservation(Long userId, Seat seat, BigDecimal price, int temporaryReservationMinutes) {
         this.userId = userId;
         this.seat = seat;
         this.price = price;
         this.reservationStatus = ReservationStatus.TEMPORARY;
         this.reservedAt = LocalDateTime.now();
-        this.expiresAt = LocalDateTime.now().plusMinutes(5); // 5분 임시 예약
+        this.expiresAt = LocalDateTime.now().plusMinutes(temporaryReservationMinutes);
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.domain.concert;
+
+import java.time.LocalDateTime;
+
+/**
+ * 임시 예약(좌석 점유)과 만료 시각
+ */
+public class ReservationHold {
+
+    private final Long reservationId;
+    private final Long seatId;
+    private final Long scheduleId;
+    private final LocalDateTime expiresAt;
+
+    public ReservationHold(Long reservationId, Long seatId, Long scheduleId, LocalDateTime expiresAt) {
+        this.reservationId = reservationId;
+        this.seatId = seatId;
+        this.scheduleId = scheduleId;
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getReservationId() { return reservationId; }
+    public Long getSeatId() { return seatId; }
+    public Long getScheduleId() { return scheduleId; }
+    public LocalDateTime getExpiresAt() { return expiresAt; }
+}
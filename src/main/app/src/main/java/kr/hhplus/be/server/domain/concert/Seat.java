@@ -56,7 +56,7 @@ public class Seat {
 
     public void reserve(Long userId, int temporaryReservationMinutes) {
         if (!isAvailable()) {
-            throw new IllegalStateException("Seat is not available for reservation");
+            throw new SeatUnavailableException("Seat is not available for reservation");
         }
 
         this.seatStatus = SeatStatus.TEMPORARY_RESERVED;
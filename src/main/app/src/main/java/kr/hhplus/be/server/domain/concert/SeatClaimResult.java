@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.concert;
+
+/**
+ * 좌석 선점 시도 결과
+ */
+public enum SeatClaimResult {
+    CLAIMED,      // 새로 선점 (실패 시 해제 책임은 호출자)
+    ALREADY_HELD, // 같은 사용자가 이미 선점 중
+    TAKEN;        // 다른 사용자가 선점 중이거나 판매 완료
+
+    public boolean isGranted() {
+        return this != TAKEN;
+    }
+}
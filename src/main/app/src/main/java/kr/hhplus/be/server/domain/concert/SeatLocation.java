@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.domain.concert;
+
+/**
+ * 좌석 식별 정보 (엔티티를 영속성 컨텍스트에 올리지 않고 응답/캐시 갱신에 필요한 값만 조회)
+ */
+public class SeatLocation {
+
+    private final Long seatId;
+    private final Long scheduleId;
+    private final Integer seatNumber;
+
+    public SeatLocation(Long seatId, Long scheduleId, Integer seatNumber) {
+        this.seatId = seatId;
+        this.scheduleId = scheduleId;
+        this.seatNumber = seatNumber;
+    }
+
+    public Long getSeatId() { return seatId; }
+    public Long getScheduleId() { return scheduleId; }
+    public Integer getSeatNumber() { return seatNumber; }
+}
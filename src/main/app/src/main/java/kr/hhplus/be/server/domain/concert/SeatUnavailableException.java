@@ -0,0 +1,13 @@
+package kr.hhplus.be.server.domain.concert;
+
+/**
+ * 다른 요청이 먼저 선점/예약하여 좌석을 잡을 수 없음
+ *
+ * 요청 자체가 잘못된 경우(없는 좌석, 다른 스케줄 토큰 등)와 구분하여, 호출자가 다른 좌석으로 다시 시도할 수 있는 실패만 나타낸다.
+ */
+public class SeatUnavailableException extends IllegalStateException {
+
+    public SeatUnavailableException(String message) {
+        super(message);
+    }
+}
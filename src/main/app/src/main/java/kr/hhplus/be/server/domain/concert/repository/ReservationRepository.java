@@ -1,12 +1,26 @@
 package kr.hhplus.be.server.domain.concert.repository;
 
 import kr.hhplus.be.server.domain.concert.Reservation;
+import kr.hhplus.be.server.domain.concert.ReservationHold;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ReservationRepository {
     Reservation save(Reservation reservation);
+    <S extends Reservation> List<S> saveAll(Iterable<S> reservations);
     Optional<Reservation> findById(Long reservationId);
     List<Reservation> findByUserId(Long userId);
     List<Reservation> findExpiredTemporaryReservations();
+
+    // 만료 시각이 dueBefore 이전인 임시 예약 (만료 시각 순, 최대 limit 개)
+    List<ReservationHold> findTemporaryHoldsDueBefore(LocalDateTime dueBefore, int limit);
+
+    // 지정한 예약 중 now 기준으로 만료된 임시 예약만 취소하고 좌석을 판매 가능 상태로 되돌림 (좌석을 되돌린 예약 반환)
+    List<ReservationHold> expireTemporaryReservations(Collection<Long> reservationIds, LocalDateTime now);
+
+    // 다른 사용자가 넘겨받은 좌석에 남아 있는 임시 예약 취소 (좌석을 넘겨받은 트랜잭션 안에서 호출), 취소된 예약 수 반환
+    int cancelSupersededHolds(Collection<Long> seatIds, LocalDateTime now);
 }
\ No newline at end of file
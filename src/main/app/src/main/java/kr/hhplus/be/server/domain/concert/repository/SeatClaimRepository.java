@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.domain.concert.repository;
+
+import kr.hhplus.be.server.domain.concert.SeatClaimResult;
+
+import java.time.Duration;
+import java.util.List;
+
+public interface SeatClaimRepository {
+
+    // 좌석이 비어 있으면 holdTtl 동안 userId 로 선점 (확인과 기록을 원자적으로)
+    SeatClaimResult claim(Long seatId, Long userId, Duration holdTtl);
+
+    // 여러 좌석을 한 번에 선점 (하나라도 TAKEN 이면 아무것도 선점하지 않음), 결과는 seatIds 순서
+    List<SeatClaimResult> claimAll(List<Long> seatIds, Long userId, Duration holdTtl);
+
+    // userId 가 선점 중일 때만 해제
+    void release(Long seatId, Long userId);
+
+    // 판매 완료 좌석 표시 (이후 선점 시도는 DB 를 거치지 않고 거절)
+    void markSold(Long seatId);
+}
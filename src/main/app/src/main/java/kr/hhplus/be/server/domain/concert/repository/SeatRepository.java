@@ -1,9 +1,12 @@
 package kr.hhplus.be.server.domain.concert.repository;
 
 import kr.hhplus.be.server.domain.concert.Seat;
+import kr.hhplus.be.server.domain.concert.SeatLocation;
 import kr.hhplus.be.server.application.concert.ReservationUseCase.AvailableScheduleInfo;
 import kr.hhplus.be.server.application.concert.ReservationUseCase.AvailableSeatInfo;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +17,36 @@ public interface SeatRepository {
     List<Seat> findAvailableSeatsByScheduleId(Long scheduleId);
     List<AvailableScheduleInfo> findAvailableSchedules();
     List<AvailableSeatInfo> findAvailableSeatsByScheduleIdWithPrice(Long scheduleId);
+
+    // 판매 가능(AVAILABLE) 좌석만 한 문장으로 임시 예약 (scheduleId 가 있으면 해당 스케줄 좌석만), 변경된 행 수 반환
+    int reserveIfAvailable(Long seatId, Long scheduleId, Long userId, LocalDateTime now, LocalDateTime expiresAt);
+
+    // 여러 좌석을 한 문장으로 임시 예약 (조건에 맞는 좌석만 갱신되므로 호출자가 변경된 행 수로 전부 성공했는지 확인)
+    int reserveAllIfAvailable(Collection<Long> seatIds, Long scheduleId, Long userId, LocalDateTime now, LocalDateTime expiresAt);
+
+    // 만료 처리 전의 임시 예약 좌석을 넘겨받음 (잔여 좌석 수에서 이미 빠진 좌석이므로 호출자는 차감하지 않음), 변경된 행 수 반환
+    int takeOverExpiredHold(Long seatId, Long scheduleId, Long userId, LocalDateTime now, LocalDateTime expiresAt);
+
+    int takeOverExpiredHolds(Collection<Long> seatIds, Long scheduleId, Long userId, LocalDateTime now, LocalDateTime expiresAt);
+
+    Optional<SeatLocation> findLocationById(Long seatId);
+
+    List<SeatLocation> findLocationsByIds(Collection<Long> seatIds);
+
+    List<Seat> findAllById(Iterable<Long> seatIds);
+
+    <S extends Seat> List<S> saveAll(Iterable<S> seats);
+
+    // 조회 없이 연관관계용 참조만 생성
+    Seat getReferenceById(Long seatId);
+
+    int decreaseAvailableSeats(Long scheduleId);
+
+    int decreaseAvailableSeatsBy(Long scheduleId, int count);
+
+    // 공연 전인 스케줄 (잔여 좌석 수 재계산 대상)
+    List<Long> findUpcomingScheduleIds(LocalDateTime now);
+
+    // 잔여 좌석 수를 seats 테이블의 판매 가능 좌석 수로 맞춤 (값이 달랐으면 1 반환)
+    int reconcileAvailableSeats(Long scheduleId);
 }
\ No newline at end of file
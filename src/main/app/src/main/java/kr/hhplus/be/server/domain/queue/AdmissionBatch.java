@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.domain.queue;
+
+/**
+ * 한 번의 일괄 입장 처리 결과
+ */
+public class AdmissionBatch {
+
+    private static final AdmissionBatch EMPTY = new AdmissionBatch(0, null);
+
+    private final int admittedCount;
+    private final Long lastAdmittedSequence; // 이번에 입장한 토큰 중 마지막 도착 순번
+
+    public AdmissionBatch(int admittedCount, Long lastAdmittedSequence) {
+        this.admittedCount = admittedCount;
+        this.lastAdmittedSequence = lastAdmittedSequence;
+    }
+
+    public static AdmissionBatch empty() {
+        return EMPTY;
+    }
+
+    public boolean isEmpty() {
+        return admittedCount == 0;
+    }
+
+    public int getAdmittedCount() {
+        return admittedCount;
+    }
+
+    public Long getLastAdmittedSequence() {
+        return lastAdmittedSequence;
+    }
+}
@@ -0,0 +1,97 @@
+package kr.hhplus.be.server.domain.queue;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 입장 예산 조정용 클러스터 표본 합계
+ *
+ * 각 노드가 예약/결제 구간의 요청 수, 오류 수, 목표 지연(target-p99)을 넘은 요청 수를 주기적으로 더하고,
+ * 리더가 조정 주기마다 읽고 비운다. 느린 요청 비율이 1% 를 넘으면 클러스터 전체의 p99 가 목표를 넘은 것이다.
+ * 리더가 정한 예산도 함께 보관해 다른 노드의 통계 조회와 리더 교체 시 이어받기에 사용한다.
+ */
+@Entity
+@Table(name = "queue_admission_samples")
+public class AdmissionSamples {
+
+    public static final String CLUSTER = "cluster";
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "requests", nullable = false)
+    private long requests;
+
+    @Column(name = "errors", nullable = false)
+    private long errors;
+
+    @Column(name = "slow_requests", nullable = false)
+    private long slowRequests;
+
+    @Column(name = "budget")
+    private Integer budget;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected AdmissionSamples() {
+    }
+
+    public AdmissionSamples(long requests, long errors, long slowRequests) {
+        this.name = CLUSTER;
+        this.requests = requests;
+        this.errors = errors;
+        this.slowRequests = slowRequests;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public static AdmissionSamples empty() {
+        return new AdmissionSamples(0, 0, 0);
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 합계를 비우고 비우기 전 값을 반환 (예산은 유지)
+     */
+    public AdmissionSamples drain() {
+        AdmissionSamples drained = new AdmissionSamples(requests, errors, slowRequests);
+        this.requests = 0;
+        this.errors = 0;
+        this.slowRequests = 0;
+        return drained;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getSlowRequests() {
+        return slowRequests;
+    }
+
+    public Integer getBudget() {
+        return budget;
+    }
+
+    public void setBudget(Integer budget) {
+        this.budget = budget;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
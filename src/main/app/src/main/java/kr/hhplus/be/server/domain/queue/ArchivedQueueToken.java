@@ -0,0 +1,108 @@
+package kr.hhplus.be.server.domain.queue;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 대기열 토큰 (완료/만료)
+ *
+ * queue_tokens 에는 대기/활성 토큰만 남기고, 종료된 토큰은 이력 조회용으로 이 테이블에 옮긴다.
+ */
+@Entity
+@Table(name = "queue_token_archive", indexes = {
+    @Index(name = "idx_queue_token_archive_uuid", columnList = "token_uuid"),
+    @Index(name = "idx_queue_token_archive_user", columnList = "user_id"),
+    @Index(name = "idx_queue_token_archive_archived_at", columnList = "archived_at")
+})
+public class ArchivedQueueToken {
+
+    @Id
+    @Column(name = "token_id")
+    private Long tokenId; // queue_tokens 의 token_id 그대로 사용
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Convert(converter = QueueTokenIdConverter.class)
+    @Column(name = "token_uuid", nullable = false, columnDefinition = "BINARY(16)")
+    private String tokenUuid;
+
+    @Column(name = "queue_name", nullable = false, length = 50)
+    private String queueName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "token_status", nullable = false, length = 20)
+    private QueueToken.TokenStatus tokenStatus;
+
+    @Column(name = "queue_position", nullable = false)
+    private Long queuePosition;
+
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
+
+    @Column(name = "activated_at")
+    private LocalDateTime activatedAt;
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    protected ArchivedQueueToken() {
+    }
+
+    public Long getTokenId() {
+        return tokenId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getTokenUuid() {
+        return tokenUuid;
+    }
+
+    public String getQueueName() {
+        return queueName;
+    }
+
+    public QueueToken.TokenStatus getTokenStatus() {
+        return tokenStatus;
+    }
+
+    public Long getQueuePosition() {
+        return queuePosition;
+    }
+
+    public LocalDateTime getIssuedAt() {
+        return issuedAt;
+    }
+
+    public LocalDateTime getActivatedAt() {
+        return activatedAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package kr.hhplus.be.server.domain.queue;
+
+/**
+ * 한 번의 일괄 만료 처리 결과 (만료 직전 상태별 토큰 수)
+ */
+public class ExpiryBatch {
+
+    private static final ExpiryBatch EMPTY = new ExpiryBatch(0, 0);
+
+    private final int expiredWaitingCount;
+    private final int expiredActiveCount;
+
+    public ExpiryBatch(int expiredWaitingCount, int expiredActiveCount) {
+        this.expiredWaitingCount = expiredWaitingCount;
+        this.expiredActiveCount = expiredActiveCount;
+    }
+
+    public static ExpiryBatch empty() {
+        return EMPTY;
+    }
+
+    public ExpiryBatch plus(ExpiryBatch other) {
+        return new ExpiryBatch(expiredWaitingCount + other.expiredWaitingCount,
+                expiredActiveCount + other.expiredActiveCount);
+    }
+
+    public int getExpiredWaitingCount() {
+        return expiredWaitingCount;
+    }
+
+    public int getExpiredActiveCount() {
+        return expiredActiveCount;
+    }
+
+    public int getExpiredCount() {
+        return expiredWaitingCount + expiredActiveCount;
+    }
+}
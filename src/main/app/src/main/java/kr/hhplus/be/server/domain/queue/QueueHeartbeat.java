@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.domain.queue;
+
+import java.time.LocalDateTime;
+
+/**
+ * 토큰 소유자의 마지막 활동 시각 (상태 조회, SSE 연결, 토큰을 사용한 요청)
+ */
+public class QueueHeartbeat {
+
+    private final String tokenUuid;
+    private final LocalDateTime lastSeenAt;
+
+    public QueueHeartbeat(String tokenUuid, LocalDateTime lastSeenAt) {
+        this.tokenUuid = tokenUuid;
+        this.lastSeenAt = lastSeenAt;
+    }
+
+    public boolean isSilentSince(LocalDateTime cutoff) {
+        return lastSeenAt.isBefore(cutoff);
+    }
+
+    public String getTokenUuid() {
+        return tokenUuid;
+    }
+
+    public LocalDateTime getLastSeenAt() {
+        return lastSeenAt;
+    }
+}
@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.domain.queue;
+
+/**
+ * 대기열(샤드) 하나의 현재 부하 (만료 처리 직후 기준)
+ */
+public class QueueLoad {
+
+    private final String queueName;
+    private final long activeCount;
+    private final long waitingCount;
+
+    public QueueLoad(String queueName, long activeCount, long waitingCount) {
+        this.queueName = queueName;
+        this.activeCount = activeCount;
+        this.waitingCount = waitingCount;
+    }
+
+    // 이 대기열이 사용할 수 있는 최대 활성 슬롯 수
+    public long getDemand() {
+        return activeCount + waitingCount;
+    }
+
+    public String getQueueName() {
+        return queueName;
+    }
+
+    public long getActiveCount() {
+        return activeCount;
+    }
+
+    public long getWaitingCount() {
+        return waitingCount;
+    }
+}
@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.domain.queue;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기열 도착 순번 발급 상태
+ *
+ * 노드들은 lastValue 를 블록 크기만큼 증가시켜 순번 구간을 예약하고, 구간 안의 순번은 메모리에서 발급한다.
+ */
+@Entity
+@Table(name = "queue_sequences")
+public class QueueSequence implements Persistable<String> {
+
+    @Id
+    @Column(name = "queue_name", length = 50)
+    private String queueName;
+
+    @Column(name = "last_value", nullable = false)
+    private Long lastValue = 0L; // 지금까지 예약된 마지막 순번
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean isNew; // 새로 만든 행은 병합(merge) 없이 INSERT 로만 저장 (동시 생성 시 한 노드만 성공)
+
+    protected QueueSequence() {
+    }
+
+    public QueueSequence(String queueName, Long lastValue) {
+        this.queueName = queueName;
+        this.lastValue = lastValue;
+        this.updatedAt = LocalDateTime.now();
+        this.isNew = true;
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getQueueName() {
+        return queueName;
+    }
+
+    public Long getLastValue() {
+        return lastValue;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public String getId() {
+        return queueName;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+}
@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.domain.queue;
+
+/**
+ * 대기열(샤드) 하나의 관측 입장 처리량 (분당 입장 수)
+ *
+ * 기대값과 신뢰 구간의 하한/상한 처리량을 함께 보관하며, 모두 0 보다 크다.
+ */
+public class QueueThroughput {
+
+    private final double ratePerMinute;
+    private final double lowerRatePerMinute;
+    private final double upperRatePerMinute;
+
+    public QueueThroughput(double ratePerMinute, double lowerRatePerMinute, double upperRatePerMinute) {
+        if (lowerRatePerMinute <= 0 || lowerRatePerMinute > ratePerMinute || ratePerMinute > upperRatePerMinute) {
+            throw new IllegalArgumentException("Invalid throughput band");
+        }
+        this.ratePerMinute = ratePerMinute;
+        this.lowerRatePerMinute = lowerRatePerMinute;
+        this.upperRatePerMinute = upperRatePerMinute;
+    }
+
+    // 관측값이 없을 때 사용하는 고정 처리량
+    public static QueueThroughput fixed(double ratePerMinute) {
+        return new QueueThroughput(ratePerMinute, ratePerMinute, ratePerMinute);
+    }
+
+    /**
+     * 앞선 대기자 수로부터 예상 대기 시간 계산 (처리량이 높을수록 대기 시간은 짧아지므로 구간이 뒤집힌다)
+     */
+    public WaitTimeEstimate estimate(long aheadCount) {
+        if (aheadCount <= 0) {
+            return WaitTimeEstimate.none();
+        }
+        return new WaitTimeEstimate(
+                (long) (aheadCount / ratePerMinute),
+                (long) (aheadCount / upperRatePerMinute),
+                (long) Math.ceil(aheadCount / lowerRatePerMinute)
+        );
+    }
+
+    public double getRatePerMinute() {
+        return ratePerMinute;
+    }
+
+    public double getLowerRatePerMinute() {
+        return lowerRatePerMinute;
+    }
+
+    public double getUpperRatePerMinute() {
+        return upperRatePerMinute;
+    }
+}
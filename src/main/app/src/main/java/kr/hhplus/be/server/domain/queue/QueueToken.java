@@ -2,13 +2,17 @@ package kr.hhplus.be.server.domain.queue;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Entity
-@Table(name = "queue_tokens", indexes = {
+@Table(name = "queue_tokens",
+    uniqueConstraints = @UniqueConstraint(name = "uk_queue_token_queue_position", columnNames = {"queue_name", "queue_position"}),
+    indexes = {
     @Index(name = "idx_queue_token_uuid", columnList = "token_uuid"),
     @Index(name = "idx_queue_token_status", columnList = "token_status"),
-    @Index(name = "idx_queue_token_position", columnList = "queue_position")
+    @Index(name = "idx_queue_token_position", columnList = "queue_position"),
+    @Index(name = "idx_queue_token_queue_status_position", columnList = "queue_name, token_status, queue_position"),
+    @Index(name = "idx_queue_token_user_queue", columnList = "user_id, queue_name"),
+    @Index(name = "idx_queue_token_queue_last_seen", columnList = "queue_name, last_seen_at")
 })
 public class QueueToken {
 
@@ -20,15 +24,19 @@ public class QueueToken {
     @Column(name = "user_id", nullable = false)
     private Long userId;
 
-    @Column(name = "token_uuid", nullable = false, unique = true, length = 36)
-    private String tokenUuid;
+    @Convert(converter = QueueTokenIdConverter.class)
+    @Column(name = "token_uuid", nullable = false, unique = true, columnDefinition = "BINARY(16)")
+    private String tokenUuid; // 시간 순서 식별자 (헤더/Redis 에서는 base64url, DB 에는 16바이트)
+
+    @Column(name = "queue_name", nullable = false, updatable = false, length = 50)
+    private String queueName = QueueWatermark.GLOBAL_QUEUE; // 대기열 샤드 (스케줄별 또는 전역)
 
     @Enumerated(EnumType.STRING)
     @Column(name = "token_status", nullable = false, length = 20)
     private TokenStatus tokenStatus = TokenStatus.WAITING;
 
-    @Column(name = "queue_position", nullable = false)
-    private Long queuePosition;
+    @Column(name = "queue_position", nullable = false, updatable = false)
+    private Long queuePosition; // 불변 도착 순번 (대기 순위는 워터마크 기준으로 계산)
 
     @Column(name = "issued_at", nullable = false)
     private LocalDateTime issuedAt;
@@ -39,6 +47,9 @@ public class QueueToken {
     @Column(name = "expires_at")
     private LocalDateTime expiresAt;
 
+    @Column(name = "last_seen_at")
+    private LocalDateTime lastSeenAt; // 소유자의 마지막 활동 시각 (이탈 토큰 정리 기준, Redis 사용 시 미사용)
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -49,15 +60,42 @@ public class QueueToken {
     }
 
     public QueueToken(Long userId, Long queuePosition) {
+        this(userId, QueueWatermark.GLOBAL_QUEUE, queuePosition);
+    }
+
+    public QueueToken(Long userId, String queueName, Long queuePosition) {
         this.userId = userId;
-        this.tokenUuid = UUID.randomUUID().toString();
+        this.tokenUuid = QueueTokenId.generate();
+        this.queueName = queueName;
         this.queuePosition = queuePosition;
         this.tokenStatus = TokenStatus.WAITING;
         this.issuedAt = LocalDateTime.now();
+        this.lastSeenAt = this.issuedAt;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 외부 저장소(Redis 등)에 보관된 상태로부터 토큰 복원
+     */
+    public static QueueToken restore(Long tokenId, Long userId, String tokenUuid, String queueName,
+                                     TokenStatus tokenStatus, Long queuePosition, LocalDateTime issuedAt,
+                                     LocalDateTime activatedAt, LocalDateTime expiresAt) {
+        QueueToken token = new QueueToken();
+        token.tokenId = tokenId;
+        token.userId = userId;
+        token.tokenUuid = tokenUuid;
+        token.queueName = queueName;
+        token.tokenStatus = tokenStatus;
+        token.queuePosition = queuePosition;
+        token.issuedAt = issuedAt;
+        token.activatedAt = activatedAt;
+        token.expiresAt = expiresAt;
+        token.createdAt = issuedAt;
+        token.updatedAt = LocalDateTime.now();
+        return token;
+    }
+
     @PreUpdate
     protected void onUpdate() {
         this.updatedAt = LocalDateTime.now();
@@ -104,21 +142,35 @@ public class QueueToken {
                (expiresAt != null && LocalDateTime.now().isAfter(expiresAt));
     }
 
-    public long getEstimatedWaitTimeMinutes() {
+    /**
+     * 워터마크로부터의 도착 순번 거리 (1부터 시작)
+     *
+     * 노드별 순번 구간의 빈 번호와 이탈한 토큰을 포함하므로 사용자에게 보여 주는 대기 순위가 아니다 (순위는 저장소에서 앞선 대기 토큰 수로 계산).
+     * 입장 처리량도 같은 순번 단위로 관측하므로 예상 대기 시간 계산에는 이 거리를 사용한다.
+     *
+     * @param admittedSequence 입장 처리된 마지막 도착 순번 (워터마크)
+     */
+    public long getWaitingPosition(long admittedSequence) {
+        return Math.max(1, queuePosition - admittedSequence);
+    }
+
+    /**
+     * 관측 처리량 기준 예상 대기 시간
+     *
+     * @param admittedSequence 입장 처리된 마지막 도착 순번 (워터마크)
+     * @param throughput       이 토큰이 속한 대기열의 입장 처리량
+     */
+    public WaitTimeEstimate estimateWaitTime(long admittedSequence, QueueThroughput throughput) {
         if (tokenStatus == TokenStatus.ACTIVE) {
-            return 0;
+            return WaitTimeEstimate.none();
         }
 
         if (tokenStatus != TokenStatus.WAITING) {
-            return -1; // 대기 상태가 아님
+            return WaitTimeEstimate.unknown(); // 대기 상태가 아님
         }
 
-        // 대기 순서에 따른 예상 대기 시간 계산 (1분당 10명씩 처리 가정)
-        return Math.max(0, (queuePosition - 1) / 10);
-    }
-
-    public void updatePosition(Long newPosition) {
-        this.queuePosition = newPosition;
+        // 내 앞에 남은 대기자 수 / 분당 처리량
+        return throughput.estimate(getWaitingPosition(admittedSequence) - 1);
     }
 
     public Long getTokenId() {
@@ -133,6 +185,10 @@ public class QueueToken {
         return tokenUuid;
     }
 
+    public String getQueueName() {
+        return queueName;
+    }
+
     public TokenStatus getTokenStatus() {
         return tokenStatus;
     }
@@ -157,6 +213,10 @@ public class QueueToken {
         return createdAt;
     }
 
+    public LocalDateTime getLastSeenAt() {
+        return lastSeenAt;
+    }
+
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
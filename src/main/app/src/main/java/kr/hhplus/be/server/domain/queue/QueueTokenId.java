@@ -0,0 +1,85 @@
+package kr.hhplus.be.server.domain.queue;
+
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 시간 순서 128비트 토큰 식별자 (UUIDv7 배치)
+ *
+ * 상위 48비트는 발급 시각(epoch millis)이라 새 토큰이 항상 인덱스 끝에 추가되어 B-tree 페이지 분할이 줄어든다.
+ * 나머지 74비트는 SecureRandom 난수로 채워 Queue-Token 헤더로 쓰이는 식별자를 추측할 수 없게 한다.
+ * DB 에는 BINARY(16), 헤더/Redis 키에는 22자 base64url(패딩 없음) 로 표현한다.
+ * 이전 형식(36자 UUID 문자열)도 같은 16바이트로 해석되므로 기존 토큰 조회가 그대로 동작한다.
+ */
+public final class QueueTokenId {
+
+    public static final int BYTES = 16;
+    private static final int ENCODED_LENGTH = 22;
+    private static final int LEGACY_LENGTH = 36;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private QueueTokenId() {
+    }
+
+    public static String generate() {
+        return encode(generateBytes(System.currentTimeMillis()));
+    }
+
+    static byte[] generateBytes(long epochMillis) {
+        byte[] random = new byte[10];
+        RANDOM.nextBytes(random);
+
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES);
+        buffer.putShort((short) (epochMillis >>> 32));
+        buffer.putInt((int) epochMillis);
+        buffer.put((byte) (0x70 | (random[0] & 0x0F))); // version 7
+        buffer.put(random[1]);
+        buffer.put((byte) (0x80 | (random[2] & 0x3F))); // variant 10
+        buffer.put(random, 3, 7);
+        return buffer.array();
+    }
+
+    public static String encode(byte[] bytes) {
+        if (bytes == null || bytes.length != BYTES) {
+            throw new IllegalArgumentException("Invalid token id");
+        }
+        return ENCODER.encodeToString(bytes);
+    }
+
+    /**
+     * base64url 또는 이전 형식 UUID 문자열을 16바이트로 변환
+     */
+    public static byte[] decode(String value) {
+        if (value != null && value.length() == LEGACY_LENGTH) {
+            UUID uuid = UUID.fromString(value);
+            return ByteBuffer.allocate(BYTES)
+                    .putLong(uuid.getMostSignificantBits())
+                    .putLong(uuid.getLeastSignificantBits())
+                    .array();
+        }
+        if (value == null || value.length() != ENCODED_LENGTH) {
+            throw new IllegalArgumentException("Invalid token id");
+        }
+        return DECODER.decode(value);
+    }
+
+    public static boolean isValid(String value) {
+        try {
+            decode(value);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    // 발급 시각 (epoch millis, 이전 형식 UUID 는 의미 없음)
+    public static long timestampOf(String value) {
+        ByteBuffer buffer = ByteBuffer.wrap(decode(value));
+        return ((buffer.getShort() & 0xFFFFL) << 32) | (buffer.getInt() & 0xFFFFFFFFL);
+    }
+}
@@ -0,0 +1,21 @@
+package kr.hhplus.be.server.domain.queue;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 토큰 식별자 문자열(base64url) ↔ BINARY(16) 컬럼 변환
+ */
+@Converter
+public class QueueTokenIdConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String attribute) {
+        return attribute != null ? QueueTokenId.decode(attribute) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] dbData) {
+        return dbData != null ? QueueTokenId.encode(dbData) : null;
+    }
+}
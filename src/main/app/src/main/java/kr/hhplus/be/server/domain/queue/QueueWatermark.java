@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.domain.queue;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 대기열 입장 워터마크
+ *
+ * 도착 순번(queuePosition)이 admittedSequence 이하인 토큰은 모두 입장 처리되었음을 나타낸다.
+ * 대기 순위는 (도착 순번 - 워터마크) 로 계산되므로 입장 시 대기 토큰을 일괄 갱신할 필요가 없다.
+ * 워터마크와 도착 순번은 대기열(샤드)마다 독립적이다.
+ */
+@Entity
+@Table(name = "queue_watermarks")
+public class QueueWatermark {
+
+    public static final String GLOBAL_QUEUE = "global";
+    private static final String SCHEDULE_QUEUE_PREFIX = "schedule:";
+
+    @Id
+    @Column(name = "queue_name", length = 50)
+    private String queueName;
+
+    @Column(name = "admitted_sequence", nullable = false)
+    private Long admittedSequence = 0L;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 스케줄별 대기열 이름 (스케줄을 지정하지 않으면 전역 대기열)
+     */
+    public static String queueNameOf(Long scheduleId) {
+        return scheduleId == null ? GLOBAL_QUEUE : SCHEDULE_QUEUE_PREFIX + scheduleId;
+    }
+
+    /**
+     * 스케줄별 대기열의 스케줄 ID (전역 대기열이면 null)
+     */
+    public static Long scheduleIdOf(String queueName) {
+        if (queueName == null || !queueName.startsWith(SCHEDULE_QUEUE_PREFIX)) {
+            return null;
+        }
+        return Long.valueOf(queueName.substring(SCHEDULE_QUEUE_PREFIX.length()));
+    }
+
+    /**
+     * 해당 대기열에서 입장한 토큰이 스케줄에 접근할 수 있는지 (전역 대기열은 모든 스케줄 허용)
+     */
+    public static boolean allowsSchedule(String queueName, Long scheduleId) {
+        return queueName == null || GLOBAL_QUEUE.equals(queueName) || queueNameOf(scheduleId).equals(queueName);
+    }
+
+    protected QueueWatermark() {
+    }
+
+    public QueueWatermark(String queueName, Long admittedSequence) {
+        this.queueName = queueName;
+        this.admittedSequence = admittedSequence;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getQueueName() {
+        return queueName;
+    }
+
+    public Long getAdmittedSequence() {
+        return admittedSequence;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,63 @@
+package kr.hhplus.be.server.domain.queue;
+
+import java.time.LocalDateTime;
+
+/**
+ * 서명된 무상태 대기열 토큰의 클레임
+ *
+ * 활성화된 QueueToken 의 상태를 HMAC 으로 서명해 발급하므로,
+ * 서명과 만료 시각만 확인하면 저장소 조회 없이 활성 여부를 판단할 수 있다.
+ */
+public class SignedQueueToken {
+
+    private final String keyId;
+    private final String tokenUuid;
+    private final Long userId;
+    private final String queueName;
+    private final QueueToken.TokenStatus status;
+    private final LocalDateTime admittedAt;
+    private final LocalDateTime expiresAt;
+
+    public SignedQueueToken(String keyId, String tokenUuid, Long userId, String queueName,
+                            QueueToken.TokenStatus status, LocalDateTime admittedAt, LocalDateTime expiresAt) {
+        this.keyId = keyId;
+        this.tokenUuid = tokenUuid;
+        this.userId = userId;
+        this.queueName = queueName;
+        this.status = status;
+        this.admittedAt = admittedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isActive(LocalDateTime now) {
+        return status == QueueToken.TokenStatus.ACTIVE && expiresAt != null && now.isBefore(expiresAt);
+    }
+
+    public String getKeyId() {
+        return keyId;
+    }
+
+    public String getTokenUuid() {
+        return tokenUuid;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getQueueName() {
+        return queueName;
+    }
+
+    public QueueToken.TokenStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getAdmittedAt() {
+        return admittedAt;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
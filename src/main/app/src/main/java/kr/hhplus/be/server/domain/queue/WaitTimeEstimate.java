@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.domain.queue;
+
+/**
+ * 예상 대기 시간 (분) 과 신뢰 구간
+ */
+public class WaitTimeEstimate {
+
+    private static final WaitTimeEstimate NONE = new WaitTimeEstimate(0, 0, 0);
+    private static final WaitTimeEstimate UNKNOWN = new WaitTimeEstimate(-1, -1, -1);
+
+    private final long minutes;
+    private final long lowerMinutes;
+    private final long upperMinutes;
+
+    public WaitTimeEstimate(long minutes, long lowerMinutes, long upperMinutes) {
+        this.minutes = minutes;
+        this.lowerMinutes = lowerMinutes;
+        this.upperMinutes = upperMinutes;
+    }
+
+    // 대기 없음 (활성 토큰)
+    public static WaitTimeEstimate none() {
+        return NONE;
+    }
+
+    // 대기 상태가 아님 (만료/완료 토큰)
+    public static WaitTimeEstimate unknown() {
+        return UNKNOWN;
+    }
+
+    public long getMinutes() {
+        return minutes;
+    }
+
+    public long getLowerMinutes() {
+        return lowerMinutes;
+    }
+
+    public long getUpperMinutes() {
+        return upperMinutes;
+    }
+}
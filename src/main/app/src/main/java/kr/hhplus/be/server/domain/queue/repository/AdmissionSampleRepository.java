@@ -0,0 +1,20 @@
+package kr.hhplus.be.server.domain.queue.repository;
+
+import kr.hhplus.be.server.domain.queue.AdmissionSamples;
+
+public interface AdmissionSampleRepository {
+
+    /**
+     * 노드가 모은 표본을 클러스터 합계에 더함
+     */
+    void addSamples(long requests, long errors, long slowRequests);
+
+    /**
+     * 클러스터 합계를 읽고 비움 (리더의 조정 주기마다)
+     */
+    AdmissionSamples drainSamples();
+
+    void saveBudget(int budget);
+
+    Integer findBudget(); // 리더가 아직 정하지 않았으면 null
+}
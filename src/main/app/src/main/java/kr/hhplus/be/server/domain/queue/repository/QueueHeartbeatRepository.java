@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.domain.queue.repository;
+
+import kr.hhplus.be.server.domain.queue.QueueHeartbeat;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface QueueHeartbeatRepository {
+
+    // 여러 토큰의 마지막 활동 시각을 한 번에 기록
+    void touch(String queueName, Collection<String> tokenUuids, LocalDateTime seenAt);
+
+    // seenBefore 이전부터 활동이 없는 토큰 (오래된 순, 최대 limit 개)
+    List<QueueHeartbeat> findSilent(String queueName, LocalDateTime seenBefore, int limit);
+
+    // 더 이상 추적할 필요가 없는 토큰 제거
+    void remove(String queueName, Collection<String> tokenUuids);
+}
@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.domain.queue.repository;
+
+public interface QueueSequenceRepository {
+
+    /**
+     * 대기열의 도착 순번 구간 예약 (호출자 트랜잭션과 무관하게 즉시 확정)
+     *
+     * @return 예약된 구간의 마지막 순번 (구간은 반환값 - blockSize + 1 부터)
+     */
+    long reserveBlock(String queueName, int blockSize);
+}
@@ -1,6 +1,10 @@
 package kr.hhplus.be.server.domain.queue.repository;
 
+import kr.hhplus.be.server.domain.queue.AdmissionBatch;
 import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.QueueToken.TokenStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -8,10 +12,32 @@ public interface QueueTokenRepository {
     QueueToken save(QueueToken token);
     Optional<QueueToken> findById(Long tokenId);
     Optional<QueueToken> findByTokenUuid(String tokenUuid);
-    Optional<QueueToken> findByUserId(Long userId);
+    Optional<QueueToken> findByUserIdAndQueueName(Long userId, String queueName);
     List<QueueToken> findWaitingTokens();
     List<QueueToken> findActiveTokens();
-    List<QueueToken> findExpiredTokens();
     Long countWaitingTokens();
-    Long getNextQueuePosition();
-}
\ No newline at end of file
+    Long countActiveTokens();
+
+    // 대기열(샤드)별 처리 - 도착 순번/활성 슬롯은 대기열마다 독립적
+    List<String> findQueueNames(); // 대기 또는 활성 토큰이 있는 대기열
+    Long countWaitingTokens(String queueName);
+    Long countActiveTokens(String queueName);
+
+    // 대기 토큰 중 도착 순번이 queuePosition 보다 앞선 수 (표시하는 대기 순위 = 앞선 수 + 1, 빈 순번은 세지 않음)
+    long countWaitingAhead(String queueName, long queuePosition);
+
+    // 여러 순번을 한 번에 조회 (순위 전파용, 저장소가 지원하면 한 번의 왕복)
+    default List<Long> countWaitingAhead(String queueName, List<Long> queuePositions) {
+        return queuePositions.stream().map(position -> countWaitingAhead(queueName, position)).toList();
+    }
+
+    // 일괄 처리 (토큰 수와 무관하게 한 번의 문장/스크립트로 실행)
+    int expireActiveTokens(String queueName, LocalDateTime now);
+    AdmissionBatch activateNextWaitingTokens(String queueName, int count, LocalDateTime activatedAt, LocalDateTime expiresAt);
+
+    // 지정한 토큰 중 아직 fromStatus 인 것만 만료시키고 실제로 만료된 토큰 UUID 반환 (이탈 토큰 정리)
+    List<String> expireTokens(String queueName, Collection<String> tokenUuids, TokenStatus fromStatus, LocalDateTime now);
+
+    // 종료(완료/만료)된 지 terminatedBefore 이상 지난 토큰을 최대 limit 개 보관 테이블로 이동하고 이동한 수 반환
+    int archiveTerminalTokens(LocalDateTime terminatedBefore, int limit);
+}
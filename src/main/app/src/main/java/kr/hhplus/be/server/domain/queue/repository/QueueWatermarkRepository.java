@@ -0,0 +1,6 @@
+package kr.hhplus.be.server.domain.queue.repository;
+
+public interface QueueWatermarkRepository {
+    Long findAdmittedSequence(String queueName);
+    void advanceAdmittedSequence(String queueName, Long sequence);
+}
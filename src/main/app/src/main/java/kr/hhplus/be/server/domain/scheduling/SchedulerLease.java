@@ -0,0 +1,81 @@
+package kr.hhplus.be.server.domain.scheduling;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 리더 임대(lease)
+ *
+ * 만료 시각(expiresAt) 전까지는 소유 노드(ownerId)만 갱신할 수 있고, 만료되면 다른 노드가 가져갈 수 있다.
+ */
+@Entity
+@Table(name = "scheduler_leases")
+public class SchedulerLease implements Persistable<String> {
+
+    @Id
+    @Column(name = "lease_name", length = 50)
+    private String leaseName;
+
+    @Column(name = "owner_id", nullable = false, length = 100)
+    private String ownerId;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Transient
+    private boolean isNew; // 새로 만든 행은 병합(merge) 없이 INSERT 로만 저장 (동시 생성 시 한 노드만 성공)
+
+    protected SchedulerLease() {
+    }
+
+    public SchedulerLease(String leaseName, String ownerId, LocalDateTime expiresAt) {
+        this.leaseName = leaseName;
+        this.ownerId = ownerId;
+        this.expiresAt = expiresAt;
+        this.updatedAt = LocalDateTime.now();
+        this.isNew = true;
+    }
+
+    @PostPersist
+    @PostLoad
+    protected void markNotNew() {
+        this.isNew = false;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public String getLeaseName() {
+        return leaseName;
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    @Override
+    public String getId() {
+        return leaseName;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+}
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.domain.scheduling.repository;
+
+import java.time.Duration;
+
+public interface SchedulerLeaseRepository {
+
+    /**
+     * 비어 있거나 만료된 임대를 가져오거나, 이미 보유 중이면 연장
+     *
+     * @return 호출 후 ownerId 가 임대를 보유하고 있으면 true
+     */
+    boolean tryAcquire(String leaseName, String ownerId, Duration leaseTime);
+
+    /**
+     * 보유 중인 임대를 즉시 반납 (종료 시 다른 노드가 만료를 기다리지 않도록)
+     */
+    void release(String leaseName, String ownerId);
+}
@@ -1,14 +1,26 @@
 package kr.hhplus.be.server.infrastructure.concert;
 
+import jakarta.persistence.LockModeType;
 import kr.hhplus.be.server.domain.concert.Reservation;
+import kr.hhplus.be.server.domain.concert.ReservationHold;
+import kr.hhplus.be.server.domain.concert.Seat;
 import kr.hhplus.be.server.domain.concert.repository.ReservationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 public interface JpaReservationRepository extends JpaRepository<Reservation, Long>, ReservationRepository {
@@ -23,4 +35,87 @@ public interface JpaReservationRepository extends JpaRepository<Reservation, Lon
 
     @Query("SELECT r FROM Reservation r WHERE r.reservationStatus = 'TEMPORARY' AND r.expiresAt <= CURRENT_TIMESTAMP")
     List<Reservation> findExpiredTemporaryReservations();
-}
\ No newline at end of file
+
+    @Override
+    default List<ReservationHold> findTemporaryHoldsDueBefore(LocalDateTime dueBefore, int limit) {
+        return findTemporaryHolds(dueBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    default List<ReservationHold> expireTemporaryReservations(Collection<Long> reservationIds, LocalDateTime now) {
+        if (reservationIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 그 사이 결제/취소된 예약은 제외
+        List<ReservationHold> expired = findExpiredHolds(reservationIds, now);
+        if (expired.isEmpty()) {
+            return List.of();
+        }
+
+        // 아직 만료된 임시 예약 상태인 좌석만 잠그고 이 트랜잭션이 되돌릴 좌석으로 확정
+        // (결제되었거나 다른 사용자가 넘겨받은 좌석은 제외되고, 다른 노드가 같은 예약을 처리해도 잠금 대기 후 0건이 되어 한 번만 반영됨)
+        List<Seat> lockedSeats = findExpiredHeldSeatsForUpdate(
+                expired.stream().map(ReservationHold::getSeatId).distinct().toList(), now);
+        if (lockedSeats.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> releasedSeatIds = lockedSeats.stream().map(Seat::getSeatId).collect(Collectors.toSet());
+        List<ReservationHold> released = expired.stream()
+                .filter(hold -> releasedSeatIds.contains(hold.getSeatId()))
+                .toList();
+
+        cancelTemporaryReservations(released.stream().map(ReservationHold::getReservationId).toList(), now);
+        releaseExpiredSeats(List.copyOf(releasedSeatIds), now);
+
+        // 잔여 좌석 수는 잠근 좌석 수만큼만 반영
+        lockedSeats.stream()
+                .collect(Collectors.groupingBy(seat -> seat.getSchedule().getScheduleId(), Collectors.counting()))
+                .forEach((scheduleId, count) -> increaseAvailableSeats(scheduleId, count.intValue()));
+        return released;
+    }
+
+    @Query("SELECT new kr.hhplus.be.server.domain.concert.ReservationHold(r.reservationId, s.seatId, s.schedule.scheduleId, r.expiresAt) " +
+           "FROM Reservation r JOIN r.seat s " +
+           "WHERE r.reservationStatus = 'TEMPORARY' AND r.expiresAt <= :dueBefore ORDER BY r.expiresAt")
+    List<ReservationHold> findTemporaryHolds(@Param("dueBefore") LocalDateTime dueBefore, Pageable pageable);
+
+    @Query("SELECT new kr.hhplus.be.server.domain.concert.ReservationHold(r.reservationId, s.seatId, s.schedule.scheduleId, r.expiresAt) " +
+           "FROM Reservation r JOIN r.seat s " +
+           "WHERE r.reservationId IN :reservationIds AND r.reservationStatus = 'TEMPORARY' AND r.expiresAt <= :now")
+    List<ReservationHold> findExpiredHolds(@Param("reservationIds") Collection<Long> reservationIds,
+                                           @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Reservation r SET r.reservationStatus = kr.hhplus.be.server.domain.concert.Reservation.ReservationStatus.CANCELLED, " +
+           "r.updatedAt = :now " +
+           "WHERE r.reservationId IN :reservationIds AND r.reservationStatus = 'TEMPORARY'")
+    int cancelTemporaryReservations(@Param("reservationIds") List<Long> reservationIds, @Param("now") LocalDateTime now);
+
+    @Override
+    @Modifying
+    @Query("UPDATE Reservation r SET r.reservationStatus = kr.hhplus.be.server.domain.concert.Reservation.ReservationStatus.CANCELLED, " +
+           "r.updatedAt = :now " +
+           "WHERE r.seat.seatId IN :seatIds AND r.reservationStatus = 'TEMPORARY'")
+    int cancelSupersededHolds(@Param("seatIds") Collection<Long> seatIds, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.seatStatus = kr.hhplus.be.server.domain.concert.Seat.SeatStatus.AVAILABLE, " +
+           "s.reservedUserId = NULL, s.reservedAt = NULL, s.expiresAt = NULL, s.updatedAt = :now " +
+           "WHERE s.seatId IN :seatIds AND s.seatStatus = 'TEMPORARY_RESERVED' AND s.expiresAt <= :now")
+    int releaseExpiredSeats(@Param("seatIds") List<Long> seatIds, @Param("now") LocalDateTime now);
+
+    // 좌석 id 순으로 잠가 여러 노드의 만료 처리가 서로 교착되지 않도록 함
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Seat s " +
+           "WHERE s.seatId IN :seatIds AND s.seatStatus = 'TEMPORARY_RESERVED' AND s.expiresAt <= :now " +
+           "ORDER BY s.seatId")
+    List<Seat> findExpiredHeldSeatsForUpdate(@Param("seatIds") List<Long> seatIds, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ConcertSchedule cs SET cs.availableSeats = " +
+           "CASE WHEN cs.availableSeats + :count > cs.totalSeats THEN cs.totalSeats ELSE cs.availableSeats + :count END " +
+           "WHERE cs.scheduleId = :scheduleId")
+    int increaseAvailableSeats(@Param("scheduleId") Long scheduleId, @Param("count") int count);
+}
@@ -3,12 +3,17 @@ package kr.hhplus.be.server.infrastructure.concert;
 import kr.hhplus.be.server.application.concert.ReservationUseCase.AvailableScheduleInfo;
 import kr.hhplus.be.server.application.concert.ReservationUseCase.AvailableSeatInfo;
 import kr.hhplus.be.server.domain.concert.Seat;
+import kr.hhplus.be.server.domain.concert.SeatLocation;
 import kr.hhplus.be.server.domain.concert.repository.SeatRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +25,11 @@ public interface JpaSeatRepository extends JpaRepository<Seat, Long>, SeatReposi
         return saveAndFlush(seat);
     }
 
+    @Override
+    default <S extends Seat> List<S> saveAll(Iterable<S> seats) {
+        return saveAllAndFlush(seats);
+    }
+
     @Query("SELECT s FROM Seat s WHERE s.schedule.scheduleId = :scheduleId")
     List<Seat> findByScheduleId(@Param("scheduleId") Long scheduleId);
 
@@ -42,4 +52,84 @@ public interface JpaSeatRepository extends JpaRepository<Seat, Long>, SeatReposi
            "AND s.seatStatus = 'AVAILABLE' " +
            "ORDER BY s.seatNumber")
     List<AvailableSeatInfo> findAvailableSeatsByScheduleIdWithPrice(@Param("scheduleId") Long scheduleId);
-}
\ No newline at end of file
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.seatStatus = kr.hhplus.be.server.domain.concert.Seat.SeatStatus.TEMPORARY_RESERVED, " +
+           "s.reservedUserId = :userId, s.reservedAt = :now, s.expiresAt = :expiresAt, s.updatedAt = :now " +
+           "WHERE s.seatId = :seatId " +
+           "AND (:scheduleId IS NULL OR s.schedule.scheduleId = :scheduleId) " +
+           "AND s.seatStatus = 'AVAILABLE'")
+    int reserveIfAvailable(@Param("seatId") Long seatId,
+                           @Param("scheduleId") Long scheduleId,
+                           @Param("userId") Long userId,
+                           @Param("now") LocalDateTime now,
+                           @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.seatStatus = kr.hhplus.be.server.domain.concert.Seat.SeatStatus.TEMPORARY_RESERVED, " +
+           "s.reservedUserId = :userId, s.reservedAt = :now, s.expiresAt = :expiresAt, s.updatedAt = :now " +
+           "WHERE s.seatId IN :seatIds " +
+           "AND (:scheduleId IS NULL OR s.schedule.scheduleId = :scheduleId) " +
+           "AND s.seatStatus = 'AVAILABLE'")
+    int reserveAllIfAvailable(@Param("seatIds") Collection<Long> seatIds,
+                              @Param("scheduleId") Long scheduleId,
+                              @Param("userId") Long userId,
+                              @Param("now") LocalDateTime now,
+                              @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.seatStatus = kr.hhplus.be.server.domain.concert.Seat.SeatStatus.TEMPORARY_RESERVED, " +
+           "s.reservedUserId = :userId, s.reservedAt = :now, s.expiresAt = :expiresAt, s.updatedAt = :now " +
+           "WHERE s.seatId = :seatId " +
+           "AND (:scheduleId IS NULL OR s.schedule.scheduleId = :scheduleId) " +
+           "AND s.seatStatus = 'TEMPORARY_RESERVED' AND s.expiresAt < :now")
+    int takeOverExpiredHold(@Param("seatId") Long seatId,
+                            @Param("scheduleId") Long scheduleId,
+                            @Param("userId") Long userId,
+                            @Param("now") LocalDateTime now,
+                            @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("UPDATE Seat s SET s.seatStatus = kr.hhplus.be.server.domain.concert.Seat.SeatStatus.TEMPORARY_RESERVED, " +
+           "s.reservedUserId = :userId, s.reservedAt = :now, s.expiresAt = :expiresAt, s.updatedAt = :now " +
+           "WHERE s.seatId IN :seatIds " +
+           "AND (:scheduleId IS NULL OR s.schedule.scheduleId = :scheduleId) " +
+           "AND s.seatStatus = 'TEMPORARY_RESERVED' AND s.expiresAt < :now")
+    int takeOverExpiredHolds(@Param("seatIds") Collection<Long> seatIds,
+                             @Param("scheduleId") Long scheduleId,
+                             @Param("userId") Long userId,
+                             @Param("now") LocalDateTime now,
+                             @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Query("SELECT new kr.hhplus.be.server.domain.concert.SeatLocation(s.seatId, s.schedule.scheduleId, s.seatNumber) " +
+           "FROM Seat s WHERE s.seatId = :seatId")
+    Optional<SeatLocation> findLocationById(@Param("seatId") Long seatId);
+
+    @Query("SELECT new kr.hhplus.be.server.domain.concert.SeatLocation(s.seatId, s.schedule.scheduleId, s.seatNumber) " +
+           "FROM Seat s WHERE s.seatId IN :seatIds")
+    List<SeatLocation> findLocationsByIds(@Param("seatIds") Collection<Long> seatIds);
+
+    @Modifying
+    @Query("UPDATE ConcertSchedule cs SET cs.availableSeats = cs.availableSeats - 1 " +
+           "WHERE cs.scheduleId = :scheduleId AND cs.availableSeats > 0")
+    int decreaseAvailableSeats(@Param("scheduleId") Long scheduleId);
+
+    @Modifying
+    @Query("UPDATE ConcertSchedule cs SET cs.availableSeats = " +
+           "CASE WHEN cs.availableSeats > :count THEN cs.availableSeats - :count ELSE 0 END " +
+           "WHERE cs.scheduleId = :scheduleId")
+    int decreaseAvailableSeatsBy(@Param("scheduleId") Long scheduleId, @Param("count") int count);
+
+    @Query("SELECT cs.scheduleId FROM ConcertSchedule cs WHERE cs.concertDate > :now ORDER BY cs.scheduleId")
+    List<Long> findUpcomingScheduleIds(@Param("now") LocalDateTime now);
+
+    // 스케줄 한 건씩 갱신하여 좌석 행을 읽는 동안 잡히는 잠금 범위를 좁힘
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE concert_schedules SET available_seats = " +
+                   "(SELECT COUNT(*) FROM seats s WHERE s.schedule_id = :scheduleId AND s.seat_status = 'AVAILABLE') " +
+                   "WHERE schedule_id = :scheduleId AND available_seats <> " +
+                   "(SELECT COUNT(*) FROM seats s WHERE s.schedule_id = :scheduleId AND s.seat_status = 'AVAILABLE')",
+           nativeQuery = true)
+    int reconcileAvailableSeats(@Param("scheduleId") Long scheduleId);
+}
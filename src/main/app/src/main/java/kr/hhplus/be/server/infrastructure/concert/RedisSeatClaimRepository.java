@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.infrastructure.concert;
+
+import kr.hhplus.be.server.domain.concert.SeatClaimResult;
+import kr.hhplus.be.server.domain.concert.repository.SeatClaimRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 좌석마다 seat:claim:{seatId} 문자열 (값 = 선점한 사용자 ID 또는 sold, 선점은 hold TTL 후 자동 소멸)
+ */
+@Repository
+public class RedisSeatClaimRepository implements SeatClaimRepository {
+
+    private static final String CLAIM_PREFIX = "seat:claim:";
+    private static final String SOLD = "sold";
+
+    // 비어 있으면 선점(1), 같은 사용자면 유지(2), 그 외 거절(0)
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local holder = redis.call('GET', KEYS[1]) " +
+            "if not holder then " +
+            "  redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "  return 1 " +
+            "end " +
+            "if holder == ARGV[1] then return 2 end " +
+            "return 0",
+            Long.class);
+
+    // 모든 좌석을 먼저 확인하고 하나라도 다른 사용자가 잡고 있으면 기록 없이 반환 (좌석별 1/2/0)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local results = {} " +
+            "local granted = true " +
+            "for i, key in ipairs(KEYS) do " +
+            "  local holder = redis.call('GET', key) " +
+            "  if not holder then results[i] = 1 " +
+            "  elseif holder == ARGV[1] then results[i] = 2 " +
+            "  else results[i] = 0; granted = false end " +
+            "end " +
+            "if granted then " +
+            "  for i, key in ipairs(KEYS) do " +
+            "    if results[i] == 1 then redis.call('SET', key, ARGV[1], 'PX', ARGV[2]) end " +
+            "  end " +
+            "end " +
+            "return results",
+            List.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisSeatClaimRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public SeatClaimResult claim(Long seatId, Long userId, Duration holdTtl) {
+        Long result = redisTemplate.execute(CLAIM_SCRIPT, List.of(claimKey(seatId)),
+                String.valueOf(userId), String.valueOf(holdTtl.toMillis()));
+        return toClaimResult(result);
+    }
+
+    @Override
+    public List<SeatClaimResult> claimAll(List<Long> seatIds, Long userId, Duration holdTtl) {
+        List<String> keys = seatIds.stream().map(RedisSeatClaimRepository::claimKey).toList();
+        List<?> results = redisTemplate.execute(CLAIM_ALL_SCRIPT, keys,
+                String.valueOf(userId), String.valueOf(holdTtl.toMillis()));
+        if (results == null || results.size() != seatIds.size()) {
+            return seatIds.stream().map(seatId -> SeatClaimResult.TAKEN).toList();
+        }
+        return results.stream().map(RedisSeatClaimRepository::toClaimResult).toList();
+    }
+
+    @Override
+    public void release(Long seatId, Long userId) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(claimKey(seatId)), String.valueOf(userId));
+    }
+
+    @Override
+    public void markSold(Long seatId) {
+        redisTemplate.opsForValue().set(claimKey(seatId), SOLD);
+    }
+
+    private static SeatClaimResult toClaimResult(Object result) {
+        if (!(result instanceof Long code) || code == 0L) {
+            return SeatClaimResult.TAKEN;
+        }
+        return code == 1L ? SeatClaimResult.CLAIMED : SeatClaimResult.ALREADY_HELD;
+    }
+
+    private static String claimKey(Long seatId) {
+        return CLAIM_PREFIX + seatId;
+    }
+}
@@ -0,0 +1,135 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.QueueWatermark;
+import kr.hhplus.be.server.domain.queue.SignedQueueToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * HMAC-SHA256 서명 대기열 토큰 발급/검증
+ *
+ * 형식: v1.{keyId}.{base64url(payload)}.{base64url(signature)}
+ * payload: tokenUuid|userId|status|admittedAt(epoch sec)|expiresAt(epoch sec)|queueName
+ * (queueName 이 없는 이전 토큰은 전역 대기열로 간주)
+ */
+@Component
+public class HmacQueueTokenSigner {
+
+    private static final Logger log = LoggerFactory.getLogger(HmacQueueTokenSigner.class);
+
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final QueueSigningProperties properties;
+
+    public HmacQueueTokenSigner(QueueSigningProperties properties) {
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        String activeKeyId = properties.getActiveKeyId();
+        return activeKeyId != null && hasKey(activeKeyId);
+    }
+
+    public boolean isSigned(String value) {
+        return value != null && value.startsWith(VERSION + ".");
+    }
+
+    /**
+     * 활성 토큰 서명 (서명 키가 설정되지 않았거나 활성 토큰이 아니면 null)
+     */
+    public String sign(QueueToken token) {
+        if (!isEnabled() || token.getTokenStatus() != QueueToken.TokenStatus.ACTIVE) {
+            return null;
+        }
+
+        String keyId = properties.getActiveKeyId();
+        String payload = String.join("|",
+                token.getTokenUuid(),
+                String.valueOf(token.getUserId()),
+                token.getTokenStatus().name(),
+                String.valueOf(toEpochSecond(token.getActivatedAt())),
+                String.valueOf(toEpochSecond(token.getExpiresAt())),
+                token.getQueueName());
+
+        String signingInput = VERSION + "." + keyId + "." + ENCODER.encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+        return signingInput + "." + ENCODER.encodeToString(hmac(keyId, signingInput));
+    }
+
+    /**
+     * 서명 검증 후 클레임 반환 (형식 오류, 알 수 없는 키, 서명 불일치 시 empty)
+     */
+    public Optional<SignedQueueToken> verify(String value) {
+        if (!isSigned(value)) {
+            return Optional.empty();
+        }
+
+        String[] parts = value.split("\\.");
+        if (parts.length != 4 || !hasKey(parts[1])) {
+            return Optional.empty();
+        }
+
+        try {
+            String keyId = parts[1];
+            String signingInput = parts[0] + "." + keyId + "." + parts[2];
+            byte[] expected = hmac(keyId, signingInput);
+            if (!MessageDigest.isEqual(expected, DECODER.decode(parts[3]))) {
+                return Optional.empty();
+            }
+
+            String[] claims = new String(DECODER.decode(parts[2]), StandardCharsets.UTF_8).split("\\|");
+            return Optional.of(new SignedQueueToken(
+                    keyId,
+                    claims[0],
+                    Long.valueOf(claims[1]),
+                    claims.length > 5 ? claims[5] : QueueWatermark.GLOBAL_QUEUE,
+                    QueueToken.TokenStatus.valueOf(claims[2]),
+                    fromEpochSecond(Long.parseLong(claims[3])),
+                    fromEpochSecond(Long.parseLong(claims[4]))
+            ));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            log.debug("Malformed signed queue token: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private boolean hasKey(String keyId) {
+        String secret = properties.getKeys().get(keyId);
+        return secret != null && !secret.isEmpty();
+    }
+
+    private byte[] hmac(String keyId, String input) {
+        try {
+            // Mac 은 스레드 안전하지 않으므로 호출마다 생성
+            Mac mac = Mac.getInstance(ALGORITHM);
+            byte[] secret = properties.getKeys().get(keyId).getBytes(StandardCharsets.UTF_8);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return mac.doFinal(input.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign queue token", e);
+        }
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime == null ? 0L : dateTime.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static LocalDateTime fromEpochSecond(long epochSecond) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,66 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import jakarta.persistence.LockModeType;
+import kr.hhplus.be.server.domain.queue.AdmissionSamples;
+import kr.hhplus.be.server.domain.queue.repository.AdmissionSampleRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface JpaAdmissionSampleRepository extends JpaRepository<AdmissionSamples, String>, AdmissionSampleRepository {
+
+    @Override
+    default void addSamples(long requests, long errors, long slowRequests) {
+        if (increment(AdmissionSamples.CLUSTER, requests, errors, slowRequests) > 0) {
+            return;
+        }
+        try {
+            saveAndFlush(new AdmissionSamples(requests, errors, slowRequests));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 노드가 먼저 생성
+            increment(AdmissionSamples.CLUSTER, requests, errors, slowRequests);
+        }
+    }
+
+    @Override
+    @Transactional
+    default AdmissionSamples drainSamples() {
+        return findForUpdate(AdmissionSamples.CLUSTER)
+                .map(AdmissionSamples::drain)
+                .orElseGet(AdmissionSamples::empty);
+    }
+
+    @Override
+    @Transactional
+    default void saveBudget(int budget) {
+        AdmissionSamples samples = findForUpdate(AdmissionSamples.CLUSTER).orElseGet(AdmissionSamples::empty);
+        samples.setBudget(budget);
+        save(samples);
+    }
+
+    @Override
+    default Integer findBudget() {
+        return findById(AdmissionSamples.CLUSTER)
+                .map(AdmissionSamples::getBudget)
+                .orElse(null);
+    }
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AdmissionSamples s SET s.requests = s.requests + :requests, s.errors = s.errors + :errors, " +
+           "s.slowRequests = s.slowRequests + :slowRequests, s.updatedAt = CURRENT_TIMESTAMP WHERE s.name = :name")
+    int increment(@Param("name") String name, @Param("requests") long requests,
+                  @Param("errors") long errors, @Param("slowRequests") long slowRequests);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AdmissionSamples s WHERE s.name = :name")
+    Optional<AdmissionSamples> findForUpdate(@Param("name") String name);
+}
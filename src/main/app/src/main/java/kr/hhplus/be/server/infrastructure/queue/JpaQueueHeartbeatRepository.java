@@ -0,0 +1,53 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.domain.queue.QueueHeartbeat;
+import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.repository.QueueHeartbeatRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * queue_tokens.last_seen_at 컬럼 기반 활동 기록 (Redis 를 사용하지 않을 때)
+ */
+@Repository
+public interface JpaQueueHeartbeatRepository extends JpaRepository<QueueToken, Long>, QueueHeartbeatRepository {
+
+    @Override
+    @Transactional
+    default void touch(String queueName, Collection<String> tokenUuids, LocalDateTime seenAt) {
+        updateLastSeenAt(new ArrayList<>(tokenUuids), seenAt);
+    }
+
+    @Override
+    default List<QueueHeartbeat> findSilent(String queueName, LocalDateTime seenBefore, int limit) {
+        return findSilentLiveTokens(queueName, seenBefore, PageRequest.of(0, limit));
+    }
+
+    // 종료된 토큰은 조회 조건에서 빠지므로 별도 정리 불필요
+    @Override
+    default void remove(String queueName, Collection<String> tokenUuids) {
+    }
+
+    @Modifying
+    @Query("UPDATE QueueToken qt SET qt.lastSeenAt = :seenAt " +
+           "WHERE qt.tokenUuid IN :tokenUuids AND (qt.lastSeenAt IS NULL OR qt.lastSeenAt < :seenAt)")
+    int updateLastSeenAt(@Param("tokenUuids") List<String> tokenUuids, @Param("seenAt") LocalDateTime seenAt);
+
+    @Query("SELECT new kr.hhplus.be.server.domain.queue.QueueHeartbeat(qt.tokenUuid, qt.lastSeenAt) FROM QueueToken qt " +
+           "WHERE qt.queueName = :queueName AND qt.tokenStatus IN ('WAITING', 'ACTIVE') AND qt.lastSeenAt < :seenBefore " +
+           "ORDER BY qt.lastSeenAt")
+    List<QueueHeartbeat> findSilentLiveTokens(@Param("queueName") String queueName,
+                                              @Param("seenBefore") LocalDateTime seenBefore,
+                                              Pageable pageable);
+}
@@ -0,0 +1,44 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.domain.queue.QueueSequence;
+import kr.hhplus.be.server.domain.queue.repository.QueueSequenceRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface JpaQueueSequenceRepository extends JpaRepository<QueueSequence, String>, QueueSequenceRepository {
+
+    @Override
+    default long reserveBlock(String queueName, int blockSize) {
+        if (!existsById(queueName)) {
+            try {
+                saveAndFlush(new QueueSequence(queueName, 0L));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 생성
+            }
+        }
+        return incrementAndGet(queueName, blockSize);
+    }
+
+    // 예약한 구간은 호출자가 롤백되어도 되돌리지 않음 (다른 노드와 중복 발급 방지, 빈 번호는 허용)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    default long incrementAndGet(String queueName, int blockSize) {
+        increment(queueName, blockSize);
+        return findLastValue(queueName);
+    }
+
+    // 행 잠금은 이 짧은 트랜잭션 동안만 유지
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE QueueSequence s SET s.lastValue = s.lastValue + :blockSize, s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.queueName = :queueName")
+    int increment(@Param("queueName") String queueName, @Param("blockSize") int blockSize);
+
+    @Query("SELECT s.lastValue FROM QueueSequence s WHERE s.queueName = :queueName")
+    long findLastValue(@Param("queueName") String queueName);
+}
@@ -1,12 +1,22 @@
 package kr.hhplus.be.server.infrastructure.queue;
 
+import kr.hhplus.be.server.domain.queue.AdmissionBatch;
 import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.QueueTokenId;
+import kr.hhplus.be.server.domain.queue.QueueToken.TokenStatus;
 import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,9 +28,25 @@ public interface JpaQueueTokenRepository extends JpaRepository<QueueToken, Long>
         return saveAndFlush(token);
     }
 
-    Optional<QueueToken> findByTokenUuid(String tokenUuid);
+    @Override
+    default Optional<QueueToken> findByTokenUuid(String tokenUuid) {
+        // 형식이 맞지 않는 헤더 값은 BINARY(16) 로 변환할 수 없으므로 조회 없이 미존재 처리
+        if (!QueueTokenId.isValid(tokenUuid)) {
+            return Optional.empty();
+        }
+        return findOneByTokenUuid(tokenUuid);
+    }
+
+    @Query("SELECT qt FROM QueueToken qt WHERE qt.tokenUuid = :tokenUuid")
+    Optional<QueueToken> findOneByTokenUuid(@Param("tokenUuid") String tokenUuid);
 
-    Optional<QueueToken> findByUserId(Long userId);
+    @Override
+    default Optional<QueueToken> findByUserIdAndQueueName(Long userId, String queueName) {
+        return findFirstByUserIdAndQueueNameOrderByTokenIdDesc(userId, queueName);
+    }
+
+    // 재발급 이력이 남아 있을 수 있으므로 가장 최근 토큰
+    Optional<QueueToken> findFirstByUserIdAndQueueNameOrderByTokenIdDesc(Long userId, String queueName);
 
     @Query("SELECT qt FROM QueueToken qt WHERE qt.tokenStatus = 'WAITING' ORDER BY qt.queuePosition")
     List<QueueToken> findWaitingTokens();
@@ -28,12 +54,128 @@ public interface JpaQueueTokenRepository extends JpaRepository<QueueToken, Long>
     @Query("SELECT qt FROM QueueToken qt WHERE qt.tokenStatus = 'ACTIVE'")
     List<QueueToken> findActiveTokens();
 
-    @Query("SELECT qt FROM QueueToken qt WHERE qt.tokenStatus = 'EXPIRED' OR (qt.expiresAt IS NOT NULL AND qt.expiresAt <= CURRENT_TIMESTAMP)")
-    List<QueueToken> findExpiredTokens();
-
     @Query("SELECT COUNT(qt) FROM QueueToken qt WHERE qt.tokenStatus = 'WAITING'")
     Long countWaitingTokens();
 
-    @Query("SELECT COALESCE(MAX(qt.queuePosition), 0) + 1 FROM QueueToken qt WHERE qt.tokenStatus = 'WAITING'")
-    Long getNextQueuePosition();
-}
\ No newline at end of file
+    @Query("SELECT COUNT(qt) FROM QueueToken qt WHERE qt.tokenStatus = 'ACTIVE'")
+    Long countActiveTokens();
+
+    @Query("SELECT DISTINCT qt.queueName FROM QueueToken qt WHERE qt.tokenStatus IN ('WAITING', 'ACTIVE')")
+    List<String> findQueueNames();
+
+    @Query("SELECT COUNT(qt) FROM QueueToken qt WHERE qt.queueName = :queueName AND qt.tokenStatus = 'WAITING'")
+    Long countWaitingTokens(@Param("queueName") String queueName);
+
+    @Query("SELECT COUNT(qt) FROM QueueToken qt WHERE qt.queueName = :queueName AND qt.tokenStatus = 'ACTIVE'")
+    Long countActiveTokens(@Param("queueName") String queueName);
+
+    @Override
+    @Query("SELECT COUNT(qt) FROM QueueToken qt " +
+           "WHERE qt.queueName = :queueName AND qt.tokenStatus = 'WAITING' AND qt.queuePosition < :queuePosition")
+    long countWaitingAhead(@Param("queueName") String queueName, @Param("queuePosition") long queuePosition);
+
+    @Override
+    default int expireActiveTokens(String queueName, LocalDateTime now) {
+        return updateExpiredActiveTokens(queueName, TokenStatus.ACTIVE, TokenStatus.EXPIRED, now);
+    }
+
+    @Override
+    default AdmissionBatch activateNextWaitingTokens(String queueName, int count,
+                                                     LocalDateTime activatedAt, LocalDateTime expiresAt) {
+        // (queue_name, token_status, queue_position) 인덱스 범위 스캔으로 다음 K개의 도착 순번만 조회
+        List<Long> sequences = findWaitingSequences(queueName, PageRequest.of(0, count));
+        if (sequences.isEmpty()) {
+            return AdmissionBatch.empty();
+        }
+
+        Long lastSequence = sequences.get(sequences.size() - 1);
+        int activated = updateWaitingTokensUpTo(queueName, TokenStatus.WAITING, TokenStatus.ACTIVE,
+                lastSequence, activatedAt, expiresAt);
+        return new AdmissionBatch(activated, lastSequence);
+    }
+
+    @Override
+    default List<String> expireTokens(String queueName, Collection<String> tokenUuids, TokenStatus fromStatus,
+                                      LocalDateTime now) {
+        if (tokenUuids.isEmpty()) {
+            return List.of();
+        }
+        // 호출자의 트랜잭션 안에서 조회한 뒤 같은 상태 조건으로 갱신 (그 사이 입장/완료된 토큰은 제외)
+        List<String> candidates = findTokenUuidsByStatus(queueName, new ArrayList<>(tokenUuids), fromStatus);
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        updateTokenStatus(queueName, candidates, fromStatus, TokenStatus.EXPIRED, now);
+        return candidates;
+    }
+
+    @Override
+    @Transactional
+    default int archiveTerminalTokens(LocalDateTime terminatedBefore, int limit) {
+        // (token_status) 인덱스로 한 묶음의 ID 만 조회한 뒤, 같은 ID 집합을 복사/삭제 (행 잠금은 묶음 크기로 제한)
+        List<Long> tokenIds = findTerminalTokenIds(List.of(TokenStatus.COMPLETED, TokenStatus.EXPIRED),
+                terminatedBefore, PageRequest.of(0, limit));
+        if (tokenIds.isEmpty()) {
+            return 0;
+        }
+
+        copyToArchive(tokenIds);
+        return deleteByTokenIds(tokenIds);
+    }
+
+    @Query("SELECT qt.tokenId FROM QueueToken qt " +
+           "WHERE qt.tokenStatus IN :statuses AND qt.updatedAt < :terminatedBefore ORDER BY qt.tokenId")
+    List<Long> findTerminalTokenIds(@Param("statuses") List<TokenStatus> statuses,
+                                    @Param("terminatedBefore") LocalDateTime terminatedBefore,
+                                    Pageable pageable);
+
+    @Modifying
+    @Query("INSERT INTO ArchivedQueueToken (tokenId, userId, tokenUuid, queueName, tokenStatus, queuePosition, " +
+           "issuedAt, activatedAt, expiresAt, createdAt, updatedAt, archivedAt) " +
+           "SELECT qt.tokenId, qt.userId, qt.tokenUuid, qt.queueName, qt.tokenStatus, qt.queuePosition, " +
+           "qt.issuedAt, qt.activatedAt, qt.expiresAt, qt.createdAt, qt.updatedAt, CURRENT_TIMESTAMP " +
+           "FROM QueueToken qt WHERE qt.tokenId IN :tokenIds")
+    int copyToArchive(@Param("tokenIds") List<Long> tokenIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM QueueToken qt WHERE qt.tokenId IN :tokenIds")
+    int deleteByTokenIds(@Param("tokenIds") List<Long> tokenIds);
+
+    @Query("SELECT qt.tokenUuid FROM QueueToken qt " +
+           "WHERE qt.queueName = :queueName AND qt.tokenUuid IN :tokenUuids AND qt.tokenStatus = :status")
+    List<String> findTokenUuidsByStatus(@Param("queueName") String queueName,
+                                        @Param("tokenUuids") List<String> tokenUuids,
+                                        @Param("status") TokenStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE QueueToken qt SET qt.tokenStatus = :to, qt.expiresAt = :now, qt.updatedAt = :now " +
+           "WHERE qt.queueName = :queueName AND qt.tokenUuid IN :tokenUuids AND qt.tokenStatus = :from")
+    int updateTokenStatus(@Param("queueName") String queueName,
+                          @Param("tokenUuids") List<String> tokenUuids,
+                          @Param("from") TokenStatus from,
+                          @Param("to") TokenStatus to,
+                          @Param("now") LocalDateTime now);
+
+    @Query("SELECT qt.queuePosition FROM QueueToken qt " +
+           "WHERE qt.queueName = :queueName AND qt.tokenStatus = 'WAITING' ORDER BY qt.queuePosition")
+    List<Long> findWaitingSequences(@Param("queueName") String queueName, Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE QueueToken qt SET qt.tokenStatus = :expired, qt.updatedAt = :now " +
+           "WHERE qt.queueName = :queueName AND qt.tokenStatus = :active AND qt.expiresAt <= :now")
+    int updateExpiredActiveTokens(@Param("queueName") String queueName,
+                                  @Param("active") TokenStatus active,
+                                  @Param("expired") TokenStatus expired,
+                                  @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE QueueToken qt SET qt.tokenStatus = :active, qt.activatedAt = :activatedAt, " +
+           "qt.expiresAt = :expiresAt, qt.updatedAt = :activatedAt " +
+           "WHERE qt.queueName = :queueName AND qt.tokenStatus = :waiting AND qt.queuePosition <= :lastSequence")
+    int updateWaitingTokensUpTo(@Param("queueName") String queueName,
+                                @Param("waiting") TokenStatus waiting,
+                                @Param("active") TokenStatus active,
+                                @Param("lastSequence") Long lastSequence,
+                                @Param("activatedAt") LocalDateTime activatedAt,
+                                @Param("expiresAt") LocalDateTime expiresAt);
+}
@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.domain.queue.QueueWatermark;
+import kr.hhplus.be.server.domain.queue.repository.QueueWatermarkRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JpaQueueWatermarkRepository extends JpaRepository<QueueWatermark, String>, QueueWatermarkRepository {
+
+    @Override
+    default Long findAdmittedSequence(String queueName) {
+        return findById(queueName)
+                .map(QueueWatermark::getAdmittedSequence)
+                .orElse(0L);
+    }
+
+    @Override
+    default void advanceAdmittedSequence(String queueName, Long sequence) {
+        int updated = advance(queueName, sequence);
+        if (updated == 0 && !existsById(queueName)) {
+            saveAndFlush(new QueueWatermark(queueName, sequence));
+        }
+    }
+
+    // 워터마크는 앞으로만 이동 (늦게 도착한 갱신이 값을 되돌리지 않도록)
+    @Modifying
+    @Query("UPDATE QueueWatermark w SET w.admittedSequence = :sequence, w.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE w.queueName = :queueName AND w.admittedSequence < :sequence")
+    int advance(@Param("queueName") String queueName, @Param("sequence") Long sequence);
+}
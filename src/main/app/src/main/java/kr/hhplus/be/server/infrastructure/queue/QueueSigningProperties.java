@@ -0,0 +1,26 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 대기열 토큰 서명 키 설정
+ *
+ * 새 토큰은 activeKeyId 로 서명하고, 검증은 keys 에 등록된 모든 키로 허용하여 무중단 키 교체를 지원한다.
+ */
+@Component
+@ConfigurationProperties(prefix = "queue.signing")
+public class QueueSigningProperties {
+
+    private String activeKeyId;
+    private Map<String, String> keys = new HashMap<>();
+
+    public String getActiveKeyId() { return activeKeyId; }
+    public void setActiveKeyId(String activeKeyId) { this.activeKeyId = activeKeyId; }
+
+    public Map<String, String> getKeys() { return keys; }
+    public void setKeys(Map<String, String> keys) { this.keys = keys; }
+}
@@ -0,0 +1,76 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.application.queue.QueueAdmitter;
+import kr.hhplus.be.server.application.queue.QueueCounters;
+import kr.hhplus.be.server.application.queue.QueueManagementUseCase;
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 슬롯 반환 신호의 리더 전달
+ *
+ * 입장 처리는 스케줄러 리더에서만 실행되므로, 리더가 아닌 노드에서 반환된 슬롯은 Redis pub/sub 으로 리더에게 알려 바로 채우게 한다.
+ * 수신한 노드는 먼저 해당 대기열의 활성 카운터를 줄여(보낸 노드는 이미 반영) 입장 처리가 반환된 슬롯을 빈 슬롯으로 보게 한다.
+ * 모든 노드가 채널을 구독하지만 리더가 아닌 노드의 QueueAdmitter 는 신호를 무시한다.
+ * 메시지가 유실되거나 리더가 바뀌는 중이면 리더의 주기 실행(tick-ms)이 채운다.
+ */
+@Component
+public class QueueSlotFreedRelay implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueSlotFreedRelay.class);
+    private static final String SLOT_FREED_CHANNEL = "queue:slot-freed";
+
+    private final StringRedisTemplate redisTemplate;
+    private final QueueAdmitter queueAdmitter;
+    private final QueueCounters queueCounters;
+    private final SchedulerLeaderElection leaderElection;
+
+    public QueueSlotFreedRelay(StringRedisTemplate redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               QueueAdmitter queueAdmitter,
+                               QueueCounters queueCounters,
+                               SchedulerLeaderElection leaderElection) {
+        this.redisTemplate = redisTemplate;
+        this.queueAdmitter = queueAdmitter;
+        this.queueCounters = queueCounters;
+        this.leaderElection = leaderElection;
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(SLOT_FREED_CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSlotFreed(QueueManagementUseCase.QueueSlotFreedEvent event) {
+        if (leaderElection.isLeader()) {
+            return; // 리더는 QueueAdmitter 가 직접 처리
+        }
+        try {
+            redisTemplate.convertAndSend(SLOT_FREED_CHANNEL, leaderElection.getNodeId() + "|" + event.getQueueName());
+        } catch (Exception e) {
+            log.warn("Failed to forward freed queue slot to leader: {}", event.getQueueName(), e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 2);
+        if (parts.length != 2) {
+            return;
+        }
+        // 보낸 노드는 커밋 시점에 자기 카운터에 반영했으므로 다른 노드의 완료만 반영
+        if (!parts[0].equals(leaderElection.getNodeId())) {
+            queueCounters.onCompleted(parts[1]);
+        }
+        queueAdmitter.signal();
+    }
+}
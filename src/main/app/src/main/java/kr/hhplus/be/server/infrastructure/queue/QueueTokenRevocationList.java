@@ -0,0 +1,138 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+
+/**
+ * 완료된 대기열 토큰 폐기 목록
+ *
+ * 서명 토큰은 만료 전까지 스스로 유효하므로, 결제 완료 등으로 조기 종료된 토큰만 별도로 기록한다.
+ * 검증은 로컬 목록만 보고 (요청 경로에서 Redis 조회 없음), 목록은 두 경로로 채운다.
+ * - pub/sub: 폐기 즉시 모든 노드의 로컬 목록에 전파
+ * - 재동기화: 폐기를 Redis ZSET(queue:revoked, member = uuid|만료 시각, score = 폐기 시각)에도 남기고,
+ *   resync-ms 마다 직전 동기화 이후(시계 오차 여유 포함) 폐기된 항목만 읽어 합친다. 첫 실행은 전체를 적재한다.
+ * 재시작한 노드나 전파 메시지를 놓친 노드도 resync-ms 안에 폐기를 반영한다.
+ * ZSET 은 토큰 최대 수명보다 오래된 폐기를 잘라내고, 로컬 항목은 토큰의 원래 만료 시각이 지나면 제거된다.
+ */
+@Component
+public class QueueTokenRevocationList implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueTokenRevocationList.class);
+    private static final String REVOCATION_CHANNEL = "queue:revocations";
+    private static final String REVOKED_KEY = "queue:revoked";
+    private static final Duration DEFAULT_RETENTION = Duration.ofMinutes(30); // 토큰 최대 수명 이상
+    private static final long RESYNC_OVERLAP_MILLIS = 5_000; // 노드 간 시계 오차 여유
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<String, Long> revoked; // tokenUuid -> 원래 만료 시각(epoch millis)
+    private volatile long lastSyncedMillis; // 0 이면 아직 전체 적재 전
+
+    public QueueTokenRevocationList(StringRedisTemplate redisTemplate,
+                                    RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(1_000_000)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_CHANNEL));
+    }
+
+    public boolean isRevoked(String tokenUuid) {
+        return revoked.getIfPresent(tokenUuid) != null;
+    }
+
+    public void revoke(String tokenUuid, LocalDateTime expiresAt) {
+        long now = System.currentTimeMillis();
+        long expiresAtMillis = expiresAt != null
+                ? expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : now + DEFAULT_RETENTION.toMillis();
+
+        revoked.put(tokenUuid, expiresAtMillis);
+        if (expiresAtMillis <= now) {
+            return; // 이미 만료된 토큰은 서명 검증에서 거절됨
+        }
+
+        String entry = tokenUuid + "|" + expiresAtMillis;
+        try {
+            redisTemplate.opsForZSet().add(REVOKED_KEY, entry, now);
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, entry);
+        } catch (Exception e) {
+            log.error("Failed to record queue token revocation: {}", tokenUuid, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        apply(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Scheduled(fixedDelayString = "${queue.revocation.resync-ms:5000}")
+    public void resync() {
+        resync(System.currentTimeMillis());
+    }
+
+    /**
+     * 직전 동기화 이후 폐기된 항목을 로컬 목록에 합치고 오래된 폐기를 잘라냄
+     *
+     * @return 읽은 항목 수
+     */
+    int resync(long nowMillis) {
+        long from = lastSyncedMillis > 0 ? lastSyncedMillis - RESYNC_OVERLAP_MILLIS : 0;
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, nowMillis - DEFAULT_RETENTION.toMillis());
+            Set<String> entries = redisTemplate.opsForZSet().rangeByScore(REVOKED_KEY, from, Double.POSITIVE_INFINITY);
+            if (entries != null) {
+                entries.forEach(this::apply);
+            }
+            lastSyncedMillis = nowMillis; // 실패하면 같은 구간부터 다시 읽음
+            return entries != null ? entries.size() : 0;
+        } catch (Exception e) {
+            log.warn("Failed to resync queue token revocations", e);
+            return 0;
+        }
+    }
+
+    private void apply(String entry) {
+        String[] parts = entry.split("\\|");
+        if (parts.length == 2) {
+            revoked.put(parts[0], Long.parseLong(parts[1]));
+        }
+    }
+
+    private static class UntilTokenExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long expiresAtMillis, long currentTime) {
+            long remaining = Duration.between(Instant.now(), Instant.ofEpochMilli(expiresAtMillis)).toNanos();
+            return Math.max(0, remaining);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAtMillis, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.domain.queue.AdmissionSamples;
+import kr.hhplus.be.server.domain.queue.repository.AdmissionSampleRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Primary
+@Repository
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis")
+public class RedisAdmissionSampleRepository implements AdmissionSampleRepository {
+
+    private static final String SAMPLES_KEY = "queue:admission:samples";
+    private static final String BUDGET_KEY = "queue:admission:budget";
+
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HINCRBY', KEYS[1], 'requests', ARGV[1]) " +
+            "redis.call('HINCRBY', KEYS[1], 'errors', ARGV[2]) " +
+            "redis.call('HINCRBY', KEYS[1], 'slow', ARGV[3]) " +
+            "return 1",
+            Long.class
+    );
+
+    // 읽기와 비우기 사이에 더해진 표본이 유실되지 않도록 한 번에 처리
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_SCRIPT = new DefaultRedisScript<>(
+            "local values = redis.call('HMGET', KEYS[1], 'requests', 'errors', 'slow') " +
+            "redis.call('DEL', KEYS[1]) " +
+            "return {tonumber(values[1] or '0'), tonumber(values[2] or '0'), tonumber(values[3] or '0')}",
+            List.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisAdmissionSampleRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void addSamples(long requests, long errors, long slowRequests) {
+        redisTemplate.execute(ADD_SCRIPT, List.of(SAMPLES_KEY),
+                String.valueOf(requests), String.valueOf(errors), String.valueOf(slowRequests));
+    }
+
+    @Override
+    public AdmissionSamples drainSamples() {
+        List<?> values = redisTemplate.execute(DRAIN_SCRIPT, List.of(SAMPLES_KEY));
+        if (values == null || values.size() != 3) {
+            return AdmissionSamples.empty();
+        }
+        return new AdmissionSamples(toLong(values.get(0)), toLong(values.get(1)), toLong(values.get(2)));
+    }
+
+    @Override
+    public void saveBudget(int budget) {
+        redisTemplate.opsForValue().set(BUDGET_KEY, String.valueOf(budget));
+    }
+
+    @Override
+    public Integer findBudget() {
+        String value = redisTemplate.opsForValue().get(BUDGET_KEY);
+        return value != null ? Integer.valueOf(value) : null;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+}
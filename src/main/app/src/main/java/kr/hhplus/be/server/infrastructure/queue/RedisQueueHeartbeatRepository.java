@@ -0,0 +1,80 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.domain.queue.QueueHeartbeat;
+import kr.hhplus.be.server.domain.queue.repository.QueueHeartbeatRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 대기열마다 queue:{queueName}:heartbeat ZSET (member = 토큰 UUID, score = 마지막 활동 epoch millis)
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis")
+public class RedisQueueHeartbeatRepository implements QueueHeartbeatRepository {
+
+    private static final String QUEUE_PREFIX = "queue:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisQueueHeartbeatRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void touch(String queueName, Collection<String> tokenUuids, LocalDateTime seenAt) {
+        if (tokenUuids.isEmpty()) {
+            return;
+        }
+        double score = toEpochMillis(seenAt);
+        Set<ZSetOperations.TypedTuple<String>> tuples = tokenUuids.stream()
+                .map(uuid -> ZSetOperations.TypedTuple.of(uuid, score))
+                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(heartbeatKey(queueName), tuples);
+    }
+
+    @Override
+    public List<QueueHeartbeat> findSilent(String queueName, LocalDateTime seenBefore, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> entries = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(heartbeatKey(queueName), Double.NEGATIVE_INFINITY,
+                        toEpochMillis(seenBefore) - 1, 0, limit);
+        List<QueueHeartbeat> heartbeats = new ArrayList<>();
+        if (entries != null) {
+            for (ZSetOperations.TypedTuple<String> entry : entries) {
+                heartbeats.add(new QueueHeartbeat(entry.getValue(), toDateTime(entry.getScore().longValue())));
+            }
+        }
+        return heartbeats;
+    }
+
+    @Override
+    public void remove(String queueName, Collection<String> tokenUuids) {
+        if (!tokenUuids.isEmpty()) {
+            redisTemplate.opsForZSet().remove(heartbeatKey(queueName), tokenUuids.toArray());
+        }
+    }
+
+    private static String heartbeatKey(String queueName) {
+        return QUEUE_PREFIX + queueName + ":heartbeat";
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
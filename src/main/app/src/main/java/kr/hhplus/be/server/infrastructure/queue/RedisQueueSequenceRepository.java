@@ -0,0 +1,31 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.domain.queue.repository.QueueSequenceRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Primary
+@Repository
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis")
+public class RedisQueueSequenceRepository implements QueueSequenceRepository {
+
+    private static final String QUEUE_PREFIX = "queue:";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisQueueSequenceRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // INCRBY 한 번으로 구간 예약 (블록 크기 1 이면 토큰마다 INCR)
+    @Override
+    public long reserveBlock(String queueName, int blockSize) {
+        Long lastValue = redisTemplate.opsForValue().increment(QUEUE_PREFIX + queueName + ":seq", blockSize);
+        if (lastValue == null) {
+            throw new IllegalStateException("Failed to reserve queue sequence: " + queueName);
+        }
+        return lastValue;
+    }
+}
@@ -0,0 +1,550 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.domain.queue.AdmissionBatch;
+import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.QueueToken.TokenStatus;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Redis Sorted Set 기반 대기열 저장소
+ *
+ * 대기열은 도착 순번(score)으로 정렬된 ZSET 으로 관리하여
+ * 인원 수 조회(ZCARD), 입장 처리(ZREM/ZADD)가 모두 O(log n) 으로 동작한다.
+ * 토큰의 queuePosition 은 불변 도착 순번이며, 대기 순위는 QueueWatermarkRepository 의 워터마크로 계산한다.
+ * 대기열(샤드)마다 queue:{queueName}:waiting / :active, 토큰 해시 queue:{queueName}:token:{uuid}, 사용자 키 queue:{queueName}:user:{userId} 를 둔다.
+ * {queueName} 은 해시 태그라 한 대기열의 키는 모두 같은 슬롯에 있으며, Lua 스크립트는 KEYS 로 받은 키만 다룬다.
+ * 스크립트 안에서 정해지던 토큰 해시/사용자 키는 uuid 와 userId 를 먼저 읽어 KEYS 로 넘기고, 그 사이 바뀐 토큰은 스크립트에서 다시 확인해 건너뛴다.
+ * 대기열을 모르는 조회용 포인터(uuid -> 대기열, tokenId -> uuid)와 사용 중인 대기열 이름(queue:names)은 스크립트 밖에서 따로 갱신한다.
+ * 도착 순번 :seq 는 RedisQueueSequenceRepository 가 관리한다.
+ * queue.store=redis 일 때 활성화되며, 그 외에는 JpaQueueTokenRepository 가 사용된다.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis")
+public class RedisQueueTokenRepository implements QueueTokenRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisQueueTokenRepository.class);
+
+    private static final String QUEUE_PREFIX = "queue:";
+    private static final String QUEUE_NAMES_KEY = "queue:names";
+    private static final String TOKEN_ID_SEQUENCE_KEY = "queue:token-id";
+    private static final String TOKEN_QUEUE_PREFIX = "queue:token-queue:";
+    private static final String TOKEN_ID_PREFIX = "queue:id:";
+    private static final Duration TERMINAL_TOKEN_TTL = Duration.ofHours(1); // 완료/만료 토큰 보관 시간
+
+    /**
+     * 토큰 저장 (읽기-비교-쓰기를 한 번에)
+     * 저장된 상태보다 앞선 상태(늦게 도착한 이전 상태)는 쓰지 않고, 대기 중인 토큰은 도착 순번이 고정이므로 다시 쓰지 않는다.
+     * tokenId/도착 순번은 처음 저장할 때만 정하며, 해시가 없는데 ARGV[1] (새 tokenId) 이 비어 있으면 빈 목록을 돌려준다.
+     * KEYS: 토큰 해시, 대기 ZSET, 활성 ZSET, 사용자 키 / 반환: 저장된 해시 (HGETALL)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "local rank = {WAITING = 0, ACTIVE = 1, EXPIRED = 2, COMPLETED = 2} " +
+            "local status = ARGV[2] " +
+            "local stored = redis.call('HMGET', KEYS[1], 'status', 'tokenId', 'sequence') " +
+            "local tokenId = ARGV[1] " +
+            "local sequence = ARGV[3] " +
+            "if stored[1] then " +
+            "  if rank[status] < rank[stored[1]] or (status == 'WAITING' and stored[1] == 'WAITING') then " +
+            "    return redis.call('HGETALL', KEYS[1]) " +
+            "  end " +
+            "  tokenId = stored[2] " +
+            "  sequence = stored[3] " +
+            "elseif tokenId == '' then " +
+            "  return {} " +
+            "end " +
+            "local uuid = ARGV[7] " +
+            "redis.call('HSET', KEYS[1], 'tokenId', tokenId, 'sequence', sequence, 'status', status, " +
+            "  'userId', ARGV[6], 'tokenUuid', uuid, 'queueName', ARGV[8], " +
+            "  'issuedAt', ARGV[9], 'activatedAt', ARGV[10], 'expiresAt', ARGV[11]) " +
+            "redis.call('SET', KEYS[4], uuid) " +
+            "if status == 'WAITING' then " +
+            "  redis.call('ZADD', KEYS[2], sequence, uuid) " +
+            "elseif status == 'ACTIVE' then " +
+            "  redis.call('ZREM', KEYS[2], uuid) " +
+            "  redis.call('ZADD', KEYS[3], ARGV[4], uuid) " +
+            "else " +
+            "  redis.call('ZREM', KEYS[2], uuid) " +
+            "  redis.call('ZREM', KEYS[3], uuid) " +
+            "  redis.call('EXPIRE', KEYS[1], ARGV[5]) " +
+            "  redis.call('EXPIRE', KEYS[4], ARGV[5]) " +
+            "end " +
+            "return redis.call('HGETALL', KEYS[1])",
+            List.class
+    );
+
+    /**
+     * 미리 읽은 대기열 앞쪽 토큰을 한 번에 활성화 (그 사이 대기열에서 빠진 토큰은 건너뜀)
+     * KEYS: 대기 ZSET, 활성 ZSET, 토큰 해시 (ARGV[4..] 의 uuid 순) / 반환: {입장 수, 마지막 도착 순번}
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ACTIVATE_SCRIPT = new DefaultRedisScript<>(
+            "local admitted = 0 " +
+            "local last = 0 " +
+            "for i = 4, #ARGV do " +
+            "  local sequence = redis.call('ZSCORE', KEYS[1], ARGV[i]) " +
+            "  if sequence then " +
+            "    redis.call('ZREM', KEYS[1], ARGV[i]) " +
+            "    redis.call('HSET', KEYS[i - 1], 'status', 'ACTIVE', 'activatedAt', ARGV[1], 'expiresAt', ARGV[2]) " +
+            "    redis.call('ZADD', KEYS[2], ARGV[3], ARGV[i]) " +
+            "    last = math.max(last, tonumber(sequence)) " +
+            "    admitted = admitted + 1 " +
+            "  end " +
+            "end " +
+            "return {admitted, last}",
+            List.class
+    );
+
+    /**
+     * 지정한 토큰 중 KEYS[1] (대기/활성 ZSET) 에 남아 있는 것만 만료 처리
+     * ARGV[2] 가 비어 있으면 저장된 만료 시각을 유지하고, ARGV[3] 이 있으면 점수가 그 이하인 토큰만 만료한다.
+     * KEYS: ZSET, 토큰마다 {토큰 해시, 사용자 키} (ARGV[4..] 의 uuid 순) / 반환: 만료된 토큰의 {uuid, tokenId} 를 이어 붙인 목록
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "local expired = {} " +
+            "for i = 4, #ARGV do " +
+            "  local uuid = ARGV[i] " +
+            "  local tokenKey = KEYS[2 * (i - 3)] " +
+            "  local userKey = KEYS[2 * (i - 3) + 1] " +
+            "  local score = redis.call('ZSCORE', KEYS[1], uuid) " +
+            "  if score and (ARGV[3] == '' or tonumber(score) <= tonumber(ARGV[3])) then " +
+            "    redis.call('ZREM', KEYS[1], uuid) " +
+            "    if ARGV[2] == '' then " +
+            "      redis.call('HSET', tokenKey, 'status', 'EXPIRED') " +
+            "    else " +
+            "      redis.call('HSET', tokenKey, 'status', 'EXPIRED', 'expiresAt', ARGV[2]) " +
+            "    end " +
+            "    local fields = redis.call('HMGET', tokenKey, 'userId', 'tokenId') " +
+            "    redis.call('EXPIRE', tokenKey, ARGV[1]) " +
+            "    if fields[1] then redis.call('EXPIRE', userKey, ARGV[1]) end " +
+            "    table.insert(expired, uuid) " +
+            "    table.insert(expired, fields[2] or '') " +
+            "  end " +
+            "end " +
+            "return expired",
+            List.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisQueueTokenRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 토큰 저장
+     *
+     * 토큰 해시와 대기/활성 ZSET 은 SAVE_SCRIPT 한 번으로 비교 후 갱신하므로, 동시에 저장하거나 입장 스크립트와 겹쳐도 상태가 되돌아가지 않는다.
+     * 조회용 포인터는 스크립트 전에, 대기열 이름은 ZSET 에 들어간 뒤에 등록한다 (빈 대기열 정리와 겹쳐도 이름이 빠지지 않도록).
+     */
+    @Override
+    public QueueToken save(QueueToken token) {
+        String tokenUuid = token.getTokenUuid();
+        String queueName = token.getQueueName();
+        String tokenKey = tokenKey(queueName, tokenUuid);
+
+        // 처음 저장하는 토큰만 tokenId 를 발급 (해시가 그 사이 사라졌으면 한 번 더 시도)
+        Map<String, String> stored = Map.of();
+        String newTokenId = "";
+        for (int attempt = 0; attempt < 2 && stored.isEmpty(); attempt++) {
+            if (attempt > 0 || !redisTemplate.opsForHash().hasKey(tokenKey, "tokenId")) {
+                newTokenId = allocateTokenId(); // 도착 순번은 대기열마다 겹치므로 별도 발급
+                redisTemplate.opsForValue().set(TOKEN_QUEUE_PREFIX + tokenUuid, queueName);
+            }
+            stored = runSaveScript(token, tokenKey, newTokenId);
+        }
+        if (stored.isEmpty()) {
+            throw new IllegalStateException("Failed to save queue token: " + tokenUuid);
+        }
+        if (newTokenId.equals(stored.get("tokenId"))) {
+            redisTemplate.opsForValue().set(TOKEN_ID_PREFIX + newTokenId, tokenUuid);
+        }
+
+        TokenStatus status = TokenStatus.valueOf(stored.get("status"));
+        if (status == TokenStatus.WAITING || status == TokenStatus.ACTIVE) {
+            redisTemplate.opsForSet().add(QUEUE_NAMES_KEY, queueName);
+        } else {
+            expirePointers(List.of(tokenUuid, stored.get("tokenId")));
+        }
+
+        log.debug("Saved queue token to redis: uuid={}, status={}", tokenUuid, status);
+        return toToken(stored);
+    }
+
+    private String allocateTokenId() {
+        Long tokenId = redisTemplate.opsForValue().increment(TOKEN_ID_SEQUENCE_KEY);
+        if (tokenId == null) {
+            throw new IllegalStateException("Failed to allocate queue token id");
+        }
+        return String.valueOf(tokenId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, String> runSaveScript(QueueToken token, String tokenKey, String newTokenId) {
+        String queueName = token.getQueueName();
+        List<String> result = redisTemplate.execute(SAVE_SCRIPT,
+                List.of(tokenKey, waitingKey(queueName), activeKey(queueName), userKey(queueName, token.getUserId())),
+                newTokenId,
+                token.getTokenStatus().name(),
+                String.valueOf(token.getQueuePosition()),
+                token.getExpiresAt() != null ? String.valueOf(toEpochMillis(token.getExpiresAt())) : "",
+                String.valueOf(TERMINAL_TOKEN_TTL.getSeconds()),
+                String.valueOf(token.getUserId()),
+                token.getTokenUuid(),
+                queueName,
+                formatDateTime(token.getIssuedAt()),
+                formatDateTime(token.getActivatedAt()),
+                formatDateTime(token.getExpiresAt()));
+
+        Map<String, String> fields = new HashMap<>();
+        if (result != null) {
+            for (int i = 0; i + 1 < result.size(); i += 2) {
+                fields.put(result.get(i), result.get(i + 1));
+            }
+        }
+        return fields;
+    }
+
+    @Override
+    public Optional<QueueToken> findById(Long tokenId) {
+        String tokenUuid = redisTemplate.opsForValue().get(TOKEN_ID_PREFIX + tokenId);
+        return tokenUuid == null ? Optional.empty() : findByTokenUuid(tokenUuid);
+    }
+
+    @Override
+    public Optional<QueueToken> findByTokenUuid(String tokenUuid) {
+        String queueName = redisTemplate.opsForValue().get(TOKEN_QUEUE_PREFIX + tokenUuid);
+        return queueName == null ? Optional.empty() : findToken(queueName, tokenUuid);
+    }
+
+    @Override
+    public Optional<QueueToken> findByUserIdAndQueueName(Long userId, String queueName) {
+        String tokenUuid = redisTemplate.opsForValue().get(userKey(queueName, userId));
+        return tokenUuid == null ? Optional.empty() : findToken(queueName, tokenUuid);
+    }
+
+    private Optional<QueueToken> findToken(String queueName, String tokenUuid) {
+        Map<Object, Object> stored = redisTemplate.opsForHash().entries(tokenKey(queueName, tokenUuid));
+        if (stored.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toToken(stored));
+    }
+
+    @Override
+    public List<QueueToken> findWaitingTokens() {
+        List<QueueToken> tokens = new ArrayList<>();
+        for (String queueName : findQueueNames()) {
+            tokens.addAll(loadTokens(queueName, redisTemplate.opsForZSet().range(waitingKey(queueName), 0, -1)));
+        }
+        return tokens;
+    }
+
+    @Override
+    public List<QueueToken> findActiveTokens() {
+        List<QueueToken> tokens = new ArrayList<>();
+        for (String queueName : findQueueNames()) {
+            tokens.addAll(loadTokens(queueName, redisTemplate.opsForZSet().range(activeKey(queueName), 0, -1)));
+        }
+        return tokens;
+    }
+
+    // 완료/만료 토큰은 대기열/활성열에서 즉시 빠지고 TERMINAL_TOKEN_TTL 후 키 만료로 삭제되므로 별도 보관 이동 없음
+    @Override
+    public int archiveTerminalTokens(LocalDateTime terminatedBefore, int limit) {
+        return 0;
+    }
+
+    @Override
+    public Long countWaitingTokens() {
+        return findQueueNames().stream().mapToLong(this::countWaitingTokens).sum();
+    }
+
+    @Override
+    public Long countActiveTokens() {
+        return findQueueNames().stream().mapToLong(this::countActiveTokens).sum();
+    }
+
+    /**
+     * 사용 중인 대기열 이름 (대기/활성 토큰이 모두 없는 대기열은 목록에서 제거)
+     *
+     * 대기열 키는 슬롯이 서로 달라 한 스크립트로 묶지 않는다. 제거한 뒤 그 사이 토큰이 들어왔으면 다시 등록한다.
+     */
+    @Override
+    public List<String> findQueueNames() {
+        Set<String> names = redisTemplate.opsForSet().members(QUEUE_NAMES_KEY);
+        List<String> queueNames = new ArrayList<>();
+        if (names == null) {
+            return queueNames;
+        }
+        for (String queueName : names) {
+            if (queueSize(queueName) > 0) {
+                queueNames.add(queueName);
+                continue;
+            }
+            redisTemplate.opsForSet().remove(QUEUE_NAMES_KEY, queueName);
+            if (queueSize(queueName) > 0) {
+                redisTemplate.opsForSet().add(QUEUE_NAMES_KEY, queueName);
+                queueNames.add(queueName);
+            }
+        }
+        return queueNames;
+    }
+
+    private long queueSize(String queueName) {
+        return countWaitingTokens(queueName) + countActiveTokens(queueName);
+    }
+
+    @Override
+    public Long countWaitingTokens(String queueName) {
+        Long count = redisTemplate.opsForZSet().zCard(waitingKey(queueName));
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public Long countActiveTokens(String queueName) {
+        Long count = redisTemplate.opsForZSet().zCard(activeKey(queueName));
+        return count != null ? count : 0L;
+    }
+
+    // 대기 ZSET 점수 = 도착 순번 (ZCOUNT, O(log n))
+    @Override
+    public long countWaitingAhead(String queueName, long queuePosition) {
+        Long count = redisTemplate.opsForZSet().count(waitingKey(queueName), Double.NEGATIVE_INFINITY, queuePosition - 1);
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public List<Long> countWaitingAhead(String queueName, List<Long> queuePositions) {
+        String key = waitingKey(queueName);
+        List<Object> counts = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (Long queuePosition : queuePositions) {
+                    ops.opsForZSet().count(key, Double.NEGATIVE_INFINITY, queuePosition - 1);
+                }
+                return null;
+            }
+        });
+        return counts.stream().map(count -> count instanceof Number number ? number.longValue() : 0L).toList();
+    }
+
+    // 만료 시각(점수)이 지난 활성 토큰을 읽은 뒤, 스크립트에서 점수를 다시 확인하고 만료
+    @Override
+    public int expireActiveTokens(String queueName, LocalDateTime now) {
+        long nowMillis = toEpochMillis(now);
+        Set<String> due = redisTemplate.opsForZSet().rangeByScore(activeKey(queueName), Double.NEGATIVE_INFINITY, nowMillis);
+        if (due == null || due.isEmpty()) {
+            return 0;
+        }
+        return evict(queueName, activeKey(queueName), new ArrayList<>(due), "", String.valueOf(nowMillis)).size();
+    }
+
+    @Override
+    public List<String> expireTokens(String queueName, Collection<String> tokenUuids, TokenStatus fromStatus,
+                                     LocalDateTime now) {
+        if (tokenUuids.isEmpty()) {
+            return List.of();
+        }
+        String key = fromStatus == TokenStatus.WAITING ? waitingKey(queueName) : activeKey(queueName);
+        return evict(queueName, key, new ArrayList<>(tokenUuids), formatDateTime(now), "");
+    }
+
+    // EVICT_SCRIPT 실행 후 만료된 토큰의 조회용 포인터도 정리 (반환: 만료된 uuid)
+    @SuppressWarnings("unchecked")
+    private List<String> evict(String queueName, String key, List<String> tokenUuids, String expiresAt, String maxScore) {
+        List<String> keys = new ArrayList<>(1 + tokenUuids.size() * 2);
+        keys.add(key);
+        List<Object> userIds = readUserIds(queueName, tokenUuids);
+        for (int i = 0; i < tokenUuids.size(); i++) {
+            keys.add(tokenKey(queueName, tokenUuids.get(i)));
+            keys.add(userKey(queueName, userIds.get(i)));
+        }
+
+        List<String> args = new ArrayList<>(3 + tokenUuids.size());
+        args.add(String.valueOf(TERMINAL_TOKEN_TTL.getSeconds()));
+        args.add(expiresAt);
+        args.add(maxScore);
+        args.addAll(tokenUuids);
+
+        List<String> expired = redisTemplate.execute(EVICT_SCRIPT, keys, args.toArray());
+        if (expired == null || expired.isEmpty()) {
+            return List.of();
+        }
+        expirePointers(expired);
+
+        List<String> expiredUuids = new ArrayList<>(expired.size() / 2);
+        for (int i = 0; i < expired.size(); i += 2) {
+            expiredUuids.add(expired.get(i));
+        }
+        return expiredUuids;
+    }
+
+    // 사용자 키를 스크립트의 KEYS 로 넘기기 위해 토큰 해시의 userId 를 미리 읽음 (토큰마다 바뀌지 않는 값, 해시가 없으면 null)
+    private List<Object> readUserIds(String queueName, List<String> tokenUuids) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String uuid : tokenUuids) {
+                    ops.opsForHash().get(tokenKey(queueName, uuid), "userId");
+                }
+                return null;
+            }
+        });
+    }
+
+    // 만료된 토큰의 조회용 포인터도 토큰 해시와 함께 사라지도록 보관 시간 지정 ({uuid, tokenId} 를 이어 붙인 목록)
+    private void expirePointers(List<String> uuidAndTokenIds) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (int i = 0; i + 1 < uuidAndTokenIds.size(); i += 2) {
+                    ops.expire(TOKEN_QUEUE_PREFIX + uuidAndTokenIds.get(i), TERMINAL_TOKEN_TTL);
+                    if (!uuidAndTokenIds.get(i + 1).isEmpty()) {
+                        ops.expire(TOKEN_ID_PREFIX + uuidAndTokenIds.get(i + 1), TERMINAL_TOKEN_TTL);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public AdmissionBatch activateNextWaitingTokens(String queueName, int count,
+                                                    LocalDateTime activatedAt, LocalDateTime expiresAt) {
+        if (count <= 0) {
+            return AdmissionBatch.empty();
+        }
+
+        // 토큰 해시도 KEYS 로 넘기도록 앞쪽 uuid 를 먼저 읽음 (입장 처리는 리더만 하므로 대부분 그대로 입장)
+        Set<String> head = redisTemplate.opsForZSet().range(waitingKey(queueName), 0, count - 1);
+        if (head == null || head.isEmpty()) {
+            return AdmissionBatch.empty();
+        }
+
+        List<String> keys = new ArrayList<>(2 + head.size());
+        keys.add(waitingKey(queueName));
+        keys.add(activeKey(queueName));
+        List<String> args = new ArrayList<>(3 + head.size());
+        args.add(formatDateTime(activatedAt));
+        args.add(formatDateTime(expiresAt));
+        args.add(String.valueOf(toEpochMillis(expiresAt)));
+        for (String uuid : head) {
+            keys.add(tokenKey(queueName, uuid));
+            args.add(uuid);
+        }
+
+        List<?> result = redisTemplate.execute(ACTIVATE_SCRIPT, keys, args.toArray());
+
+        if (result == null || result.isEmpty() || ((Long) result.get(0)) == 0L) {
+            return AdmissionBatch.empty();
+        }
+        return new AdmissionBatch(((Long) result.get(0)).intValue(), (Long) result.get(1));
+    }
+
+    // 한 대기열의 키는 모두 {queueName} 해시 태그로 같은 슬롯에 둠
+    private static String queueKey(String queueName) {
+        return QUEUE_PREFIX + "{" + queueName + "}";
+    }
+
+    private static String waitingKey(String queueName) {
+        return queueKey(queueName) + ":waiting";
+    }
+
+    private static String activeKey(String queueName) {
+        return queueKey(queueName) + ":active";
+    }
+
+    private static String tokenKey(String queueName, String tokenUuid) {
+        return queueKey(queueName) + ":token:" + tokenUuid;
+    }
+
+    private static String userKey(String queueName, Object userId) {
+        return queueKey(queueName) + ":user:" + userId;
+    }
+
+    private List<QueueToken> loadTokens(String queueName, Set<String> tokenUuids) {
+        if (tokenUuids == null || tokenUuids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> uuids = new ArrayList<>(tokenUuids);
+        List<Object> hashes = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String uuid : uuids) {
+                    ops.opsForHash().entries(tokenKey(queueName, uuid));
+                }
+                return null;
+            }
+        });
+
+        List<QueueToken> tokens = new ArrayList<>(uuids.size());
+        for (Object hash : hashes) {
+            @SuppressWarnings("unchecked")
+            Map<Object, Object> stored = (Map<Object, Object>) hash;
+            if (stored != null && !stored.isEmpty()) {
+                tokens.add(toToken(stored));
+            }
+        }
+        return tokens;
+    }
+
+    private QueueToken toToken(Map<?, ?> stored) {
+        return QueueToken.restore(
+                Long.valueOf((String) stored.get("tokenId")),
+                Long.valueOf((String) stored.get("userId")),
+                (String) stored.get("tokenUuid"),
+                (String) stored.get("queueName"),
+                TokenStatus.valueOf((String) stored.get("status")),
+                Long.valueOf((String) stored.get("sequence")),
+                parseDateTime((String) stored.get("issuedAt")),
+                parseDateTime((String) stored.get("activatedAt")),
+                parseDateTime((String) stored.get("expiresAt"))
+        );
+    }
+
+    private static String formatDateTime(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : "";
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        return value == null || value.isEmpty() ? null : LocalDateTime.parse(value);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,49 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.domain.queue.repository.QueueWatermarkRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Primary
+@Repository
+@ConditionalOnProperty(name = "queue.store", havingValue = "redis")
+public class RedisQueueWatermarkRepository implements QueueWatermarkRepository {
+
+    private static final String QUEUE_PREFIX = "queue:";
+
+    // 현재 값보다 클 때만 갱신하는 단조 증가 SET
+    private static final RedisScript<Long> ADVANCE_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "local next = tonumber(ARGV[1]) " +
+            "if next > current then redis.call('SET', KEYS[1], ARGV[1]) return next end " +
+            "return current",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisQueueWatermarkRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Long findAdmittedSequence(String queueName) {
+        String value = redisTemplate.opsForValue().get(watermarkKey(queueName));
+        return value != null ? Long.valueOf(value) : 0L;
+    }
+
+    @Override
+    public void advanceAdmittedSequence(String queueName, Long sequence) {
+        redisTemplate.execute(ADVANCE_SCRIPT, List.of(watermarkKey(queueName)), String.valueOf(sequence));
+    }
+
+    private static String watermarkKey(String queueName) {
+        return QUEUE_PREFIX + queueName + ":admitted-seq";
+    }
+}
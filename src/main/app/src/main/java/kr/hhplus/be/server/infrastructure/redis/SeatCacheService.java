@@ -4,66 +4,205 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class SeatCacheService {
 
     private static final Logger log = LoggerFactory.getLogger(SeatCacheService.class);
     private static final String SEAT_LAYOUT_PREFIX = "seat:layout:";
+    private static final String STATUS_AVAILABLE = "1";
+    private static final String STATUS_UNAVAILABLE = "0";
     private static final String POPULAR_CONCERTS_KEY = "concerts:popular";
     private static final Duration LAYOUT_CACHE_EXPIRY = Duration.ofHours(2); // 2시간 캐시 (좌석 배치는 자주 안 바뀜)
     private static final Duration POPULAR_CACHE_EXPIRY = Duration.ofMinutes(15); // 15분 캐시
 
+    // 기대 버전일 때만 고정 정보/상태 해시를 통째로 교체 (ARGV: 기대 버전, TTL, [seatId, 고정 정보 JSON, 상태]...)
+    private static final RedisScript<Long> WRITE_LAYOUT_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('GET', KEYS[3]) or '0' " +
+            "if version ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "for i = 3, #ARGV, 3 do " +
+            "  redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "  redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2]) " +
+            "end " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    // 버전 증가 후 캐시된 좌석이면 상태 필드만 교체 (배치도가 없어도 버전은 증가시켜 진행 중인 적재를 무효화)
+    // ARGV: 상태, TTL, seatId...
+    private static final RedisScript<Long> PATCH_STATUS_SCRIPT = new DefaultRedisScript<>(
+            "local version = redis.call('INCR', KEYS[3]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[2]) " +
+            "for i = 3, #ARGV do " +
+            "  if redis.call('HEXISTS', KEYS[2], ARGV[i]) == 1 then redis.call('HSET', KEYS[2], ARGV[i], ARGV[1]) end " +
+            "end " +
+            "return version",
+            Long.class);
+
+    private static final RedisScript<Long> INVALIDATE_LAYOUT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "local version = redis.call('INCR', KEYS[3]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[1]) " +
+            "return version",
+            Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
     private final ObjectMapper objectMapper;
+    private final SeatLayoutNearCache nearCache;
 
-    public SeatCacheService(RedisTemplate<String, Object> redisTemplate, ObjectMapper objectMapper) {
+    public SeatCacheService(RedisTemplate<String, Object> redisTemplate,
+                            StringRedisTemplate stringRedisTemplate,
+                            ObjectMapper objectMapper,
+                            SeatLayoutNearCache nearCache) {
         this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
         this.objectMapper = objectMapper;
+        this.nearCache = nearCache;
+    }
+
+    /**
+     * 스케줄별 배치도 키: 고정 정보 해시, 좌석 상태 해시 (field = seatId), 버전
+     */
+    private static List<String> layoutKeys(Long scheduleId) {
+        String prefix = SEAT_LAYOUT_PREFIX + scheduleId;
+        return List.of(prefix + ":static", prefix + ":status", prefix + ":version");
     }
 
     /**
-     * 좌석 배치도 및 가격 정보 캐시 저장
+     * 좌석 배치도 캐시 저장
+     *
+     * 읽기 전에 얻은 version 이후 좌석 상태가 바뀌었으면 (DB 조회 도중 예약 반영) 과거 상태를 덮어쓰지 않도록 저장하지 않는다.
+     *
+     * @return 저장 여부
      */
-    public void cacheSeatLayout(Long scheduleId, List<SeatLayoutDto> seatLayout) {
+    public boolean cacheSeatLayout(Long scheduleId, List<SeatLayoutDto> seatLayout, long expectedVersion) {
         try {
-            String key = SEAT_LAYOUT_PREFIX + scheduleId;
-            redisTemplate.opsForValue().set(key, seatLayout, LAYOUT_CACHE_EXPIRY);
-            log.debug("Cached seat layout for schedule: {} with {} seats", scheduleId, seatLayout.size());
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(expectedVersion));
+            args.add(String.valueOf(LAYOUT_CACHE_EXPIRY.toSeconds()));
+            for (SeatLayoutDto seat : seatLayout) {
+                args.add(String.valueOf(seat.getSeatId()));
+                args.add(objectMapper.writeValueAsString(SeatStatic.of(seat)));
+                args.add(seat.isAvailable() ? STATUS_AVAILABLE : STATUS_UNAVAILABLE);
+            }
+            Long written = stringRedisTemplate.execute(WRITE_LAYOUT_SCRIPT, layoutKeys(scheduleId), args.toArray());
+            boolean cached = written != null && written == 1L;
+            if (cached) {
+                nearCache.put(scheduleId, seatLayout, expectedVersion);
+            }
+            log.debug("Cached seat layout for schedule: {} with {} seats (written={})", scheduleId, seatLayout.size(), cached);
+            return cached;
         } catch (Exception e) {
             log.error("Failed to cache seat layout for schedule: {}", scheduleId, e);
+            return false;
         }
     }
 
     /**
-     * 좌석 배치도 조회 (캐시 우선)
+     * 좌석 배치도 조회 (로컬 캐시 → Redis 순, 고정 정보와 좌석 상태를 합쳐 좌석 번호 순으로 반환)
+     *
+     * 반환 목록은 노드 내에서 공유되므로 수정하지 않아야 한다.
      */
-    @SuppressWarnings("unchecked")
     public List<SeatLayoutDto> getCachedSeatLayout(Long scheduleId) {
-        try {
-            String key = SEAT_LAYOUT_PREFIX + scheduleId;
-            Object cached = redisTemplate.opsForValue().get(key);
+        List<SeatLayoutDto> local = nearCache.get(scheduleId);
+        if (local != null) {
+            return local;
+        }
 
-            if (cached instanceof List) {
-                log.debug("Cache hit for seat layout: {}", scheduleId);
-                return (List<SeatLayoutDto>) cached;
+        try {
+            // 버전을 먼저 읽어 로컬 사본의 버전이 실제 상태보다 앞서지 않도록 함 (이후 변경은 전파 메시지로 반영)
+            List<String> keys = layoutKeys(scheduleId);
+            List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.stringCommands().get(keys.get(2).getBytes(StandardCharsets.UTF_8));
+                connection.hashCommands().hGetAll(keys.get(0).getBytes(StandardCharsets.UTF_8));
+                connection.hashCommands().hGetAll(keys.get(1).getBytes(StandardCharsets.UTF_8));
+                return null;
+            });
+            long version = results.get(0) != null ? Long.parseLong((String) results.get(0)) : 0L;
+            Map<?, ?> statics = (Map<?, ?>) results.get(1);
+            Map<?, ?> statuses = (Map<?, ?>) results.get(2);
+
+            if (statics == null || statics.isEmpty() || statuses == null || statuses.isEmpty()) {
+                log.debug("Cache miss for seat layout: {}", scheduleId);
+                return null;
             }
 
-            log.debug("Cache miss for seat layout: {}", scheduleId);
-            return null;
+            List<SeatLayoutDto> layout = new ArrayList<>(statics.size());
+            for (Map.Entry<?, ?> entry : statics.entrySet()) {
+                SeatStatic seat = objectMapper.readValue((String) entry.getValue(), SeatStatic.class);
+                layout.add(seat.toDto(STATUS_AVAILABLE.equals(statuses.get(entry.getKey()))));
+            }
+            layout.sort(Comparator.comparing(SeatLayoutDto::getSeatNumber));
+            nearCache.put(scheduleId, layout, version);
+            log.debug("Cache hit for seat layout: {}", scheduleId);
+            return layout;
         } catch (Exception e) {
             log.error("Failed to get cached seat layout for schedule: {}", scheduleId, e);
             return null;
         }
     }
 
+    /**
+     * 좌석 배치도 버전 (좌석 상태가 바뀔 때마다 증가, 배치도를 DB 에서 읽기 전에 조회)
+     */
+    public long getSeatLayoutVersion(Long scheduleId) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(layoutKeys(scheduleId).get(2));
+            return version != null ? Long.parseLong(version) : 0L;
+        } catch (Exception e) {
+            log.error("Failed to get seat layout version for schedule: {}", scheduleId, e);
+            return -1L; // 저장하지 않도록 존재할 수 없는 버전
+        }
+    }
+
+    /**
+     * 한 좌석의 상태만 갱신 (배치도 전체를 지우지 않으므로 예약이 몰려도 캐시 적중 유지)
+     */
+    public void updateSeatStatus(Long scheduleId, Long seatId, boolean available) {
+        updateSeatStatus(scheduleId, List.of(seatId), available);
+    }
+
+    /**
+     * 같은 스케줄의 여러 좌석 상태를 한 번에 갱신 (버전은 한 번만 증가, 다른 노드에도 한 번만 전파)
+     */
+    public void updateSeatStatus(Long scheduleId, Collection<Long> seatIds, boolean available) {
+        try {
+            List<String> args = new ArrayList<>(seatIds.size() + 2);
+            args.add(available ? STATUS_AVAILABLE : STATUS_UNAVAILABLE);
+            args.add(String.valueOf(LAYOUT_CACHE_EXPIRY.toSeconds()));
+            seatIds.forEach(seatId -> args.add(String.valueOf(seatId)));
+
+            Long version = stringRedisTemplate.execute(PATCH_STATUS_SCRIPT, layoutKeys(scheduleId), args.toArray());
+            if (version != null) {
+                nearCache.publishStatus(scheduleId, seatIds, available, version);
+            }
+            log.debug("Patched seat status in layout cache: schedule={}, seats={}, available={}", scheduleId, seatIds, available);
+        } catch (Exception e) {
+            // 갱신 실패 시 과거 상태가 남지 않도록 배치도 전체 무효화
+            log.error("Failed to patch seat status for schedule: {}, seats: {}", scheduleId, seatIds, e);
+            invalidateSeatLayout(scheduleId);
+        }
+    }
+
     /**
      * 인기 콘서트 목록 캐시 저장
      */
@@ -98,12 +237,13 @@ public class SeatCacheService {
     }
 
     /**
-     * 좌석 배치도 캐시 무효화 (좌석 가격/배치 변경 시)
+     * 좌석 배치도 캐시 무효화 (좌석 가격/배치 변경 시, 좌석 상태 변경은 updateSeatStatus)
      */
     public void invalidateSeatLayout(Long scheduleId) {
         try {
-            String key = SEAT_LAYOUT_PREFIX + scheduleId;
-            redisTemplate.delete(key);
+            stringRedisTemplate.execute(INVALIDATE_LAYOUT_SCRIPT, layoutKeys(scheduleId),
+                    String.valueOf(LAYOUT_CACHE_EXPIRY.toSeconds()));
+            nearCache.publishInvalidation(scheduleId);
             log.debug("Invalidated seat layout cache for schedule: {}", scheduleId);
         } catch (Exception e) {
             log.error("Failed to invalidate seat layout cache for schedule: {}", scheduleId, e);
@@ -168,6 +308,53 @@ public class SeatCacheService {
         public void setAvailable(boolean available) { isAvailable = available; }
     }
 
+    /**
+     * 배치도 중 예약과 무관하게 고정된 정보 (좌석 상태는 별도 해시)
+     */
+    static class SeatStatic {
+        private Long seatId;
+        private Integer seatNumber;
+        private String seatGrade;
+        private BigDecimal price;
+        private Integer rowNumber;
+        private Integer columnNumber;
+
+        public SeatStatic() {}
+
+        static SeatStatic of(SeatLayoutDto seat) {
+            SeatStatic seatStatic = new SeatStatic();
+            seatStatic.seatId = seat.getSeatId();
+            seatStatic.seatNumber = seat.getSeatNumber();
+            seatStatic.seatGrade = seat.getSeatGrade();
+            seatStatic.price = seat.getPrice();
+            seatStatic.rowNumber = seat.getRowNumber();
+            seatStatic.columnNumber = seat.getColumnNumber();
+            return seatStatic;
+        }
+
+        SeatLayoutDto toDto(boolean available) {
+            return new SeatLayoutDto(seatId, seatNumber, seatGrade, price, rowNumber, columnNumber, available);
+        }
+
+        public Long getSeatId() { return seatId; }
+        public void setSeatId(Long seatId) { this.seatId = seatId; }
+
+        public Integer getSeatNumber() { return seatNumber; }
+        public void setSeatNumber(Integer seatNumber) { this.seatNumber = seatNumber; }
+
+        public String getSeatGrade() { return seatGrade; }
+        public void setSeatGrade(String seatGrade) { this.seatGrade = seatGrade; }
+
+        public BigDecimal getPrice() { return price; }
+        public void setPrice(BigDecimal price) { this.price = price; }
+
+        public Integer getRowNumber() { return rowNumber; }
+        public void setRowNumber(Integer rowNumber) { this.rowNumber = rowNumber; }
+
+        public Integer getColumnNumber() { return columnNumber; }
+        public void setColumnNumber(Integer columnNumber) { this.columnNumber = columnNumber; }
+    }
+
     public static class PopularConcertDto {
         private Long concertId;
         private String title;
@@ -0,0 +1,141 @@
+package kr.hhplus.be.server.infrastructure.redis;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 좌석 배치도 JVM 로컬(L1) 캐시
+ *
+ * Redis(L2) 배치도 앞에 두어 조회 시 네트워크 왕복과 역직렬화를 없앤다.
+ * 좌석 상태 변경/무효화는 Redis pub/sub 으로 모든 노드에 전파되어 각 노드가 자신의 사본을 고치거나 버린다.
+ * 항목마다 Redis 배치도 버전을 함께 보관하여 이미 반영된(같거나 낮은 버전의) 변경은 건너뛰고,
+ * 메시지가 유실되더라도 ttl 이 지나면 L2 에서 다시 읽으므로 노드 간 차이는 ttl 이내로 제한된다.
+ * 적중/미적중 수치는 cache.gets{cache=seat.layout.near.cache} 메트릭으로 노출된다.
+ */
+@Component
+public class SeatLayoutNearCache implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatLayoutNearCache.class);
+    private static final String LAYOUT_CHANNEL = "seat:layout:events";
+    private static final String INVALIDATE = "*";
+    private static final String SEAT_SEPARATOR = ",";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Cache<Long, LocalLayout> layouts;
+
+    public SeatLayoutNearCache(StringRedisTemplate redisTemplate,
+                               RedisMessageListenerContainer listenerContainer,
+                               MeterRegistry meterRegistry,
+                               @Value("${seat.layout.near-cache.maximum-size:1000}") long maximumSize,
+                               @Value("${seat.layout.near-cache.ttl-ms:2000}") long ttlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.layouts = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMillis))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, layouts, "seat.layout.near.cache");
+        listenerContainer.addMessageListener(this, new ChannelTopic(LAYOUT_CHANNEL));
+    }
+
+    /**
+     * 로컬 사본 (호출자는 목록과 항목을 수정하지 않아야 함)
+     */
+    public List<SeatCacheService.SeatLayoutDto> get(Long scheduleId) {
+        LocalLayout layout = layouts.getIfPresent(scheduleId);
+        return layout != null ? layout.seats : null;
+    }
+
+    public void put(Long scheduleId, List<SeatCacheService.SeatLayoutDto> seats, long version) {
+        layouts.asMap().merge(scheduleId, new LocalLayout(List.copyOf(seats), version),
+                (current, loaded) -> current.version > loaded.version ? current : loaded);
+    }
+
+    /**
+     * 이 노드에 바로 반영하고 다른 노드에 전파
+     */
+    public void publishStatus(Long scheduleId, Collection<Long> seatIds, boolean available, long version) {
+        applyStatus(scheduleId, Set.copyOf(seatIds), available, version);
+        String seats = seatIds.stream().map(String::valueOf).collect(Collectors.joining(SEAT_SEPARATOR));
+        publish(scheduleId + "|" + seats + "|" + (available ? 1 : 0) + "|" + version);
+    }
+
+    public void publishInvalidation(Long scheduleId) {
+        layouts.invalidate(scheduleId);
+        publish(scheduleId + "|" + INVALIDATE);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|");
+        try {
+            Long scheduleId = Long.valueOf(parts[0]);
+            if (parts.length == 2 && INVALIDATE.equals(parts[1])) {
+                layouts.invalidate(scheduleId);
+            } else if (parts.length == 4) {
+                Set<Long> seatIds = Arrays.stream(parts[1].split(SEAT_SEPARATOR)).map(Long::valueOf).collect(Collectors.toSet());
+                applyStatus(scheduleId, seatIds, "1".equals(parts[2]), Long.parseLong(parts[3]));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignored malformed seat layout event: {}", String.join("|", parts));
+        }
+    }
+
+    // 이미 반영된 버전이면 건너뛰고, 해당 좌석만 바꾼 새 목록으로 교체 (읽는 쪽은 항상 완성된 목록을 봄)
+    void applyStatus(Long scheduleId, Set<Long> seatIds, boolean available, long version) {
+        layouts.asMap().computeIfPresent(scheduleId, (id, current) -> {
+            if (version <= current.version) {
+                return current;
+            }
+            List<SeatCacheService.SeatLayoutDto> seats = new ArrayList<>(current.seats.size());
+            for (SeatCacheService.SeatLayoutDto seat : current.seats) {
+                seats.add(seatIds.contains(seat.getSeatId()) ? withAvailability(seat, available) : seat);
+            }
+            return new LocalLayout(List.copyOf(seats), version);
+        });
+    }
+
+    private void publish(String payload) {
+        try {
+            redisTemplate.convertAndSend(LAYOUT_CHANNEL, payload);
+        } catch (Exception e) {
+            log.error("Failed to broadcast seat layout event: {}", payload, e);
+        }
+    }
+
+    private static SeatCacheService.SeatLayoutDto withAvailability(SeatCacheService.SeatLayoutDto seat, boolean available) {
+        return new SeatCacheService.SeatLayoutDto(seat.getSeatId(), seat.getSeatNumber(), seat.getSeatGrade(),
+                seat.getPrice(), seat.getRowNumber(), seat.getColumnNumber(), available);
+    }
+
+    private static class LocalLayout {
+        private final List<SeatCacheService.SeatLayoutDto> seats;
+        private final long version;
+
+        LocalLayout(List<SeatCacheService.SeatLayoutDto> seats, long version) {
+            this.seats = seats;
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package kr.hhplus.be.server.infrastructure.scheduling;
+
+import kr.hhplus.be.server.domain.scheduling.SchedulerLease;
+import kr.hhplus.be.server.domain.scheduling.repository.SchedulerLeaseRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * DB 행 기반 임대 (Redis 를 사용할 수 없는 환경의 폴백)
+ *
+ * 노드 간 시계 차이는 임대 시간보다 충분히 작아야 한다.
+ */
+@Repository
+public interface JpaSchedulerLeaseRepository extends JpaRepository<SchedulerLease, String>, SchedulerLeaseRepository {
+
+    @Override
+    default boolean tryAcquire(String leaseName, String ownerId, Duration leaseTime) {
+        LocalDateTime now = LocalDateTime.now();
+        if (acquire(leaseName, ownerId, now, now.plus(leaseTime)) > 0) {
+            return true;
+        }
+        if (existsById(leaseName)) {
+            return false;
+        }
+
+        // 첫 임대: 동시에 삽입한 노드 중 하나만 성공
+        try {
+            saveAndFlush(new SchedulerLease(leaseName, ownerId, now.plus(leaseTime)));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    @Override
+    default void release(String leaseName, String ownerId) {
+        releaseOwned(leaseName, ownerId, LocalDateTime.now());
+    }
+
+    // 보유 중이거나 만료된 임대만 가져옴
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.ownerId = :ownerId, l.expiresAt = :expiresAt, l.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE l.leaseName = :leaseName AND (l.ownerId = :ownerId OR l.expiresAt < :now)")
+    int acquire(@Param("leaseName") String leaseName, @Param("ownerId") String ownerId,
+                @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SchedulerLease l SET l.expiresAt = :now, l.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE l.leaseName = :leaseName AND l.ownerId = :ownerId")
+    int releaseOwned(@Param("leaseName") String leaseName, @Param("ownerId") String ownerId,
+                     @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,65 @@
+package kr.hhplus.be.server.infrastructure.scheduling;
+
+import kr.hhplus.be.server.domain.scheduling.repository.SchedulerLeaseRepository;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 키 기반 임대 (값 = 소유 노드, TTL = 임대 시간)
+ *
+ * RLock 은 획득한 스레드에 묶여 있어 갱신 스레드와 작업 스레드가 다른 경우에 맞지 않으므로,
+ * 소유자 비교 후 TTL 을 연장하는 스크립트로 임대를 관리한다.
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(name = "scheduler.lease.store", havingValue = "redis")
+public class RedissonSchedulerLeaseRepository implements SchedulerLeaseRepository {
+
+    private static final String LEASE_PREFIX = "scheduler:lease:";
+
+    // 비어 있거나 내 임대일 때만 소유자 기록 + TTL 연장
+    private static final String ACQUIRE_SCRIPT =
+            "local owner = redis.call('GET', KEYS[1]) " +
+            "if owner == false or owner == ARGV[1] then " +
+            "  redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1 " +
+            "end " +
+            "return 0";
+
+    private static final String RELEASE_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end " +
+            "return 0";
+
+    private final RedissonClient redissonClient;
+
+    public RedissonSchedulerLeaseRepository(RedissonClient redissonClient) {
+        this.redissonClient = redissonClient;
+    }
+
+    @Override
+    public boolean tryAcquire(String leaseName, String ownerId, Duration leaseTime) {
+        Long acquired = script().eval(RScript.Mode.READ_WRITE, ACQUIRE_SCRIPT, RScript.ReturnType.INTEGER,
+                List.<Object>of(leaseKey(leaseName)), ownerId, String.valueOf(leaseTime.toMillis()));
+        return acquired != null && acquired == 1L;
+    }
+
+    @Override
+    public void release(String leaseName, String ownerId) {
+        script().eval(RScript.Mode.READ_WRITE, RELEASE_SCRIPT, RScript.ReturnType.INTEGER,
+                List.<Object>of(leaseKey(leaseName)), ownerId);
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    private String leaseKey(String leaseName) {
+        return LEASE_PREFIX + leaseName;
+    }
+}
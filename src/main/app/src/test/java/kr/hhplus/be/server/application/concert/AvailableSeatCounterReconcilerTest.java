@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.application.concert;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import kr.hhplus.be.server.domain.concert.repository.SeatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AvailableSeatCounterReconcilerTest {
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SchedulerLeaderElection leaderElection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AvailableSeatCounterReconciler reconciler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        reconciler = new AvailableSeatCounterReconciler(seatRepository, leaderElection, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("잔여 좌석 수 재계산 - 공연 전 스케줄마다 맞추고 어긋났던 스케줄 수 기록")
+    void reconcileAll_CorrectsDriftedSchedules() {
+        // Given
+        when(seatRepository.findUpcomingScheduleIds(any(LocalDateTime.class))).thenReturn(List.of(1L, 2L, 3L));
+        when(seatRepository.reconcileAvailableSeats(1L)).thenReturn(0);
+        when(seatRepository.reconcileAvailableSeats(2L)).thenReturn(1);
+        when(seatRepository.reconcileAvailableSeats(3L)).thenReturn(0);
+
+        // When
+        int drifted = reconciler.reconcileAll();
+
+        // Then
+        assertThat(drifted).isEqualTo(1);
+        assertThat(meterRegistry.counter("seat.counter.corrected").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("잔여 좌석 수 재계산 - 리더가 아니면 실행하지 않음")
+    void reconcile_SkippedOnFollower() {
+        // Given
+        when(leaderElection.isLeader()).thenReturn(false);
+
+        // When
+        reconciler.reconcile();
+
+        // Then
+        verifyNoInteractions(seatRepository);
+    }
+}
@@ -0,0 +1,89 @@
+package kr.hhplus.be.server.application.concert;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.concert.SeatUnavailableException;
+import kr.hhplus.be.server.infrastructure.redis.SeatCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BestAvailableSeatAllocatorTest {
+
+    @Mock
+    private ReservationUseCase reservationUseCase;
+
+    private BestAvailableSeatAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        // 후보 1개 (항상 최선 블록), 최대 3회 시도
+        allocator = new BestAvailableSeatAllocator(reservationUseCase, new SimpleMeterRegistry(), 1, 3, 60_000);
+        when(reservationUseCase.getSeatLayout(1L)).thenReturn(List.of(
+                seat(1L, 1), seat(2L, 2), seat(3L, 3), seat(4L, 4), seat(5L, 5), seat(6L, 6)));
+    }
+
+    @Test
+    @DisplayName("최적 좌석 배정 - 다른 요청이 먼저 잡은 블록은 빼고 다음 블록으로 재시도")
+    void reserveBestAvailable_RetriesWithAnotherBlock() {
+        // Given
+        ReservationUseCase.SeatsReservationResult reserved = new ReservationUseCase.SeatsReservationResult(1L, List.of());
+        when(reservationUseCase.reserveSeats(any()))
+                .thenThrow(new SeatUnavailableException("Seat is not available for reservation")) // lock 전략의 Seat.reserve 실패
+                .thenReturn(reserved);
+
+        // When
+        ReservationUseCase.SeatsReservationResult result = allocator.reserveBestAvailable(
+                new BestAvailableSeatAllocator.ReserveBestSeatsCommand("test-token-uuid", 1L, 1L, "R", 2));
+
+        // Then
+        assertThat(result).isSameAs(reserved);
+        ArgumentCaptor<ReservationUseCase.ReserveSeatsCommand> captor = ArgumentCaptor.forClass(ReservationUseCase.ReserveSeatsCommand.class);
+        verify(reservationUseCase, times(2)).reserveSeats(captor.capture());
+        assertThat(captor.getAllValues()).extracting(ReservationUseCase.ReserveSeatsCommand::getSeatIds)
+                .containsExactly(List.of(3L, 4L), List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("최적 좌석 배정 실패 - 좌석 경합이 아닌 실패는 재시도하지 않음")
+    void reserveBestAvailable_OtherFailure_NotRetried() {
+        // Given
+        when(reservationUseCase.reserveSeats(any()))
+                .thenThrow(new IllegalStateException("Token is not valid for this schedule"));
+
+        // When & Then
+        assertThatThrownBy(() -> allocator.reserveBestAvailable(
+                new BestAvailableSeatAllocator.ReserveBestSeatsCommand("test-token-uuid", 1L, 1L, "R", 2)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Token is not valid for this schedule");
+
+        verify(reservationUseCase, times(1)).reserveSeats(any());
+    }
+
+    @Test
+    @DisplayName("최적 좌석 배정 실패 - 연속으로 비어 있는 좌석이 없으면 예약 시도 없이 거절")
+    void reserveBestAvailable_NoContiguousSeats() {
+        // When & Then
+        assertThatThrownBy(() -> allocator.reserveBestAvailable(
+                new BestAvailableSeatAllocator.ReserveBestSeatsCommand("test-token-uuid", 1L, 1L, "R", 7)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("No contiguous seats available");
+
+        verify(reservationUseCase, never()).reserveSeats(any());
+    }
+
+    private static SeatCacheService.SeatLayoutDto seat(Long seatId, int column) {
+        return new SeatCacheService.SeatLayoutDto(seatId, column, "R", new BigDecimal("50000"), 1, column, true);
+    }
+}
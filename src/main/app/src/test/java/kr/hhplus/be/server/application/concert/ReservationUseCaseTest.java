@@ -1,20 +1,39 @@
 package kr.hhplus.be.server.application.concert;
 
+import kr.hhplus.be.server.application.queue.AdmissionBudgetController;
+import kr.hhplus.be.server.application.queue.QueueManagementUseCase;
+import kr.hhplus.be.server.application.queue.QueueTokenCache;
+import kr.hhplus.be.server.application.queue.QueueTokenVerifier;
 import kr.hhplus.be.server.domain.concert.Reservation;
 import kr.hhplus.be.server.domain.concert.Seat;
+import kr.hhplus.be.server.domain.concert.SeatClaimResult;
+import kr.hhplus.be.server.domain.concert.SeatLocation;
 import kr.hhplus.be.server.domain.concert.ConcertSchedule;
 import kr.hhplus.be.server.domain.concert.Concert;
+import kr.hhplus.be.server.domain.concert.repository.ReservationRepository;
+import kr.hhplus.be.server.domain.concert.repository.SeatClaimRepository;
+import kr.hhplus.be.server.domain.concert.repository.SeatRepository;
 import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.infrastructure.redis.RedisDistributedLock;
+import kr.hhplus.be.server.infrastructure.redis.SeatCacheService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -29,30 +48,81 @@ class ReservationUseCaseTest {
     @Mock
     private ReservationRepository reservationRepository;
 
-    @Mock
-    private QueueTokenRepository queueTokenRepository;
-
     @Mock
     private UserBalanceService userBalanceService;
 
     @Mock
     private PaymentService paymentService;
 
+    @Mock
+    private RedisDistributedLock distributedLock;
+
+    @Mock
+    private SeatCacheService seatCacheService;
+
+    @Mock
+    private SeatLayoutLoader seatLayoutLoader;
+
+    @Mock
+    private QueueTokenVerifier queueTokenVerifier;
+
+    @Mock
+    private QueueManagementUseCase queueManagementUseCase;
+
+    @Mock
+    private AdmissionBudgetController admissionBudgetController;
+
+    @Mock
+    private SeatClaimRepository seatClaimRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private ReservationUseCase reservationUseCase;
 
     @BeforeEach
+    @SuppressWarnings("unchecked")
     void setUp() {
-        reservationUseCase = new ReservationUseCase(
-                seatRepository,
-                reservationRepository,
-                queueTokenRepository,
-                userBalanceService,
-                paymentService
-        );
+        lenient().when(admissionBudgetController.measure(any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(0)).get());
+        lenient().when(distributedLock.executeWithLock(anyString(), anyLong(), anyLong(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(3)).get());
+        reservationUseCase = newUseCase("claim");
+    }
+
+    private ReservationUseCase newUseCase(String strategy) {
+        return new ReservationUseCase(seatRepository, reservationRepository, userBalanceService, paymentService,
+                distributedLock, seatCacheService, seatLayoutLoader, queueTokenVerifier, queueManagementUseCase,
+                admissionBudgetController, seatClaimRepository, eventPublisher, strategy, 5, 4);
+    }
+
+    private static QueueTokenCache.TokenState activeState(String tokenUuid, Long userId) {
+        return new QueueTokenCache.TokenState(tokenUuid, userId, "global", QueueToken.TokenStatus.ACTIVE,
+                LocalDateTime.now().plusMinutes(10));
+    }
+
+    // 저장된 좌석처럼 ID 부여 (좌석 상태 변경 이벤트에 seatId 가 실림)
+    private static Seat newSeat() {
+        Concert concert = new Concert("Test Concert", "Test Artist", "Test Venue");
+        ConcertSchedule schedule = new ConcertSchedule(concert, LocalDateTime.now().plusDays(1), LocalDateTime.now());
+        Seat seat = new Seat(schedule, 1);
+        ReflectionTestUtils.setField(seat, "seatId", 1L);
+        return seat;
+    }
+
+    // 트랜잭션 동기화 안에서 실행한 뒤 주어진 상태로 트랜잭션 완료를 알림
+    private static void completeTransaction(int status, Runnable action) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            action.run();
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
-    @DisplayName("좌석 예약 성공 - 유효한 토큰과 사용 가능한 좌석으로 예약")
+    @DisplayName("좌석 예약 성공 - 선점 후 조건부 UPDATE 로 확정 (좌석 엔티티 조회 없음)")
     void reserveSeat_Success() {
         // Given
         String tokenUuid = "test-token-uuid";
@@ -60,17 +130,11 @@ class ReservationUseCaseTest {
         Long seatId = 1L;
         BigDecimal price = new BigDecimal("50000");
 
-        QueueToken activeToken = new QueueToken(userId, 1L);
-        activeToken.activate(10);
-
-        Concert concert = new Concert("Test Concert", "Test Artist", "Test Venue");
-        ConcertSchedule schedule = new ConcertSchedule(concert, LocalDateTime.now().plusDays(1), LocalDateTime.now());
-        Seat availableSeat = new Seat(schedule, 1);
-
-        when(queueTokenRepository.findByTokenUuid(tokenUuid)).thenReturn(Optional.of(activeToken));
-        when(seatRepository.findById(seatId)).thenReturn(Optional.of(availableSeat));
-        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(seatRepository.save(any(Seat.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
+        when(seatClaimRepository.claim(seatId, userId, Duration.ofMinutes(5))).thenReturn(SeatClaimResult.CLAIMED);
+        when(seatRepository.reserveIfAvailable(eq(seatId), isNull(), eq(userId), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(seatRepository.findLocationById(seatId)).thenReturn(Optional.of(new SeatLocation(seatId, 10L, 1)));
 
         ReservationUseCase.ReserveSeatCommand command = new ReservationUseCase.ReserveSeatCommand(
                 tokenUuid, userId, seatId, price
@@ -85,79 +149,246 @@ class ReservationUseCaseTest {
         assertThat(result.getPrice()).isEqualTo(price);
         assertThat(result.getExpiresAt()).isAfter(LocalDateTime.now());
 
-        verify(seatRepository).save(any(Seat.class));
         verify(reservationRepository).save(any(Reservation.class));
+        verify(seatRepository).decreaseAvailableSeats(10L);
+        verify(eventPublisher).publishEvent(any(ReservationUseCase.SeatHeldEvent.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ReservationUseCase.SeatStatusChangedEvent changed
+                && changed.getScheduleId().equals(10L) && changed.getSeatIds().equals(List.of(seatId)) && !changed.isAvailable()));
+        verify(seatRepository, never()).findById(any());
+        verify(seatClaimRepository, never()).release(any(), any());
+        verifyNoInteractions(distributedLock);
     }
 
     @Test
-    @DisplayName("좌석 예약 실패 - 유효하지 않은 토큰")
-    void reserveSeat_InvalidToken_ShouldThrowException() {
+    @DisplayName("좌석 예약 실패 - 다른 사용자가 선점한 좌석은 DB 조회 없이 즉시 거절")
+    void reserveSeat_ClaimTaken_RejectedImmediately() {
         // Given
-        String invalidTokenUuid = "invalid-token";
+        String tokenUuid = "test-token-uuid";
         Long userId = 1L;
         Long seatId = 1L;
-        BigDecimal price = new BigDecimal("50000");
 
-        when(queueTokenRepository.findByTokenUuid(invalidTokenUuid)).thenReturn(Optional.empty());
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
+        when(seatClaimRepository.claim(eq(seatId), eq(userId), any(Duration.class))).thenReturn(SeatClaimResult.TAKEN);
 
         ReservationUseCase.ReserveSeatCommand command = new ReservationUseCase.ReserveSeatCommand(
-                invalidTokenUuid, userId, seatId, price
+                tokenUuid, userId, seatId, new BigDecimal("50000")
         );
 
         // When & Then
         assertThatThrownBy(() -> reservationUseCase.reserveSeat(command))
-                .isInstanceOf(IllegalArgumentException.class)
-                .hasMessage("Invalid token");
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Seat is temporarily reserved by another user");
 
-        verify(seatRepository, never()).findById(any());
-        verify(seatRepository, never()).save(any());
+        verifyNoInteractions(seatRepository, reservationRepository, distributedLock);
+    }
+
+    @Test
+    @DisplayName("좌석 예약 실패 - DB 에서 예약 불가한 좌석이면 이번에 잡은 선점 해제")
+    void reserveSeat_SeatNotAvailable_ReleasesClaim() {
+        // Given
+        String tokenUuid = "test-token-uuid";
+        Long userId = 1L;
+        Long seatId = 1L;
+        Seat heldSeat = newSeat();
+        heldSeat.reserve(2L, 5); // 선점 기록 없이 DB 에만 남은 임시 예약
+
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
+        when(seatClaimRepository.claim(eq(seatId), eq(userId), any(Duration.class))).thenReturn(SeatClaimResult.CLAIMED);
+        when(seatRepository.reserveIfAvailable(eq(seatId), any(), eq(userId), any(), any())).thenReturn(0);
+        when(seatRepository.findById(seatId)).thenReturn(Optional.of(heldSeat));
+
+        ReservationUseCase.ReserveSeatCommand command = new ReservationUseCase.ReserveSeatCommand(
+                tokenUuid, userId, seatId, new BigDecimal("50000")
+        );
+
+        // When & Then
+        assertThatThrownBy(() -> reservationUseCase.reserveSeat(command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Seat is not available");
+
+        verify(seatClaimRepository).release(seatId, userId);
         verify(reservationRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("좌석 예약 실패 - 비활성화된 토큰")
-    void reserveSeat_InactiveToken_ShouldThrowException() {
+    @DisplayName("좌석 예약 실패 - 이미 판매된 좌석은 판매 완료로 표시")
+    void reserveSeat_SeatSold_MarksSold() {
         // Given
-        String tokenUuid = "inactive-token";
+        String tokenUuid = "test-token-uuid";
         Long userId = 1L;
         Long seatId = 1L;
-        BigDecimal price = new BigDecimal("50000");
+        Seat soldSeat = newSeat();
+        soldSeat.reserve(2L, 5);
+        soldSeat.confirmReservation();
+
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
+        when(seatClaimRepository.claim(eq(seatId), eq(userId), any(Duration.class))).thenReturn(SeatClaimResult.CLAIMED);
+        when(seatRepository.reserveIfAvailable(eq(seatId), any(), eq(userId), any(), any())).thenReturn(0);
+        when(seatRepository.findById(seatId)).thenReturn(Optional.of(soldSeat));
 
-        QueueToken inactiveToken = new QueueToken(userId, 1L); // 활성화되지 않은 토큰
+        ReservationUseCase.ReserveSeatCommand command = new ReservationUseCase.ReserveSeatCommand(
+                tokenUuid, userId, seatId, new BigDecimal("50000")
+        );
+
+        // When & Then
+        assertThatThrownBy(() -> reservationUseCase.reserveSeat(command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Seat is not available");
+
+        verify(seatClaimRepository).markSold(seatId);
+        verify(seatClaimRepository, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("좌석 예약 - 확정 후 커밋 시점에 롤백되면 이번에 잡은 선점 해제")
+    void reserveSeat_RolledBackAtCommit_ReleasesClaim() {
+        // Given
+        String tokenUuid = "test-token-uuid";
+        Long userId = 1L;
+        Long seatId = 1L;
 
-        when(queueTokenRepository.findByTokenUuid(tokenUuid)).thenReturn(Optional.of(inactiveToken));
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
+        when(seatClaimRepository.claim(eq(seatId), eq(userId), any(Duration.class))).thenReturn(SeatClaimResult.CLAIMED);
+        when(seatRepository.reserveIfAvailable(eq(seatId), any(), eq(userId), any(), any())).thenReturn(1);
+        when(seatRepository.findLocationById(seatId)).thenReturn(Optional.of(new SeatLocation(seatId, 10L, 1)));
+        when(seatRepository.findById(seatId)).thenReturn(Optional.of(newSeat()));
 
         ReservationUseCase.ReserveSeatCommand command = new ReservationUseCase.ReserveSeatCommand(
-                tokenUuid, userId, seatId, price
+                tokenUuid, userId, seatId, new BigDecimal("50000")
+        );
+
+        // When: 메서드는 성공했지만 커밋에서 롤백
+        completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK, () -> reservationUseCase.reserveSeat(command));
+
+        // Then
+        verify(seatClaimRepository).release(seatId, userId);
+    }
+
+    @Test
+    @DisplayName("여러 좌석 예약 - 커밋되면 선점을 유지")
+    void reserveSeats_Committed_KeepsClaims() {
+        // Given
+        String tokenUuid = "test-token-uuid";
+        Long userId = 1L;
+        List<Long> seatIds = List.of(1L, 2L);
+
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
+        when(seatClaimRepository.claimAll(eq(seatIds), eq(userId), any(Duration.class)))
+                .thenReturn(List.of(SeatClaimResult.CLAIMED, SeatClaimResult.CLAIMED));
+        when(seatRepository.findLocationsByIds(seatIds))
+                .thenReturn(List.of(new SeatLocation(1L, 10L, 1), new SeatLocation(2L, 10L, 2)));
+        when(seatRepository.reserveAllIfAvailable(eq(seatIds), eq(10L), eq(userId), any(), any())).thenReturn(2);
+        for (Long seatId : seatIds) {
+            Seat reference = mock(Seat.class);
+            when(reference.getSeatId()).thenReturn(seatId);
+            when(seatRepository.getReferenceById(seatId)).thenReturn(reference);
+        }
+        when(reservationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReservationUseCase.ReserveSeatsCommand command = new ReservationUseCase.ReserveSeatsCommand(
+                tokenUuid, userId, seatIds, new BigDecimal("50000")
+        );
+
+        // When
+        completeTransaction(TransactionSynchronization.STATUS_COMMITTED, () -> reservationUseCase.reserveSeats(command));
+
+        // Then
+        verify(seatClaimRepository, never()).release(any(), any());
+        verify(seatClaimRepository, never()).markSold(any());
+    }
+
+    @Test
+    @DisplayName("좌석 예약 - update 전략은 선점 없이 조건부 UPDATE 로 스케줄 대기열 범위 안에서 판정")
+    void reserveSeat_UpdateStrategy_RestrictsToTokenSchedule() {
+        // Given
+        ReservationUseCase updateUseCase = newUseCase("update");
+        String tokenUuid = "test-token-uuid";
+        Long userId = 1L;
+        Long seatId = 1L;
+        QueueTokenCache.TokenState scheduleToken = new QueueTokenCache.TokenState(tokenUuid, userId, "schedule:7",
+                QueueToken.TokenStatus.ACTIVE, LocalDateTime.now().plusMinutes(10));
+
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(scheduleToken);
+        when(seatRepository.reserveIfAvailable(eq(seatId), eq(7L), eq(userId), any(), any())).thenReturn(0);
+
+        ReservationUseCase.ReserveSeatCommand command = new ReservationUseCase.ReserveSeatCommand(
+                tokenUuid, userId, seatId, new BigDecimal("50000")
+        );
+
+        // When & Then
+        assertThatThrownBy(() -> updateUseCase.reserveSeat(command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Seat is not available");
+
+        verifyNoInteractions(seatClaimRepository, distributedLock, reservationRepository);
+    }
+
+    @Test
+    @DisplayName("좌석 예약 실패 - 비활성화된 토큰은 좌석을 선점하지 않음")
+    void reserveSeat_InactiveToken_ShouldThrowException() {
+        // Given
+        String tokenUuid = "inactive-token";
+
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenThrow(new IllegalStateException("Token is not active"));
+
+        ReservationUseCase.ReserveSeatCommand command = new ReservationUseCase.ReserveSeatCommand(
+                tokenUuid, 1L, 1L, new BigDecimal("50000")
         );
 
         // When & Then
         assertThatThrownBy(() -> reservationUseCase.reserveSeat(command))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessage("Token is not active");
+
+        verifyNoInteractions(seatClaimRepository, seatRepository);
+    }
+
+    @Test
+    @DisplayName("좌석 예약 - lock 전략은 좌석별 분산 락 안에서 DB 확인 (선점 저장소 미사용)")
+    void reserveSeat_LockStrategy() {
+        // Given
+        ReservationUseCase lockUseCase = newUseCase("lock");
+        String tokenUuid = "test-token-uuid";
+        Long userId = 1L;
+        Long seatId = 1L;
+        Seat availableSeat = newSeat();
+
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
+        when(seatRepository.findById(seatId)).thenReturn(Optional.of(availableSeat));
+
+        ReservationUseCase.ReserveSeatCommand command = new ReservationUseCase.ReserveSeatCommand(
+                tokenUuid, userId, seatId, new BigDecimal("50000")
+        );
+
+        // When
+        ReservationUseCase.ReservationResult result = lockUseCase.reserveSeat(command);
+
+        // Then
+        assertThat(result.getSeatNumber()).isEqualTo(1);
+        assertThat(availableSeat.isReservedBy(userId)).isTrue();
+        verify(distributedLock).executeWithLock(eq("seat:reserve:" + seatId), eq(3L), eq(10L), any(Supplier.class));
+        verify(seatRepository).save(availableSeat);
+        verifyNoInteractions(seatClaimRepository);
     }
 
     @Test
     @DisplayName("좌석 예약 실패 - 존재하지 않는 좌석")
     void reserveSeat_SeatNotFound_ShouldThrowException() {
         // Given
+        ReservationUseCase lockUseCase = newUseCase("lock");
         String tokenUuid = "test-token-uuid";
         Long userId = 1L;
         Long seatId = 999L;
-        BigDecimal price = new BigDecimal("50000");
 
-        QueueToken activeToken = new QueueToken(userId, 1L);
-        activeToken.activate(10);
-
-        when(queueTokenRepository.findByTokenUuid(tokenUuid)).thenReturn(Optional.of(activeToken));
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
         when(seatRepository.findById(seatId)).thenReturn(Optional.empty());
 
         ReservationUseCase.ReserveSeatCommand command = new ReservationUseCase.ReserveSeatCommand(
-                tokenUuid, userId, seatId, price
+                tokenUuid, userId, seatId, new BigDecimal("50000")
         );
 
         // When & Then
-        assertThatThrownBy(() -> reservationUseCase.reserveSeat(command))
+        assertThatThrownBy(() -> lockUseCase.reserveSeat(command))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("Seat not found");
     }
@@ -171,18 +402,13 @@ class ReservationUseCaseTest {
         Long reservationId = 1L;
         BigDecimal price = new BigDecimal("50000");
 
-        QueueToken activeToken = new QueueToken(userId, 1L);
-        activeToken.activate(10);
-
-        Concert concert = new Concert("Test Concert", "Test Artist", "Test Venue");
-        ConcertSchedule schedule = new ConcertSchedule(concert, LocalDateTime.now().plusDays(1), LocalDateTime.now());
-        Seat seat = new Seat(schedule, 1);
+        Seat seat = newSeat();
         seat.reserve(userId, 5); // 임시 예약
 
         Reservation reservation = new Reservation(userId, seat, price);
         PaymentInfo paymentInfo = new PaymentInfo("payment-123", price);
 
-        when(queueTokenRepository.findByTokenUuid(tokenUuid)).thenReturn(Optional.of(activeToken));
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(reservation));
         when(paymentService.processPayment(eq(userId), eq(price), anyString())).thenReturn(paymentInfo);
 
@@ -196,7 +422,6 @@ class ReservationUseCaseTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getPaymentId()).isEqualTo("payment-123");
-        assertThat(result.getReservationId()).isEqualTo(reservationId);
         assertThat(result.getAmount()).isEqualTo(price);
         assertThat(result.getPaidAt()).isNotNull();
 
@@ -204,7 +429,7 @@ class ReservationUseCaseTest {
         verify(paymentService).processPayment(eq(userId), eq(price), anyString());
         verify(reservationRepository).save(reservation);
         verify(seatRepository).save(seat);
-        verify(queueTokenRepository).save(activeToken);
+        verify(queueManagementUseCase).completeToken(tokenUuid);
     }
 
     @Test
@@ -215,10 +440,7 @@ class ReservationUseCaseTest {
         Long userId = 1L;
         Long reservationId = 999L;
 
-        QueueToken activeToken = new QueueToken(userId, 1L);
-        activeToken.activate(10);
-
-        when(queueTokenRepository.findByTokenUuid(tokenUuid)).thenReturn(Optional.of(activeToken));
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.empty());
 
         ReservationUseCase.ProcessPaymentCommand command = new ReservationUseCase.ProcessPaymentCommand(
@@ -244,16 +466,9 @@ class ReservationUseCaseTest {
         Long reservationId = 1L;
         BigDecimal price = new BigDecimal("50000");
 
-        QueueToken activeToken = new QueueToken(userId, 1L);
-        activeToken.activate(10);
-
-        Concert concert = new Concert("Test Concert", "Test Artist", "Test Venue");
-        ConcertSchedule schedule = new ConcertSchedule(concert, LocalDateTime.now().plusDays(1), LocalDateTime.now());
-        Seat seat = new Seat(schedule, 1);
+        Reservation otherUserReservation = new Reservation(otherUserId, newSeat(), price); // 다른 사용자의 예약
 
-        Reservation otherUserReservation = new Reservation(otherUserId, seat, price); // 다른 사용자의 예약
-
-        when(queueTokenRepository.findByTokenUuid(tokenUuid)).thenReturn(Optional.of(activeToken));
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
         when(reservationRepository.findById(reservationId)).thenReturn(Optional.of(otherUserReservation));
 
         ReservationUseCase.ProcessPaymentCommand command = new ReservationUseCase.ProcessPaymentCommand(
@@ -268,4 +483,155 @@ class ReservationUseCaseTest {
         verify(userBalanceService, never()).deductBalance(any(), any());
         verify(paymentService, never()).processPayment(any(), any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("여러 좌석 예약 성공 - 한 번에 선점하고 UPDATE 한 문장, 예약 일괄 저장, 배치도 갱신 한 번")
+    void reserveSeats_Success() {
+        // Given
+        String tokenUuid = "test-token-uuid";
+        Long userId = 1L;
+        List<Long> seatIds = List.of(3L, 1L, 2L);
+        List<Long> sortedSeatIds = List.of(1L, 2L, 3L);
+
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
+        when(seatClaimRepository.claimAll(eq(sortedSeatIds), eq(userId), any(Duration.class)))
+                .thenReturn(List.of(SeatClaimResult.CLAIMED, SeatClaimResult.CLAIMED, SeatClaimResult.CLAIMED));
+        when(seatRepository.findLocationsByIds(sortedSeatIds)).thenReturn(List.of(
+                new SeatLocation(1L, 10L, 1), new SeatLocation(2L, 10L, 2), new SeatLocation(3L, 10L, 3)));
+        when(seatRepository.reserveAllIfAvailable(eq(sortedSeatIds), eq(10L), eq(userId), any(), any())).thenReturn(3);
+        for (Long seatId : sortedSeatIds) {
+            Seat reference = mock(Seat.class);
+            when(reference.getSeatId()).thenReturn(seatId);
+            when(seatRepository.getReferenceById(seatId)).thenReturn(reference);
+        }
+        when(reservationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReservationUseCase.ReserveSeatsCommand command = new ReservationUseCase.ReserveSeatsCommand(
+                tokenUuid, userId, seatIds, new BigDecimal("50000")
+        );
+
+        // When
+        ReservationUseCase.SeatsReservationResult result = reservationUseCase.reserveSeats(command);
+
+        // Then
+        assertThat(result.getScheduleId()).isEqualTo(10L);
+        assertThat(result.getReservations()).extracting(ReservationUseCase.ReservationResult::getSeatNumber)
+                .containsExactly(1, 2, 3);
+        assertThat(result.getTotalPrice()).isEqualByComparingTo("150000");
+
+        verify(seatRepository).decreaseAvailableSeatsBy(10L, 3);
+        verify(eventPublisher, times(3)).publishEvent(any(ReservationUseCase.SeatHeldEvent.class));
+        verify(eventPublisher).publishEvent(argThat((Object event) -> event instanceof ReservationUseCase.SeatStatusChangedEvent changed
+                && changed.getSeatIds().equals(sortedSeatIds) && !changed.isAvailable()));
+        verifyNoInteractions(distributedLock);
+    }
+
+    @Test
+    @DisplayName("좌석 예약 - 만료 처리 전의 임시 예약 좌석은 이전 예약을 취소하고 잔여 좌석 수를 다시 차감하지 않음")
+    void reserveSeat_ExpiredHold_CancelsSupersededWithoutDecrement() {
+        // Given
+        String tokenUuid = "test-token-uuid";
+        Long userId = 1L;
+        Long seatId = 1L;
+
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
+        when(seatClaimRepository.claim(eq(seatId), eq(userId), any(Duration.class))).thenReturn(SeatClaimResult.CLAIMED);
+        when(seatRepository.reserveIfAvailable(eq(seatId), any(), eq(userId), any(), any())).thenReturn(0);
+        when(seatRepository.takeOverExpiredHold(eq(seatId), any(), eq(userId), any(), any())).thenReturn(1);
+        when(seatRepository.findLocationById(seatId)).thenReturn(Optional.of(new SeatLocation(seatId, 10L, 1)));
+
+        ReservationUseCase.ReserveSeatCommand command = new ReservationUseCase.ReserveSeatCommand(
+                tokenUuid, userId, seatId, new BigDecimal("50000")
+        );
+
+        // When
+        reservationUseCase.reserveSeat(command);
+
+        // Then: 이전 예약 취소가 새 예약 저장보다 먼저 (새 예약까지 취소하지 않도록)
+        InOrder inOrder = inOrder(reservationRepository);
+        inOrder.verify(reservationRepository).cancelSupersededHolds(eq(List.of(seatId)), any(LocalDateTime.class));
+        inOrder.verify(reservationRepository).save(any(Reservation.class));
+        verify(seatRepository, never()).decreaseAvailableSeats(any());
+    }
+
+    @Test
+    @DisplayName("여러 좌석 예약 - 판매 가능 좌석 수만큼만 차감하고 넘겨받은 좌석의 이전 예약은 취소")
+    void reserveSeats_MixedWithExpiredHolds_DecrementsOnlyAvailable() {
+        // Given
+        String tokenUuid = "test-token-uuid";
+        Long userId = 1L;
+        List<Long> seatIds = List.of(1L, 2L, 3L);
+
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
+        when(seatClaimRepository.claimAll(eq(seatIds), eq(userId), any(Duration.class)))
+                .thenReturn(List.of(SeatClaimResult.CLAIMED, SeatClaimResult.CLAIMED, SeatClaimResult.CLAIMED));
+        when(seatRepository.findLocationsByIds(seatIds)).thenReturn(List.of(
+                new SeatLocation(1L, 10L, 1), new SeatLocation(2L, 10L, 2), new SeatLocation(3L, 10L, 3)));
+        when(seatRepository.reserveAllIfAvailable(eq(seatIds), eq(10L), eq(userId), any(), any())).thenReturn(2);
+        when(seatRepository.takeOverExpiredHolds(eq(seatIds), eq(10L), eq(userId), any(), any())).thenReturn(1);
+        for (Long seatId : seatIds) {
+            Seat reference = mock(Seat.class);
+            when(reference.getSeatId()).thenReturn(seatId);
+            when(seatRepository.getReferenceById(seatId)).thenReturn(reference);
+        }
+        when(reservationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReservationUseCase.ReserveSeatsCommand command = new ReservationUseCase.ReserveSeatsCommand(
+                tokenUuid, userId, seatIds, new BigDecimal("50000")
+        );
+
+        // When
+        reservationUseCase.reserveSeats(command);
+
+        // Then
+        InOrder inOrder = inOrder(reservationRepository);
+        inOrder.verify(reservationRepository).cancelSupersededHolds(eq(seatIds), any(LocalDateTime.class));
+        inOrder.verify(reservationRepository).saveAll(anyList());
+        verify(seatRepository).decreaseAvailableSeatsBy(10L, 2);
+    }
+
+    @Test
+    @DisplayName("여러 좌석 예약 실패 - 일부 좌석만 갱신되면 전체 거절하고 이번에 잡은 선점만 해제")
+    void reserveSeats_PartiallyAvailable_RejectsAll() {
+        // Given
+        String tokenUuid = "test-token-uuid";
+        Long userId = 1L;
+        List<Long> seatIds = List.of(1L, 2L);
+
+        when(queueTokenVerifier.requireActive(tokenUuid)).thenReturn(activeState(tokenUuid, userId));
+        when(seatClaimRepository.claimAll(eq(seatIds), eq(userId), any(Duration.class)))
+                .thenReturn(List.of(SeatClaimResult.ALREADY_HELD, SeatClaimResult.CLAIMED));
+        when(seatRepository.findLocationsByIds(seatIds)).thenReturn(List.of(
+                new SeatLocation(1L, 10L, 1), new SeatLocation(2L, 10L, 2)));
+        when(seatRepository.reserveAllIfAvailable(eq(seatIds), eq(10L), eq(userId), any(), any())).thenReturn(1);
+        when(seatRepository.findById(2L)).thenReturn(Optional.of(newSeat()));
+
+        ReservationUseCase.ReserveSeatsCommand command = new ReservationUseCase.ReserveSeatsCommand(
+                tokenUuid, userId, seatIds, new BigDecimal("50000")
+        );
+
+        // When & Then
+        assertThatThrownBy(() -> reservationUseCase.reserveSeats(command))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Seat is not available");
+
+        verify(seatClaimRepository).release(2L, userId);
+        verify(seatClaimRepository, never()).release(eq(1L), any());
+        verify(reservationRepository, never()).saveAll(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("여러 좌석 예약 실패 - 중복 좌석이나 허용 개수 초과는 선점 전에 거절")
+    void reserveSeats_InvalidSeatIds() {
+        // When & Then
+        assertThatThrownBy(() -> reservationUseCase.reserveSeats(new ReservationUseCase.ReserveSeatsCommand(
+                "test-token-uuid", 1L, List.of(1L, 1L), new BigDecimal("50000"))))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> reservationUseCase.reserveSeats(new ReservationUseCase.ReserveSeatsCommand(
+                "test-token-uuid", 1L, List.of(1L, 2L, 3L, 4L, 5L), new BigDecimal("50000"))))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(seatClaimRepository, seatRepository);
+    }
+}
@@ -0,0 +1,112 @@
+package kr.hhplus.be.server.application.concert;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import kr.hhplus.be.server.domain.concert.ReservationHold;
+import kr.hhplus.be.server.domain.concert.repository.ReservationRepository;
+import kr.hhplus.be.server.infrastructure.redis.SeatCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatHoldExpirySchedulerTest {
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private SeatCacheService seatCacheService;
+
+    @Mock
+    private SchedulerLeaderElection leaderElection;
+
+    private SeatHoldExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        // 100ms tick, 칸 512개, 묶음 2개
+        scheduler = new SeatHoldExpiryScheduler(reservationRepository, seatCacheService, leaderElection,
+                new SimpleMeterRegistry(), 100, 512, 2, 5_000, 10_000);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 된 임시 예약만 묶음 단위로 취소하고 되돌린 좌석의 배치도 상태 갱신")
+    void expireDue_CancelsInBatches() {
+        // Given
+        long now = System.currentTimeMillis();
+        LocalDateTime dueAt = toDateTime(now + 1_000);
+        scheduler.schedule(1L, dueAt);
+        scheduler.schedule(2L, dueAt);
+        scheduler.schedule(3L, dueAt);
+        scheduler.schedule(4L, toDateTime(now + 60_000)); // 아직 만료 전
+        when(reservationRepository.expireTemporaryReservations(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(new ReservationHold(1L, 11L, 7L, dueAt), new ReservationHold(2L, 12L, 7L, dueAt)))
+                .thenReturn(List.of()); // 3번은 그 사이 결제됨
+
+        // When
+        int expired = scheduler.expireDue(now + 1_100);
+
+        // Then
+        assertThat(expired).isEqualTo(2);
+        verify(reservationRepository, times(2)).expireTemporaryReservations(anyCollection(), any(LocalDateTime.class));
+        verify(seatCacheService).updateSeatStatus(7L, 11L, true);
+        verify(seatCacheService).updateSeatStatus(7L, 12L, true);
+    }
+
+    @Test
+    @DisplayName("만료 처리 실패 시 잠시 뒤 다시 시도")
+    void expireDue_RetriesOnFailure() {
+        // Given
+        long now = System.currentTimeMillis();
+        scheduler.schedule(1L, toDateTime(now + 500));
+        when(reservationRepository.expireTemporaryReservations(anyCollection(), any(LocalDateTime.class)))
+                .thenThrow(new RuntimeException("db down"))
+                .thenReturn(List.of(new ReservationHold(1L, 11L, 7L, toDateTime(now + 500))));
+
+        // When
+        int first = scheduler.expireDue(now + 600);
+        int second = scheduler.expireDue(now + 1_700);
+
+        // Then
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리더만 영속 만료 인덱스에서 만료 후 유예 시간이 지난 예약을 적재 (살아 있는 바퀴가 처리할 예약은 제외)")
+    void recover_LeaderOnly_OverdueOnly() {
+        // Given
+        when(leaderElection.isLeader()).thenReturn(false, true);
+        when(reservationRepository.findTemporaryHoldsDueBefore(any(LocalDateTime.class), eq(10_000)))
+                .thenReturn(List.of(new ReservationHold(9L, 19L, 7L, LocalDateTime.now().minusSeconds(1))));
+        when(reservationRepository.expireTemporaryReservations(eq(List.of(9L)), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        // When
+        scheduler.recover(); // 리더 아님
+        scheduler.recover();
+        scheduler.expireDue(System.currentTimeMillis() + 200);
+
+        // Then
+        verify(reservationRepository, times(1)).findTemporaryHoldsDueBefore(
+                argThat(dueBefore -> dueBefore.isBefore(LocalDateTime.now().minusSeconds(4))), eq(10_000));
+        verify(reservationRepository).expireTemporaryReservations(eq(List.of(9L)), any(LocalDateTime.class));
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,121 @@
+package kr.hhplus.be.server.application.concert;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.concert.repository.SeatRepository;
+import kr.hhplus.be.server.infrastructure.redis.RedisDistributedLock;
+import kr.hhplus.be.server.infrastructure.redis.SeatCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatLayoutLoaderTest {
+
+    private static final Long SCHEDULE_ID = 1L;
+
+    @Mock
+    private SeatRepository seatRepository;
+
+    @Mock
+    private SeatCacheService seatCacheService;
+
+    @Mock
+    private RedisDistributedLock distributedLock;
+
+    private SeatLayoutLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new SeatLayoutLoader(seatRepository, seatCacheService, distributedLock,
+                new SimpleMeterRegistry(), 1, 5, 5_000);
+    }
+
+    @Test
+    @DisplayName("동시 캐시 미스 - DB 조회는 한 번만 실행되고 나머지 호출은 같은 결과를 받음")
+    @SuppressWarnings("unchecked")
+    void load_CoalescesConcurrentMisses() throws Exception {
+        // Given: 첫 적재가 DB 조회에서 멈춰 있는 동안 다른 호출이 들어옴
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(distributedLock.executeWithLock(anyString(), anyLong(), anyLong(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(3)).get());
+        when(seatCacheService.getCachedSeatLayout(SCHEDULE_ID)).thenReturn(null);
+        when(seatRepository.findByScheduleId(SCHEDULE_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(10);
+        try {
+            Future<List<SeatCacheService.SeatLayoutDto>> first = executorService.submit(() -> loader.load(SCHEDULE_ID));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<List<SeatCacheService.SeatLayoutDto>>> waiters = new ArrayList<>();
+            for (int i = 0; i < 9; i++) {
+                waiters.add(executorService.submit(() -> loader.load(SCHEDULE_ID)));
+            }
+
+            // When
+            Thread.sleep(100);
+            release.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEmpty();
+            for (Future<List<SeatCacheService.SeatLayoutDto>> waiter : waiters) {
+                assertThat(waiter.get(5, TimeUnit.SECONDS)).isEmpty();
+            }
+            verify(seatRepository, times(1)).findByScheduleId(SCHEDULE_ID);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("락 대기 중 다른 노드가 배치도를 채웠으면 DB 조회 없이 사용")
+    @SuppressWarnings("unchecked")
+    void load_UsesLayoutFilledByOtherNode() {
+        // Given
+        List<SeatCacheService.SeatLayoutDto> filled = List.of(new SeatCacheService.SeatLayoutDto());
+        when(distributedLock.executeWithLock(anyString(), anyLong(), anyLong(), any(Supplier.class)))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(3)).get());
+        when(seatCacheService.getCachedSeatLayout(SCHEDULE_ID)).thenReturn(filled);
+
+        // When
+        List<SeatCacheService.SeatLayoutDto> layout = loader.load(SCHEDULE_ID);
+
+        // Then
+        assertThat(layout).isSameAs(filled);
+        verify(seatRepository, never()).findByScheduleId(any());
+    }
+
+    @Test
+    @DisplayName("적재 락을 얻지 못하면 조회를 실패시키지 않고 직접 적재")
+    @SuppressWarnings("unchecked")
+    void load_FallsBackWhenLockUnavailable() {
+        // Given
+        when(distributedLock.executeWithLock(anyString(), anyLong(), anyLong(), any(Supplier.class)))
+                .thenThrow(new IllegalStateException("Could not acquire lock for key: seat:layout:load:1"));
+        when(seatCacheService.getSeatLayoutVersion(SCHEDULE_ID)).thenReturn(3L);
+        when(seatRepository.findByScheduleId(SCHEDULE_ID)).thenReturn(List.of());
+
+        // When
+        List<SeatCacheService.SeatLayoutDto> layout = loader.load(SCHEDULE_ID);
+
+        // Then
+        assertThat(layout).isEmpty();
+        verify(seatCacheService).cacheSeatLayout(SCHEDULE_ID, List.of(), 3L);
+    }
+}
@@ -0,0 +1,86 @@
+package kr.hhplus.be.server.application.concert;
+
+import kr.hhplus.be.server.infrastructure.redis.SeatCacheService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SeatOccupancyGridTest {
+
+    @Test
+    @DisplayName("연속 빈 좌석 후보 - 앞 행 우선, 같은 행에서는 가운데에 가까운 블록 우선")
+    void findBlocks_PrefersFrontRowsAndCenter() {
+        // Given: 2행 x 10열, 1행은 4~6열이 이미 예약됨
+        SeatOccupancyGrid grid = new SeatOccupancyGrid(layout(2, 10, Set.of(4L, 5L, 6L)));
+
+        // When
+        List<SeatOccupancyGrid.SeatBlock> blocks = grid.findBlocks("R", 3, seatId -> false);
+
+        // Then: 1행 앞/뒤 빈 구간(1~3, 7~10)이 2행보다 먼저
+        assertThat(blocks.get(0).getSeatIds()).containsExactly(7L, 8L, 9L);
+        assertThat(blocks.get(1).getSeatIds()).containsExactly(1L, 2L, 3L);
+        assertThat(blocks.get(2).getSeatIds()).containsExactly(15L, 16L, 17L);
+        assertThat(blocks).allSatisfy(block -> assertThat(block.getSeats())
+                .extracting(SeatCacheService.SeatLayoutDto::isAvailable).containsOnly(true));
+    }
+
+    @Test
+    @DisplayName("연속 빈 좌석 후보 - 시도 중인 좌석이나 다른 등급은 제외")
+    void findBlocks_SkipsExcludedSeatsAndOtherGrades() {
+        // Given
+        SeatOccupancyGrid grid = new SeatOccupancyGrid(layout(1, 4, Set.of()));
+
+        // When & Then
+        assertThat(grid.findBlocks("R", 2, seatId -> seatId == 2L))
+                .extracting(SeatOccupancyGrid.SeatBlock::getSeatIds).containsExactly(List.of(3L, 4L));
+        assertThat(grid.findBlocks("R", 5, seatId -> false)).isEmpty();
+        assertThat(grid.findBlocks("VIP", 1, seatId -> false)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("연속 빈 좌석 후보 - 뒤 행이 짧아도 앞 행 블록이 먼저")
+    void findBlocks_ShorterLastRow_StillAfterFrontRows() {
+        // Given: 1~2행은 20열, 3행은 4열, 1행은 가운데(9~12열)만 남음
+        List<SeatCacheService.SeatLayoutDto> seats = new ArrayList<>();
+        for (int column = 1; column <= 20; column++) {
+            seats.add(seat(column, 1, column, column >= 9 && column <= 12));
+            seats.add(seat(20 + column, 2, column, true));
+        }
+        for (int column = 1; column <= 4; column++) {
+            seats.add(seat(40 + column, 3, column, true));
+        }
+        SeatOccupancyGrid grid = new SeatOccupancyGrid(seats);
+
+        // When
+        List<SeatOccupancyGrid.SeatBlock> blocks = grid.findBlocks("R", 4, seatId -> false);
+
+        // Then: 행 번호 순 (같은 행 안에서는 가운데에 가까운 순)
+        assertThat(blocks).extracting(SeatOccupancyGrid.SeatBlock::getRowNumber).isSorted();
+        assertThat(blocks.get(0).getSeatIds()).containsExactly(9L, 10L, 11L, 12L);
+        assertThat(blocks.get(1).getSeatIds()).containsExactly(29L, 30L, 31L, 32L);
+        assertThat(blocks.get(blocks.size() - 1).getSeatIds()).containsExactly(41L, 42L, 43L, 44L);
+    }
+
+    // seatId = (행 - 1) * columns + 열
+    private static List<SeatCacheService.SeatLayoutDto> layout(int rows, int columns, Set<Long> reserved) {
+        List<SeatCacheService.SeatLayoutDto> seats = new ArrayList<>();
+        for (int row = 1; row <= rows; row++) {
+            for (int column = 1; column <= columns; column++) {
+                long seatId = (long) (row - 1) * columns + column;
+                seats.add(new SeatCacheService.SeatLayoutDto(seatId, (int) seatId, "R", new BigDecimal("50000"),
+                        row, column, !reserved.contains(seatId)));
+            }
+        }
+        return seats;
+    }
+
+    private static SeatCacheService.SeatLayoutDto seat(long seatId, int row, int column, boolean available) {
+        return new SeatCacheService.SeatLayoutDto(seatId, (int) seatId, "R", new BigDecimal("50000"), row, column, available);
+    }
+}
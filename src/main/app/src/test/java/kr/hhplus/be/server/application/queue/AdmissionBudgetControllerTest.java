@@ -0,0 +1,204 @@
+package kr.hhplus.be.server.application.queue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import kr.hhplus.be.server.domain.queue.AdmissionSamples;
+import kr.hhplus.be.server.domain.queue.QueueLoad;
+import kr.hhplus.be.server.domain.queue.repository.AdmissionSampleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AdmissionBudgetControllerTest {
+
+    private InMemoryAdmissionSampleRepository sharedSamples;
+    private AdmissionBudgetController controller;
+
+    @BeforeEach
+    void setUp() {
+        sharedSamples = new InMemoryAdmissionSampleRepository();
+        controller = newController(true);
+    }
+
+    @Test
+    @DisplayName("지연/오류율이 목표 이내면 예산을 고정 폭으로 증가")
+    void adjust_Healthy_AdditiveIncrease() {
+        // Given
+        recordSamples(20, 50, false);
+
+        // When
+        controller.adjust();
+
+        // Then
+        assertThat(controller.getBudget()).isEqualTo(110);
+    }
+
+    @Test
+    @DisplayName("p99 지연이 목표를 넘으면 예산을 절반으로 감소")
+    void adjust_SlowBackend_MultiplicativeDecrease() {
+        // Given
+        recordSamples(20, 2000, false);
+
+        // When
+        controller.adjust();
+
+        // Then
+        assertThat(controller.getBudget()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("오류율이 목표를 넘으면 예산 감소, 최소값 아래로는 줄지 않음")
+    void adjust_Errors_DecreaseToLowerBound() {
+        for (int i = 0; i < 5; i++) {
+            recordSamples(20, 50, true);
+            controller.adjust();
+        }
+
+        assertThat(controller.getBudget()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("예산은 최대값을 넘지 않고, 표본이 부족하면 유지")
+    void adjust_BoundedAndRequiresSamples() {
+        for (int i = 0; i < 5; i++) {
+            recordSamples(20, 50, false);
+            controller.adjust();
+        }
+        assertThat(controller.getBudget()).isEqualTo(120);
+
+        recordSamples(5, 2000, true);
+        controller.adjust();
+        assertThat(controller.getBudget()).isEqualTo(120);
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 백엔드 오류로 집계하지 않음")
+    void measure_BusinessExceptionNotCountedAsError() {
+        for (int i = 0; i < 20; i++) {
+            assertThatThrownBy(() -> controller.measure(() -> {
+                throw new IllegalStateException("Seat is not available");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        controller.adjust();
+
+        assertThat(controller.getBudget()).isEqualTo(110);
+    }
+
+    @Test
+    @DisplayName("두 노드 - 리더가 아닌 노드의 느린 요청도 리더의 예산 조정에 반영되고, 조정된 예산을 함께 보여 줌")
+    void adjust_AggregatesSamplesFromAllNodes() {
+        // Given: 리더는 빠르고, 다른 노드는 목표 지연 초과 (클러스터 p99 > 500ms)
+        AdmissionBudgetController follower = newController(false);
+        recordSamples(controller, 60, 50, false);
+        recordSamples(follower, 40, 2000, false);
+
+        // When
+        follower.flush();
+        controller.adjust();
+        follower.flush();
+
+        // Then
+        assertThat(controller.getBudget()).isEqualTo(50);
+        assertThat(follower.getBudget()).isEqualTo(50);
+        assertThat(sharedSamples.drainSamples().getRequests()).isZero();
+    }
+
+    @Test
+    @DisplayName("리더가 아닌 노드는 예산을 조정하지 않음")
+    void adjust_NotLeader_KeepsBudget() {
+        // Given
+        AdmissionBudgetController follower = newController(false);
+        recordSamples(follower, 20, 50, false);
+
+        // When
+        follower.adjust();
+
+        // Then
+        assertThat(follower.getBudget()).isEqualTo(100);
+        assertThat(sharedSamples.findBudget()).isNull();
+    }
+
+    @Test
+    @DisplayName("예산 분배 - 수요가 작은 대기열은 수요만큼, 남은 예산은 큰 대기열에 (대기열당 상한 적용)")
+    void allocate_MaxMinFairShare() {
+        // When
+        Map<String, Integer> budgets = controller.allocate(List.of(
+                new QueueLoad("schedule:1", 50, 10000),  // 대형 공연
+                new QueueLoad("schedule:2", 2, 3),       // 한산한 공연
+                new QueueLoad("schedule:3", 10, 30)
+        ));
+
+        // Then: 전체 100 = 5 + 40 + 55 (schedule:1 은 상한 60 이내에서 나머지 전부)
+        assertThat(budgets).containsEntry("schedule:2", 5);
+        assertThat(budgets).containsEntry("schedule:3", 40);
+        assertThat(budgets).containsEntry("schedule:1", 55);
+    }
+
+    @Test
+    @DisplayName("예산 분배 - 한 대기열은 대기열당 상한을 넘지 않음")
+    void allocate_ShardCap() {
+        Map<String, Integer> budgets = controller.allocate(List.of(new QueueLoad("schedule:1", 0, 10000)));
+
+        assertThat(budgets).containsEntry("schedule:1", 60);
+    }
+
+    // 초기 100, 범위 20..120, +10 / x0.5, p99 500ms, 오류율 1%, 최소 표본 10, 대기열당 최대 60
+    private AdmissionBudgetController newController(boolean leader) {
+        SchedulerLeaderElection leaderElection = mock(SchedulerLeaderElection.class);
+        when(leaderElection.isLeader()).thenReturn(leader);
+        return new AdmissionBudgetController(new SimpleMeterRegistry(), sharedSamples, leaderElection,
+                100, 20, 120, 10, 0.5, 500, 0.01, 10, 60000, 10, 60);
+    }
+
+    private void recordSamples(int count, long latencyMillis, boolean failed) {
+        recordSamples(controller, count, latencyMillis, failed);
+    }
+
+    private void recordSamples(AdmissionBudgetController target, int count, long latencyMillis, boolean failed) {
+        for (int i = 0; i < count; i++) {
+            target.record(TimeUnit.MILLISECONDS.toNanos(latencyMillis), failed);
+        }
+    }
+
+    // 노드들이 공유하는 표본 저장소
+    private static class InMemoryAdmissionSampleRepository implements AdmissionSampleRepository {
+        private long requests;
+        private long errors;
+        private long slowRequests;
+        private Integer budget;
+
+        @Override
+        public synchronized void addSamples(long requests, long errors, long slowRequests) {
+            this.requests += requests;
+            this.errors += errors;
+            this.slowRequests += slowRequests;
+        }
+
+        @Override
+        public synchronized AdmissionSamples drainSamples() {
+            AdmissionSamples drained = new AdmissionSamples(requests, errors, slowRequests);
+            requests = 0;
+            errors = 0;
+            slowRequests = 0;
+            return drained;
+        }
+
+        @Override
+        public synchronized void saveBudget(int budget) {
+            this.budget = budget;
+        }
+
+        @Override
+        public synchronized Integer findBudget() {
+            return budget;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package kr.hhplus.be.server.application.queue;
+
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueAdmitterTest {
+
+    @Mock
+    private QueueManagementUseCase queueManagementUseCase;
+
+    @Mock
+    private SchedulerLeaderElection leaderElection;
+
+    private QueueAdmitter queueAdmitter;
+
+    @BeforeEach
+    void setUp() {
+        queueAdmitter = new QueueAdmitter(queueManagementUseCase, leaderElection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        queueAdmitter.shutdown();
+    }
+
+    @Test
+    @DisplayName("슬롯 반환 이벤트 수신 시 즉시 입장 처리")
+    void onSlotFreed_ProcessesQueueImmediately() {
+        // Given
+        when(leaderElection.isLeader()).thenReturn(true);
+
+        // When
+        queueAdmitter.onSlotFreed(new QueueManagementUseCase.QueueSlotFreedEvent("test-token-uuid", "global"));
+
+        // Then
+        verify(queueManagementUseCase, timeout(1000)).processQueue();
+    }
+
+    @Test
+    @DisplayName("입장 처리 중 몰린 요청은 합쳐서 처리하고 동시에 실행하지 않음")
+    void signal_CoalescedAndSingleWriter() throws InterruptedException {
+        // Given
+        when(leaderElection.isLeader()).thenReturn(true);
+        CountDownLatch firstRunStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstRun = new CountDownLatch(1);
+        AtomicInteger concurrentRuns = new AtomicInteger();
+        AtomicInteger maxConcurrentRuns = new AtomicInteger();
+
+        doAnswer(invocation -> {
+            maxConcurrentRuns.accumulateAndGet(concurrentRuns.incrementAndGet(), Math::max);
+            firstRunStarted.countDown();
+            releaseFirstRun.await(1, TimeUnit.SECONDS);
+            concurrentRuns.decrementAndGet();
+            return null;
+        }).when(queueManagementUseCase).processQueue();
+
+        // When
+        queueAdmitter.signal();
+        firstRunStarted.await(1, TimeUnit.SECONDS);
+        for (int i = 0; i < 10; i++) {
+            queueAdmitter.signal();
+        }
+        releaseFirstRun.countDown();
+
+        // Then: 첫 실행 + 대기 중 요청을 합친 1회
+        verify(queueManagementUseCase, timeout(1000).times(2)).processQueue();
+        assertThat(maxConcurrentRuns.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스케줄러 리더가 아닌 노드는 입장 처리를 실행하지 않음")
+    void signal_NotLeader() {
+        // Given
+        when(leaderElection.isLeader()).thenReturn(false);
+
+        // When
+        queueAdmitter.tick();
+        queueAdmitter.onSlotFreed(new QueueManagementUseCase.QueueSlotFreedEvent("test-token-uuid", "global"));
+
+        // Then
+        verify(queueManagementUseCase, after(200).never()).processQueue();
+    }
+
+    @Test
+    @DisplayName("리더가 되면 즉시 입장 처리")
+    void onLeadershipChanged_ProcessesQueue() {
+        // Given
+        when(leaderElection.isLeader()).thenReturn(true);
+
+        // When
+        queueAdmitter.onLeadershipChanged(new SchedulerLeaderElection.LeadershipChangedEvent("node-1", true));
+
+        // Then
+        verify(queueManagementUseCase, timeout(1000)).processQueue();
+    }
+}
@@ -0,0 +1,115 @@
+package kr.hhplus.be.server.application.queue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.queue.QueueLoad;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueCountersTest {
+
+    @Mock
+    private QueueTokenRepository queueTokenRepository;
+
+    private QueueCounters queueCounters;
+
+    @BeforeEach
+    void setUp() {
+        queueCounters = new QueueCounters(queueTokenRepository, new SimpleMeterRegistry(), 10);
+    }
+
+    @Test
+    @DisplayName("상태 전이 - 발급/입장/만료/완료에 따라 대기열별 대기/활성 수 증감")
+    void transitions_UpdateCounts() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            queueCounters.onIssued("schedule:1");
+        }
+
+        // When
+        queueCounters.onAdmitted("schedule:1", 3);
+        queueCounters.onExpired("schedule:1", 1, 1);
+        queueCounters.onCompleted("schedule:1");
+
+        // Then
+        QueueLoad load = queueCounters.getLoad("schedule:1");
+        assertThat(load.getWaitingCount()).isEqualTo(1L);
+        assertThat(load.getActiveCount()).isEqualTo(1L);
+        assertThat(queueCounters.getAdmittedPerSecond()).isGreaterThan(0.0);
+        verifyNoInteractions(queueTokenRepository);
+    }
+
+    @Test
+    @DisplayName("보정 - 저장소 수로 덮어쓰고 비어 있는 대기열은 목록에서 제거")
+    void reconcile_ResetsFromStore() {
+        // Given
+        queueCounters.onIssued("schedule:1"); // 다른 노드의 발급은 모름
+        queueCounters.onIssued("schedule:2");
+        when(queueTokenRepository.findQueueNames()).thenReturn(List.of("schedule:1"));
+        when(queueTokenRepository.countActiveTokens("schedule:1")).thenReturn(2L);
+        when(queueTokenRepository.countWaitingTokens("schedule:1")).thenReturn(40L);
+        when(queueTokenRepository.countActiveTokens("schedule:2")).thenReturn(0L);
+        when(queueTokenRepository.countWaitingTokens("schedule:2")).thenReturn(0L);
+
+        // When
+        queueCounters.reconcile();
+
+        // Then
+        assertThat(queueCounters.getLoad("schedule:1").getWaitingCount()).isEqualTo(40L);
+        assertThat(queueCounters.getLoad("schedule:1").getActiveCount()).isEqualTo(2L);
+        assertThat(queueCounters.getQueueNames()).containsExactly("schedule:1");
+        assertThat(queueCounters.getWaitingCount()).isEqualTo(40L);
+    }
+
+    @Test
+    @DisplayName("보정 - 조회 도중 바뀐 대기열도 조회 결과에 그 이후 증감을 더해 보정")
+    void reconcile_AppliesDeltaRecordedDuringQuery() {
+        // Given: 다른 노드의 완료를 몰라 활성 5 로 남아 있음
+        for (int i = 0; i < 6; i++) {
+            queueCounters.onIssued("schedule:1");
+        }
+        queueCounters.onAdmitted("schedule:1", 5);
+        when(queueTokenRepository.findQueueNames()).thenReturn(List.of("schedule:1"));
+        when(queueTokenRepository.countActiveTokens("schedule:1")).thenAnswer(invocation -> {
+            queueCounters.onAdmitted("schedule:1", 1); // 조회 중에 입장 반영
+            queueCounters.onIssued("schedule:1");
+            return 2L;
+        });
+        when(queueTokenRepository.countWaitingTokens("schedule:1")).thenReturn(1L);
+
+        // When
+        queueCounters.reconcile();
+
+        // Then: 저장소(활성 2, 대기 1) + 조회 이후 증감(활성 +1, 대기 -1 +1)
+        assertThat(queueCounters.getLoad("schedule:1").getActiveCount()).isEqualTo(3L);
+        assertThat(queueCounters.getLoad("schedule:1").getWaitingCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("대기열 목록 - 다른 노드에서 만든 대기열은 저장소에서 찾아 바로 COUNT 로 채움")
+    void getQueueNames_IncludesQueuesFromStore() {
+        // Given
+        queueCounters.onIssued("schedule:1");
+        when(queueTokenRepository.findQueueNames()).thenReturn(List.of("schedule:1", "schedule:2"));
+        when(queueTokenRepository.countActiveTokens("schedule:2")).thenReturn(0L);
+        when(queueTokenRepository.countWaitingTokens("schedule:2")).thenReturn(7L);
+
+        // When
+        List<String> queueNames = queueCounters.getQueueNames();
+
+        // Then
+        assertThat(queueNames).containsExactlyInAnyOrder("schedule:1", "schedule:2");
+        assertThat(queueCounters.getLoad("schedule:2").getWaitingCount()).isEqualTo(7L);
+        verify(queueTokenRepository, never()).countWaitingTokens("schedule:1");
+    }
+}
@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.application.queue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.queue.ExpiryBatch;
+import kr.hhplus.be.server.domain.queue.QueueHeartbeat;
+import kr.hhplus.be.server.domain.queue.QueueToken.TokenStatus;
+import kr.hhplus.be.server.domain.queue.repository.QueueHeartbeatRepository;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueHeartbeatTrackerTest {
+
+    @Mock
+    private QueueHeartbeatRepository queueHeartbeatRepository;
+
+    @Mock
+    private QueueTokenRepository queueTokenRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private QueueHeartbeatTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        // 대기 120초, 활성 180초, 정리 묶음 100개, 기록 간격 10초
+        tracker = new QueueHeartbeatTracker(queueHeartbeatRepository, queueTokenRepository, eventPublisher,
+                new SimpleMeterRegistry(), 120, 180, 100, 10);
+    }
+
+    @Test
+    @DisplayName("활동 기록 - 같은 토큰의 반복 기록은 한 번만 저장")
+    @SuppressWarnings("unchecked")
+    void touch_ThrottledAndFlushedPerQueue() {
+        // Given
+        tracker.touch("schedule:1", "token-a");
+        tracker.touch("schedule:1", "token-a");
+        tracker.touch("schedule:1", "token-b");
+
+        // When
+        tracker.flush();
+        tracker.flush(); // 새로 기록된 활동이 없으면 저장하지 않음
+
+        // Then
+        ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(queueHeartbeatRepository, times(1)).touch(eq("schedule:1"), captor.capture(), any(LocalDateTime.class));
+        assertThat(captor.getValue()).containsExactlyInAnyOrder("token-a", "token-b");
+    }
+
+    @Test
+    @DisplayName("이탈 토큰 정리 - 대기 시간 초과는 대기 토큰만, 활성 유휴 시간 초과는 활성 토큰까지 만료")
+    void evictSilentTokens_ExpiresByState() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        QueueHeartbeat waitingOnly = new QueueHeartbeat("token-a", now.minusSeconds(150)); // 대기 기준만 초과
+        QueueHeartbeat both = new QueueHeartbeat("token-b", now.minusSeconds(200));        // 두 기준 모두 초과
+        when(queueHeartbeatRepository.findSilent("schedule:1", now.minusSeconds(120), 100))
+                .thenReturn(List.of(both, waitingOnly));
+        when(queueTokenRepository.expireTokens(eq("schedule:1"), eq(List.of("token-b", "token-a")), eq(TokenStatus.WAITING), eq(now)))
+                .thenReturn(List.of("token-a"));
+        when(queueTokenRepository.expireTokens(eq("schedule:1"), eq(List.of("token-b")), eq(TokenStatus.ACTIVE), eq(now)))
+                .thenReturn(List.of("token-b"));
+
+        // When
+        ExpiryBatch evicted = tracker.evictSilentTokens("schedule:1", now);
+
+        // Then
+        assertThat(evicted.getExpiredWaitingCount()).isEqualTo(1);
+        assertThat(evicted.getExpiredActiveCount()).isEqualTo(1);
+        verify(queueHeartbeatRepository).remove(eq("schedule:1"),
+                argThat(uuids -> uuids.size() == 2 && uuids.containsAll(List.of("token-a", "token-b"))));
+
+        ArgumentCaptor<QueueHeartbeatTracker.QueueTokensEvictedEvent> captor =
+                ArgumentCaptor.forClass(QueueHeartbeatTracker.QueueTokensEvictedEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getTokenUuids()).containsExactly("token-b"); // 활성 토큰만 폐기 전파
+    }
+
+    @Test
+    @DisplayName("이탈 토큰 정리 - 활동이 끊긴 토큰이 없으면 저장소를 변경하지 않음")
+    void evictSilentTokens_NothingSilent() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(queueHeartbeatRepository.findSilent(eq("schedule:1"), any(LocalDateTime.class), eq(100)))
+                .thenReturn(List.of());
+
+        // When
+        ExpiryBatch evicted = tracker.evictSilentTokens("schedule:1", now);
+
+        // Then
+        assertThat(evicted.getExpiredCount()).isZero();
+        verifyNoInteractions(queueTokenRepository, eventPublisher);
+        verify(queueHeartbeatRepository, never()).remove(anyString(), anyCollection());
+    }
+}
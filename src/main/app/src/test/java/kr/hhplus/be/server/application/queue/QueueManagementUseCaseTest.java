@@ -1,18 +1,29 @@
 package kr.hhplus.be.server.application.queue;
 
+import kr.hhplus.be.server.domain.queue.AdmissionBatch;
+import kr.hhplus.be.server.domain.queue.ExpiryBatch;
+import kr.hhplus.be.server.domain.queue.QueueLoad;
 import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.repository.QueueSequenceRepository;
 import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import kr.hhplus.be.server.domain.queue.repository.QueueWatermarkRepository;
+import kr.hhplus.be.server.infrastructure.queue.HmacQueueTokenSigner;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -24,11 +35,45 @@ class QueueManagementUseCaseTest {
     @Mock
     private QueueTokenRepository queueTokenRepository;
 
+    @Mock
+    private QueueWatermarkRepository queueWatermarkRepository;
+
+    @Mock
+    private QueueTokenVerifier queueTokenVerifier;
+
+    @Mock
+    private HmacQueueTokenSigner tokenSigner;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private AdmissionBudgetController admissionBudgetController;
+
+    @Mock
+    private QueueShardProcessor queueShardProcessor;
+
+    @Mock
+    private QueueSequenceAllocator queueSequenceAllocator;
+
+    @Mock
+    private QueueHeartbeatTracker queueHeartbeatTracker;
+
+    @Mock
+    private QueueCounters queueCounters;
+
     private QueueManagementUseCase queueManagementUseCase;
 
     @BeforeEach
     void setUp() {
-        queueManagementUseCase = new QueueManagementUseCase(queueTokenRepository);
+        queueManagementUseCase = new QueueManagementUseCase(
+                queueTokenRepository, queueWatermarkRepository, queueTokenVerifier, tokenSigner, eventPublisher,
+                admissionBudgetController, queueShardProcessor, Runnable::run,
+                new QueueThroughputEstimator(10, 5000, 60, 3, 1.96, 1), queueSequenceAllocator, queueHeartbeatTracker,
+                queueCounters);
+
+        lenient().when(admissionBudgetController.getBudget()).thenReturn(100);
+        lenient().when(admissionBudgetController.getActiveDurationMinutes()).thenReturn(10);
     }
 
     @Test
@@ -38,9 +83,10 @@ class QueueManagementUseCaseTest {
         Long userId = 1L;
         Long nextPosition = 5L;
 
-        when(queueTokenRepository.findByUserId(userId)).thenReturn(Optional.empty());
-        when(queueTokenRepository.getNextQueuePosition()).thenReturn(nextPosition);
+        when(queueTokenRepository.findByUserIdAndQueueName(userId, "global")).thenReturn(Optional.empty());
+        when(queueSequenceAllocator.next("global")).thenReturn(nextPosition);
         when(queueTokenRepository.save(any(QueueToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(queueTokenRepository.countWaitingAhead("global", nextPosition)).thenReturn(2L); // 빈 순번 2개
 
         // When
         QueueManagementUseCase.QueueTokenResult result = queueManagementUseCase.issueToken(userId);
@@ -48,10 +94,29 @@ class QueueManagementUseCaseTest {
         // Then
         assertThat(result).isNotNull();
         assertThat(result.getStatus()).isEqualTo("WAITING");
-        assertThat(result.getQueuePosition()).isEqualTo(nextPosition);
+        assertThat(result.getQueuePosition()).isEqualTo(3L);
         assertThat(result.getEstimatedWaitTimeMinutes()).isGreaterThanOrEqualTo(0);
 
         verify(queueTokenRepository).save(any(QueueToken.class));
+        verify(queueCounters).onIssued("global");
+    }
+
+    @Test
+    @DisplayName("토큰 발급 - 스케줄을 지정하면 스케줄별 대기열에 독립된 순번으로 발급")
+    void issueToken_ScheduleShard() {
+        // Given
+        Long userId = 1L;
+        when(queueTokenRepository.findByUserIdAndQueueName(userId, "schedule:7")).thenReturn(Optional.empty());
+        when(queueSequenceAllocator.next("schedule:7")).thenReturn(1L);
+        when(queueTokenRepository.save(any(QueueToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        QueueManagementUseCase.QueueTokenResult result = queueManagementUseCase.issueToken(userId, 7L);
+
+        // Then
+        assertThat(result.getQueuePosition()).isEqualTo(1L);
+        verify(queueTokenRepository).save(argThat(token -> "schedule:7".equals(token.getQueueName())));
+        verify(queueWatermarkRepository).findAdmittedSequence("schedule:7");
     }
 
     @Test
@@ -62,7 +127,7 @@ class QueueManagementUseCaseTest {
         QueueToken activeToken = new QueueToken(userId, 1L);
         activeToken.activate(10);
 
-        when(queueTokenRepository.findByUserId(userId)).thenReturn(Optional.of(activeToken));
+        when(queueTokenRepository.findByUserIdAndQueueName(userId, "global")).thenReturn(Optional.of(activeToken));
 
         // When
         QueueManagementUseCase.QueueTokenResult result = queueManagementUseCase.issueToken(userId);
@@ -84,6 +149,7 @@ class QueueManagementUseCaseTest {
         QueueToken waitingToken = new QueueToken(1L, 3L);
 
         when(queueTokenRepository.findByTokenUuid(tokenUuid)).thenReturn(Optional.of(waitingToken));
+        when(queueTokenRepository.countWaitingAhead("global", 3L)).thenReturn(2L);
 
         // When
         QueueManagementUseCase.QueueStatusResult result = queueManagementUseCase.getQueueStatus(tokenUuid);
@@ -93,6 +159,74 @@ class QueueManagementUseCaseTest {
         assertThat(result.getStatus()).isEqualTo("WAITING");
         assertThat(result.getQueuePosition()).isEqualTo(3L);
         assertThat(result.isActive()).isFalse();
+        verify(queueHeartbeatTracker).touch("global", tokenUuid); // 상태 조회는 활동으로 기록
+    }
+
+    @Test
+    @DisplayName("대기열 상태 조회 - 대기 순위는 앞선 대기 토큰 수 기준, 예상 대기 시간은 워터마크와의 순번 거리 기준")
+    void getQueueStatus_PositionFromStoreRank() {
+        // Given: 워터마크와 순번 거리는 25 이지만 그 사이 빈 순번/이탈로 실제 앞선 대기자는 19명
+        String tokenUuid = "test-token-uuid";
+        QueueToken waitingToken = new QueueToken(1L, 125L);
+
+        when(queueTokenRepository.findByTokenUuid(tokenUuid)).thenReturn(Optional.of(waitingToken));
+        when(queueWatermarkRepository.findAdmittedSequence("global")).thenReturn(100L);
+        when(queueTokenRepository.countWaitingAhead("global", 125L)).thenReturn(19L);
+
+        // When
+        QueueManagementUseCase.QueueStatusResult result = queueManagementUseCase.getQueueStatus(tokenUuid);
+
+        // Then
+        assertThat(result.getQueuePosition()).isEqualTo(20L);
+        assertThat(result.getEstimatedWaitTimeMinutes()).isEqualTo(2L);
+        assertThat(waitingToken.getQueuePosition()).isEqualTo(125L);
+    }
+
+    @Test
+    @DisplayName("대기열 상태 조회 - 두 노드의 할당기가 남긴 빈 순번과 무관하게 대기 순위는 1부터 빈틈없이 표시")
+    void getQueueStatus_TwoAllocators_PositionsHaveNoGaps() {
+        // Given: 같은 저장소 카운터에서 구간을 예약하는 두 노드
+        AtomicLong sequence = new AtomicLong();
+        QueueSequenceRepository sharedSequences = (queueName, blockSize) -> sequence.addAndGet(blockSize);
+        QueueManagementUseCase nodeA = newNode(new QueueSequenceAllocator(sharedSequences, 100, 60000L));
+        QueueManagementUseCase nodeB = newNode(new QueueSequenceAllocator(sharedSequences, 100, 60000L));
+
+        List<QueueToken> store = new CopyOnWriteArrayList<>();
+        when(queueTokenRepository.findByUserIdAndQueueName(anyLong(), eq("global"))).thenReturn(Optional.empty());
+        when(queueTokenRepository.save(any(QueueToken.class))).thenAnswer(invocation -> {
+            store.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(queueTokenRepository.findByTokenUuid(anyString())).thenAnswer(invocation -> store.stream()
+                .filter(token -> token.getTokenUuid().equals(invocation.getArgument(0)))
+                .findFirst());
+        when(queueTokenRepository.countWaitingAhead(eq("global"), anyLong())).thenAnswer(invocation -> store.stream()
+                .filter(token -> token.isWaiting() && token.getQueuePosition() < (long) invocation.getArgument(1))
+                .count());
+
+        // When: 두 노드가 번갈아 발급 (각 노드가 예약한 구간이 끼어들며 빈 순번이 생김)
+        int issued = 8;
+        for (long userId = 1; userId <= issued; userId++) {
+            (userId % 2 == 0 ? nodeB : nodeA).issueToken(userId);
+        }
+
+        // Then
+        long maxSequence = store.stream().mapToLong(QueueToken::getQueuePosition).max().orElseThrow();
+        assertThat(maxSequence).isGreaterThan(issued); // 순번 거리로 계산했다면 순위가 부풀려졌을 상황
+
+        List<Long> positions = new ArrayList<>();
+        store.stream()
+                .sorted(Comparator.comparingLong(QueueToken::getQueuePosition))
+                .forEach(token -> positions.add(nodeA.getQueueStatus(token.getTokenUuid()).getQueuePosition()));
+        assertThat(positions).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+    }
+
+    private QueueManagementUseCase newNode(QueueSequenceAllocator allocator) {
+        return new QueueManagementUseCase(
+                queueTokenRepository, queueWatermarkRepository, queueTokenVerifier, tokenSigner, eventPublisher,
+                admissionBudgetController, queueShardProcessor, Runnable::run,
+                new QueueThroughputEstimator(10, 5000, 60, 3, 1.96, 1), allocator, queueHeartbeatTracker,
+                queueCounters);
     }
 
     @Test
@@ -110,33 +244,68 @@ class QueueManagementUseCaseTest {
     }
 
     @Test
-    @DisplayName("대기열 처리 - 만료된 토큰들 정리하고 새로운 토큰들 활성화")
-    void processQueue_ActivateWaitingTokens() {
+    @DisplayName("대기열 처리 - 대기열별로 만료 처리 후 분배된 예산만큼 입장")
+    void processQueue_AdmitsPerShard() {
         // Given
-        QueueToken expiredToken = new QueueToken(1L, 1L);
-        expiredToken.activate(10);
-        // 만료 시간을 과거로 설정하여 만료된 상태로 만듦
+        QueueLoad hot = new QueueLoad("schedule:1", 30L, 5000L);
+        QueueLoad quiet = new QueueLoad("schedule:2", 0L, 3L);
+        when(queueCounters.getQueueNames()).thenReturn(List.of("schedule:1", "schedule:2"));
+        when(queueShardProcessor.expire(eq("schedule:1"), any(LocalDateTime.class))).thenReturn(new ExpiryBatch(2, 1));
+        when(queueShardProcessor.expire(eq("schedule:2"), any(LocalDateTime.class))).thenReturn(ExpiryBatch.empty());
+        when(queueCounters.getLoad("schedule:1")).thenReturn(hot);
+        when(queueCounters.getLoad("schedule:2")).thenReturn(quiet);
+        when(admissionBudgetController.allocate(List.of(hot, quiet))).thenReturn(Map.of("schedule:1", 97, "schedule:2", 3));
+        when(queueShardProcessor.admit(anyString(), anyInt(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new AdmissionBatch(3, 3L));
 
-        QueueToken waitingToken1 = new QueueToken(2L, 1L);
-        QueueToken waitingToken2 = new QueueToken(3L, 2L);
+        // When
+        queueManagementUseCase.processQueue();
 
-        List<QueueToken> expiredTokens = Arrays.asList(expiredToken);
-        List<QueueToken> activeTokens = Arrays.asList(); // 현재 활성화된 토큰 없음
-        List<QueueToken> waitingTokens = Arrays.asList(waitingToken1, waitingToken2);
+        // Then
+        verify(queueShardProcessor).admit(eq("schedule:1"), eq(67), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(queueShardProcessor).admit(eq("schedule:2"), eq(3), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(queueTokenRepository, never()).save(any(QueueToken.class));
+        verify(queueTokenRepository, never()).countWaitingTokens(anyString()); // 부하는 카운터에서 조회
+        verify(queueCounters).onExpired("schedule:1", 2, 1);
+        verify(queueCounters).onAdmitted("schedule:1", 3);
+    }
 
-        when(queueTokenRepository.findExpiredTokens()).thenReturn(expiredTokens);
-        when(queueTokenRepository.findActiveTokens()).thenReturn(activeTokens);
-        when(queueTokenRepository.findWaitingTokens()).thenReturn(waitingTokens);
-        when(queueTokenRepository.save(any(QueueToken.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    @Test
+    @DisplayName("대기열 처리 - 빈 슬롯이 없는 대기열은 입장 처리하지 않음")
+    void processQueue_NoAvailableSlots() {
+        // Given
+        QueueLoad full = new QueueLoad("global", 100L, 10L);
+        when(queueCounters.getQueueNames()).thenReturn(List.of("global"));
+        when(queueShardProcessor.expire(eq("global"), any(LocalDateTime.class))).thenReturn(ExpiryBatch.empty());
+        when(queueCounters.getLoad("global")).thenReturn(full);
+        when(admissionBudgetController.allocate(List.of(full))).thenReturn(Map.of("global", 100));
+
+        // When
+        queueManagementUseCase.processQueue();
+
+        // Then
+        verify(queueShardProcessor, never()).admit(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    @DisplayName("대기열 처리 - 한 대기열의 실패가 다른 대기열 입장을 막지 않음")
+    void processQueue_ShardFailureIsolated() {
+        // Given
+        QueueLoad healthy = new QueueLoad("schedule:2", 0L, 3L);
+        when(queueCounters.getQueueNames()).thenReturn(List.of("schedule:1", "schedule:2"));
+        when(queueShardProcessor.expire(eq("schedule:1"), any(LocalDateTime.class)))
+                .thenThrow(new RuntimeException("Lock wait timeout"));
+        when(queueShardProcessor.expire(eq("schedule:2"), any(LocalDateTime.class))).thenReturn(ExpiryBatch.empty());
+        when(queueCounters.getLoad("schedule:2")).thenReturn(healthy);
+        when(admissionBudgetController.allocate(List.of(healthy))).thenReturn(Map.of("schedule:2", 3));
+        when(queueShardProcessor.admit(eq("schedule:2"), eq(3), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new AdmissionBatch(3, 3L));
 
         // When
         queueManagementUseCase.processQueue();
 
         // Then
-        verify(queueTokenRepository, atLeastOnce()).save(any(QueueToken.class));
-        verify(queueTokenRepository).findExpiredTokens();
-        verify(queueTokenRepository).findActiveTokens();
-        verify(queueTokenRepository).findWaitingTokens();
+        verify(queueShardProcessor).admit(eq("schedule:2"), eq(3), any(LocalDateTime.class), any(LocalDateTime.class));
     }
 
     @Test
@@ -155,6 +324,8 @@ class QueueManagementUseCaseTest {
 
         // Then
         verify(queueTokenRepository).save(activeToken);
+        verify(queueTokenVerifier).revoke(eq(tokenUuid), any(LocalDateTime.class));
+        verify(eventPublisher).publishEvent(any(QueueManagementUseCase.QueueSlotFreedEvent.class));
     }
 
     @Test
@@ -174,17 +345,16 @@ class QueueManagementUseCaseTest {
     }
 
     @Test
-    @DisplayName("대기열 통계 조회 성공")
+    @DisplayName("대기열 통계 조회 성공 - 토큰을 조회하지 않고 카운터로 집계")
     void getQueueStatistics_Success() {
         // Given
-        Long waitingCount = 15L;
-        List<QueueToken> activeTokens = Arrays.asList(
-                new QueueToken(1L, 1L),
-                new QueueToken(2L, 2L)
+        List<QueueLoad> loads = List.of(
+                new QueueLoad("schedule:1", 2L, 10L),
+                new QueueLoad("schedule:2", 0L, 5L)
         );
-
-        when(queueTokenRepository.countWaitingTokens()).thenReturn(waitingCount);
-        when(queueTokenRepository.findActiveTokens()).thenReturn(activeTokens);
+        when(queueCounters.getLoads()).thenReturn(loads);
+        when(queueCounters.getAdmittedPerSecond()).thenReturn(4.5);
+        when(admissionBudgetController.allocate(loads)).thenReturn(Map.of("schedule:1", 60, "schedule:2", 40));
 
         // When
         QueueManagementUseCase.QueueStatistics result = queueManagementUseCase.getQueueStatistics();
@@ -193,6 +363,9 @@ class QueueManagementUseCaseTest {
         assertThat(result).isNotNull();
         assertThat(result.getWaitingCount()).isEqualTo(15L);
         assertThat(result.getActiveCount()).isEqualTo(2L);
-        assertThat(result.getMaxActiveCount()).isEqualTo(100L);
+        assertThat(result.getMaxActiveCount()).isEqualTo(100L); // 현재 입장 예산
+        assertThat(result.getAdmittedPerSecond()).isEqualTo(4.5);
+        assertThat(result.getShards()).hasSize(2);
+        verifyNoInteractions(queueTokenRepository);
     }
 }
\ No newline at end of file
@@ -0,0 +1,114 @@
+package kr.hhplus.be.server.application.queue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.WaitTimeEstimate;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import kr.hhplus.be.server.domain.queue.repository.QueueWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueuePositionBroadcasterTest {
+
+    @Mock
+    private QueueTokenRepository queueTokenRepository;
+
+    @Mock
+    private QueueWatermarkRepository queueWatermarkRepository;
+
+    @Mock
+    private QueueManagementUseCase queueManagementUseCase;
+
+    @Mock
+    private QueueHeartbeatTracker queueHeartbeatTracker;
+
+    private QueuePositionBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new QueuePositionBroadcaster(queueTokenRepository, queueWatermarkRepository,
+                queueManagementUseCase, new QueueThroughputEstimator(10, 5000, 60, 3, 1.96, 1),
+                queueHeartbeatTracker, new SimpleMeterRegistry(), 60000L);
+    }
+
+    @Test
+    @DisplayName("대기 토큰 구독 - 워터마크 이동 시 대기열 구독자의 순위를 한 번에 조회해 전파")
+    void broadcast_WaitingSubscribers_OneBatchedRankQueryPerQueue() {
+        // Given
+        QueueToken first = new QueueToken(1L, 50L);
+        QueueToken second = new QueueToken(2L, 60L);
+        when(queueTokenRepository.findByTokenUuid(first.getTokenUuid())).thenReturn(Optional.of(first));
+        when(queueTokenRepository.findByTokenUuid(second.getTokenUuid())).thenReturn(Optional.of(second));
+        when(queueWatermarkRepository.findAdmittedSequence("global")).thenReturn(10L);
+        when(queueTokenRepository.countWaitingAhead(eq("global"), anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(1)).stream().map(position -> 3L).toList());
+
+        broadcaster.subscribe(first.getTokenUuid());
+        broadcaster.subscribe(second.getTokenUuid());
+        clearInvocations(queueTokenRepository);
+
+        // When
+        broadcaster.broadcast("global", 20L);
+        broadcaster.broadcast("global", 30L);
+
+        // Then: 워터마크 이동마다 구독자 수와 무관하게 한 번
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(2);
+        verify(queueTokenRepository, times(2)).countWaitingAhead(eq("global"), anyList());
+        verify(queueTokenRepository, never()).findByTokenUuid(anyString());
+        verify(queueManagementUseCase, never()).getQueueStatus(anyString());
+    }
+
+    @Test
+    @DisplayName("입장 순번 도달 시 활성 상태 전송 후 구독 종료")
+    void broadcast_AdmittedSubscriber_SendsActivationAndUnsubscribes() {
+        // Given
+        QueueToken token = new QueueToken(1L, 15L);
+        when(queueTokenRepository.findByTokenUuid(token.getTokenUuid())).thenReturn(Optional.of(token));
+        when(queueWatermarkRepository.findAdmittedSequence("global")).thenReturn(10L);
+        when(queueTokenRepository.countWaitingAhead(eq("global"), anyList())).thenReturn(List.of(4L));
+        when(queueManagementUseCase.getQueueStatus(token.getTokenUuid())).thenReturn(
+                new QueueManagementUseCase.QueueStatusResult(token.getTokenUuid(), "ACTIVE", 15L, WaitTimeEstimate.none(), true,
+                        LocalDateTime.now().plusMinutes(10), "v1.k1.payload.signature"));
+
+        broadcaster.subscribe(token.getTokenUuid());
+
+        // When
+        broadcaster.broadcast("global", 20L);
+
+        // Then
+        assertThat(broadcaster.getSubscriberCount()).isZero();
+        verify(queueManagementUseCase).getQueueStatus(token.getTokenUuid());
+    }
+
+    @Test
+    @DisplayName("워터마크가 이동하지 않으면 전파하지 않음")
+    void broadcast_StaleWatermark_Ignored() {
+        // Given
+        QueueToken token = new QueueToken(1L, 15L);
+        when(queueTokenRepository.findByTokenUuid(token.getTokenUuid())).thenReturn(Optional.of(token));
+        when(queueWatermarkRepository.findAdmittedSequence("global")).thenReturn(10L);
+        when(queueTokenRepository.countWaitingAhead(eq("global"), anyList())).thenReturn(List.of(2L));
+        broadcaster.broadcast("global", 12L);
+        broadcaster.subscribe(token.getTokenUuid());
+
+        // When
+        broadcaster.broadcast("global", 11L);
+
+        // Then
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+        verify(queueManagementUseCase, never()).getQueueStatus(anyString());
+    }
+}
@@ -0,0 +1,119 @@
+package kr.hhplus.be.server.application.queue;
+
+import kr.hhplus.be.server.domain.queue.repository.QueueSequenceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class QueueSequenceAllocatorTest {
+
+    private final InMemorySequenceRepository repository = new InMemorySequenceRepository();
+
+    @Test
+    @DisplayName("여러 노드가 동시에 발급해도 순번이 중복되지 않고, 스레드마다 엄격히 증가")
+    void next_UniqueAcrossNodes() throws InterruptedException {
+        // Given: 노드 3개, 노드당 8 스레드
+        List<QueueSequenceAllocator> nodes = List.of(
+                new QueueSequenceAllocator(repository, 100, 1000),
+                new QueueSequenceAllocator(repository, 100, 1000),
+                new QueueSequenceAllocator(repository, 100, 1000));
+        int threadCount = 24;
+        int perThread = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+        AtomicInteger notIncreasing = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            QueueSequenceAllocator node = nodes.get(i % nodes.size());
+            executorService.submit(() -> {
+                try {
+                    long previous = 0;
+                    for (int j = 0; j < perThread; j++) {
+                        long sequence = node.next("global");
+                        if (sequence <= previous) {
+                            notIncreasing.incrementAndGet();
+                        }
+                        previous = sequence;
+                        issued.add(sequence);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executorService.shutdown();
+
+        // Then
+        assertThat(issued).hasSize(threadCount * perThread);
+        assertThat(notIncreasing.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("구간을 빨리 소진하면 예약 크기를 늘려 저장소 왕복을 줄임")
+    void next_BlockGrowsUnderLoad() {
+        // Given
+        QueueSequenceAllocator allocator = new QueueSequenceAllocator(repository, 100, 1000);
+
+        // When: 같은 시각에 1000개 발급
+        for (int i = 0; i < 1000; i++) {
+            allocator.next("global", 0L);
+        }
+
+        // Then: 1, 2, 4, ..., 64 이후 100 단위 예약
+        assertThat(repository.reservations.get()).isLessThan(20);
+    }
+
+    @Test
+    @DisplayName("오래된 구간은 버리고 새로 예약해 노드 간 순서 역전을 제한 (빈 번호 허용)")
+    void next_StaleBlockDiscarded() {
+        // Given: 구간 크기를 키워 둔 노드
+        QueueSequenceAllocator slowNode = new QueueSequenceAllocator(repository, 100, 1000);
+        for (int i = 0; i < 10; i++) {
+            slowNode.next("global", 0L);
+        }
+        QueueSequenceAllocator busyNode = new QueueSequenceAllocator(repository, 100, 1000);
+        long busySequence = busyNode.next("global", 0L);
+
+        // When: 구간 예약 후 2초 경과
+        long sequence = slowNode.next("global", TimeUnit.SECONDS.toNanos(2));
+
+        // Then: 남은 번호 대신 다른 노드보다 뒤의 순번
+        assertThat(sequence).isGreaterThan(busySequence);
+    }
+
+    @Test
+    @DisplayName("대기열마다 독립된 순번")
+    void next_PerQueue() {
+        QueueSequenceAllocator allocator = new QueueSequenceAllocator(repository, 100, 1000);
+
+        assertThat(allocator.next("schedule:1")).isEqualTo(1L);
+        assertThat(allocator.next("schedule:2")).isEqualTo(1L);
+        assertThat(allocator.next("schedule:1")).isEqualTo(2L);
+    }
+
+    private static class InMemorySequenceRepository implements QueueSequenceRepository {
+        private final Map<String, AtomicLong> sequences = new ConcurrentHashMap<>();
+        private final AtomicInteger reservations = new AtomicInteger();
+
+        @Override
+        public long reserveBlock(String queueName, int blockSize) {
+            reservations.incrementAndGet();
+            return sequences.computeIfAbsent(queueName, name -> new AtomicLong()).addAndGet(blockSize);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package kr.hhplus.be.server.application.queue;
+
+import kr.hhplus.be.server.domain.queue.AdmissionBatch;
+import kr.hhplus.be.server.domain.queue.ExpiryBatch;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import kr.hhplus.be.server.domain.queue.repository.QueueWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueShardProcessorTest {
+
+    @Mock
+    private QueueTokenRepository queueTokenRepository;
+
+    @Mock
+    private QueueWatermarkRepository queueWatermarkRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private QueueHeartbeatTracker queueHeartbeatTracker;
+
+    private QueueShardProcessor queueShardProcessor;
+
+    @BeforeEach
+    void setUp() {
+        queueShardProcessor = new QueueShardProcessor(queueTokenRepository, queueWatermarkRepository, eventPublisher,
+                queueHeartbeatTracker);
+    }
+
+    @Test
+    @DisplayName("만료 처리 - 시간 초과와 이탈로 만료된 토큰 수를 상태별로 반환")
+    void expire_ReturnsExpiredCounts() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        when(queueTokenRepository.expireActiveTokens("schedule:1", now)).thenReturn(1);
+        when(queueHeartbeatTracker.evictSilentTokens("schedule:1", now)).thenReturn(new ExpiryBatch(3, 2));
+
+        // When
+        ExpiryBatch expired = queueShardProcessor.expire("schedule:1", now);
+
+        // Then
+        assertThat(expired.getExpiredWaitingCount()).isEqualTo(3);
+        assertThat(expired.getExpiredActiveCount()).isEqualTo(3);
+        verify(queueTokenRepository, never()).countActiveTokens(anyString()); // 부하는 QueueCounters 에서 조회
+        verify(queueTokenRepository).expireActiveTokens("schedule:1", now);
+        verify(queueHeartbeatTracker).evictSilentTokens("schedule:1", now);
+    }
+
+    @Test
+    @DisplayName("입장 처리 - 일괄 활성화 후 워터마크 이동 및 입장 이벤트 발행")
+    void admit_AdvancesWatermarkAndPublishes() {
+        // Given
+        when(queueTokenRepository.activateNextWaitingTokens(eq("schedule:1"), eq(100), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new AdmissionBatch(2, 2L));
+
+        // When
+        queueShardProcessor.admit("schedule:1", 100, LocalDateTime.now(), LocalDateTime.now().plusMinutes(10));
+
+        // Then
+        verify(queueWatermarkRepository).advanceAdmittedSequence("schedule:1", 2L);
+
+        ArgumentCaptor<QueueManagementUseCase.QueueAdmittedEvent> eventCaptor =
+                ArgumentCaptor.forClass(QueueManagementUseCase.QueueAdmittedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getQueueName()).isEqualTo("schedule:1");
+        assertThat(eventCaptor.getValue().getAdmittedSequence()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("입장 처리 - 대기 토큰이 없으면 워터마크를 이동하지 않음")
+    void admit_EmptyBatch() {
+        // Given
+        when(queueTokenRepository.activateNextWaitingTokens(eq("global"), eq(10), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(AdmissionBatch.empty());
+
+        // When
+        queueShardProcessor.admit("global", 10, LocalDateTime.now(), LocalDateTime.now().plusMinutes(10));
+
+        // Then
+        verify(queueWatermarkRepository, never()).advanceAdmittedSequence(anyString(), anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
@@ -0,0 +1,116 @@
+package kr.hhplus.be.server.application.queue;
+
+import kr.hhplus.be.server.domain.queue.QueueThroughput;
+import kr.hhplus.be.server.domain.queue.WaitTimeEstimate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class QueueThroughputEstimatorTest {
+
+    private static final String QUEUE = "schedule:1";
+
+    private QueueThroughputEstimator estimator;
+
+    @BeforeEach
+    void setUp() {
+        // 기본 분당 10명, 5초 구간, 반감기 60초, 최소 표본 3, 95% 구간, 하한 분당 1명
+        estimator = new QueueThroughputEstimator(10, 5000, 60, 3, 1.96, 1);
+    }
+
+    @Test
+    @DisplayName("표본이 부족하면 기본 처리량으로 예상 대기 시간 계산")
+    void getThroughput_DefaultBeforeSamples() {
+        // Given
+        estimator.observe(QUEUE, 0, seconds(0));
+        estimator.observe(QUEUE, 5, seconds(5));
+
+        // When
+        WaitTimeEstimate estimate = estimator.getThroughput(QUEUE).estimate(24);
+
+        // Then
+        assertThat(estimate.getMinutes()).isEqualTo(2L);
+        assertThat(estimate.getLowerMinutes()).isEqualTo(2L);
+        assertThat(estimate.getUpperMinutes()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("일정한 입장 속도는 그대로 처리량이 되고 신뢰 구간이 좁다")
+    void observe_SteadyRate() {
+        // Given: 5초마다 5명 = 분당 60명
+        for (int i = 0; i <= 6; i++) {
+            estimator.observe(QUEUE, i * 5L, seconds(i * 5L));
+        }
+
+        // When
+        QueueThroughput throughput = estimator.getThroughput(QUEUE);
+        WaitTimeEstimate estimate = throughput.estimate(120);
+
+        // Then
+        assertThat(throughput.getRatePerMinute()).isCloseTo(60.0, within(0.01));
+        assertThat(estimate.getMinutes()).isEqualTo(2L);
+        assertThat(estimate.getUpperMinutes()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("입장 속도가 흔들리면 예상 대기 시간의 신뢰 구간이 넓어진다")
+    void observe_VaryingRate() {
+        // Given: 분당 30명과 90명이 번갈아 관측
+        long sequence = 0;
+        estimator.observe(QUEUE, sequence, seconds(0));
+        for (int i = 1; i <= 10; i++) {
+            sequence += (i % 2 == 0) ? 8 : 2;
+            estimator.observe(QUEUE, sequence, seconds(i * 5L));
+        }
+
+        // When
+        QueueThroughput throughput = estimator.getThroughput(QUEUE);
+        WaitTimeEstimate estimate = throughput.estimate(600);
+
+        // Then
+        assertThat(throughput.getLowerRatePerMinute()).isLessThan(throughput.getRatePerMinute());
+        assertThat(throughput.getUpperRatePerMinute()).isGreaterThan(throughput.getRatePerMinute());
+        assertThat(estimate.getLowerMinutes()).isLessThan(estimate.getMinutes());
+        assertThat(estimate.getUpperMinutes()).isGreaterThan(estimate.getMinutes());
+    }
+
+    @Test
+    @DisplayName("입장이 멈추면 처리량이 빠르게 떨어지고 하한 처리량을 넘지 않는다")
+    void observe_Stalled() {
+        // Given
+        for (int i = 0; i <= 6; i++) {
+            estimator.observe(QUEUE, i * 5L, seconds(i * 5L));
+        }
+
+        // When: 5분 동안 워터마크 정지
+        estimator.observe(QUEUE, 30, seconds(330));
+
+        // Then
+        QueueThroughput throughput = estimator.getThroughput(QUEUE);
+        assertThat(throughput.getRatePerMinute()).isLessThan(5.0);
+        assertThat(throughput.getLowerRatePerMinute()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기열마다 처리량을 따로 추정")
+    void observe_PerQueue() {
+        // Given
+        for (int i = 0; i <= 6; i++) {
+            estimator.observe(QUEUE, i * 5L, seconds(i * 5L));
+        }
+
+        // When
+        QueueThroughput other = estimator.getThroughput("schedule:2");
+
+        // Then
+        assertThat(other.getRatePerMinute()).isEqualTo(10.0);
+    }
+
+    private long seconds(long value) {
+        return TimeUnit.SECONDS.toNanos(value);
+    }
+}
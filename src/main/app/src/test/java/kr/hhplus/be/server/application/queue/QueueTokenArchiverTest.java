@@ -0,0 +1,111 @@
+package kr.hhplus.be.server.application.queue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueTokenArchiverTest {
+
+    @Mock
+    private QueueTokenRepository queueTokenRepository;
+
+    @Mock
+    private SchedulerLeaderElection leaderElection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueueTokenArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 묶음 100개, 실행당 최대 3묶음, 종료 후 10분 유예
+        archiver = new QueueTokenArchiver(queueTokenRepository, leaderElection, meterRegistry, 100, 3, 10);
+    }
+
+    @Test
+    @DisplayName("보관 대상이 묶음 크기보다 적게 남으면 실행 종료")
+    void archive_StopsWhenDrained() {
+        // Given
+        when(queueTokenRepository.archiveTerminalTokens(any(LocalDateTime.class), eq(100))).thenReturn(100, 40);
+
+        // When
+        int archived = archiver.archive();
+
+        // Then
+        assertThat(archived).isEqualTo(140);
+        verify(queueTokenRepository, times(2)).archiveTerminalTokens(any(LocalDateTime.class), eq(100));
+        assertThat(meterRegistry.counter("queue.archive.tokens").count()).isEqualTo(140.0);
+        assertThat(meterRegistry.summary("queue.archive.run.tokens").count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("실행당 최대 묶음 수까지만 처리")
+    void archive_BoundedChunksPerRun() {
+        // Given
+        when(queueTokenRepository.archiveTerminalTokens(any(LocalDateTime.class), eq(100))).thenReturn(100);
+
+        // When
+        int archived = archiver.archive();
+
+        // Then
+        assertThat(archived).isEqualTo(300);
+        verify(queueTokenRepository, times(3)).archiveTerminalTokens(any(LocalDateTime.class), eq(100));
+    }
+
+    @Test
+    @DisplayName("종료 후 유예 시간이 지난 토큰만 대상")
+    void archive_RetentionCutoff() {
+        // Given
+        LocalDateTime before = LocalDateTime.now().minusMinutes(10);
+
+        // When
+        archiver.archive();
+
+        // Then
+        verify(queueTokenRepository).archiveTerminalTokens(
+                argThat(cutoff -> !cutoff.isBefore(before) && cutoff.isBefore(LocalDateTime.now().minusMinutes(9))),
+                eq(100));
+    }
+
+    @Test
+    @DisplayName("실패하면 그때까지 이동한 수를 기록하고 실패 메트릭 증가")
+    void archive_Failure() {
+        // Given
+        when(queueTokenRepository.archiveTerminalTokens(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100)
+                .thenThrow(new IllegalStateException("lock wait timeout"));
+
+        // When
+        int archived = archiver.archive();
+
+        // Then
+        assertThat(archived).isEqualTo(100);
+        assertThat(meterRegistry.counter("queue.archive.failures").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("스케줄러 리더가 아니면 실행하지 않음")
+    void sweep_NotLeader() {
+        // Given
+        when(leaderElection.isLeader()).thenReturn(false);
+
+        // When
+        archiver.sweep();
+
+        // Then
+        verify(queueTokenRepository, never()).archiveTerminalTokens(any(), anyInt());
+    }
+}
@@ -0,0 +1,119 @@
+package kr.hhplus.be.server.application.queue;
+
+import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.SignedQueueToken;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import kr.hhplus.be.server.infrastructure.queue.HmacQueueTokenSigner;
+import kr.hhplus.be.server.infrastructure.queue.QueueTokenRevocationList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueTokenVerifierTest {
+
+    @Mock
+    private QueueTokenRepository queueTokenRepository;
+
+    @Mock
+    private QueueTokenCache queueTokenCache;
+
+    @Mock
+    private HmacQueueTokenSigner tokenSigner;
+
+    @Mock
+    private QueueTokenRevocationList revocationList;
+
+    @Mock
+    private QueueHeartbeatTracker queueHeartbeatTracker;
+
+    private QueueTokenVerifier queueTokenVerifier;
+
+    @BeforeEach
+    void setUp() {
+        queueTokenVerifier = new QueueTokenVerifier(queueTokenRepository, queueTokenCache, tokenSigner, revocationList,
+                queueHeartbeatTracker);
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 캐시 적중 시 저장소를 조회하지 않음")
+    void validate_CacheHit_SkipsRepository() {
+        // Given
+        String tokenUuid = "test-token-uuid";
+        QueueTokenCache.TokenState cached = new QueueTokenCache.TokenState(
+                tokenUuid, 1L, "global", QueueToken.TokenStatus.ACTIVE, LocalDateTime.now().plusMinutes(5));
+
+        when(queueTokenCache.get(tokenUuid)).thenReturn(cached);
+
+        // When
+        QueueTokenCache.TokenState result = queueTokenVerifier.validate(tokenUuid);
+
+        // Then
+        assertThat(result).isSameAs(cached);
+        verify(queueTokenRepository, never()).findByTokenUuid(anyString());
+    }
+
+    @Test
+    @DisplayName("토큰 검증 - 완료된 토큰은 거부하고 캐시에 저장하지 않음")
+    void validate_CompletedToken_ShouldThrowException() {
+        // Given
+        String tokenUuid = "test-token-uuid";
+        QueueToken completedToken = new QueueToken(1L, 1L);
+        completedToken.activate(10);
+        completedToken.complete();
+
+        when(queueTokenRepository.findByTokenUuid(tokenUuid)).thenReturn(Optional.of(completedToken));
+
+        // When & Then
+        assertThatThrownBy(() -> queueTokenVerifier.validate(tokenUuid))
+                .isInstanceOf(IllegalStateException.class);
+        verify(queueTokenCache, never()).put(any());
+    }
+
+    @Test
+    @DisplayName("서명 토큰 검증 - 저장소와 캐시를 조회하지 않음")
+    void requireActive_SignedToken_VerifiedWithoutStore() {
+        // Given
+        String signed = "v1.k1.payload.signature";
+        SignedQueueToken claims = new SignedQueueToken("k1", "test-token-uuid", 1L, "global",
+                QueueToken.TokenStatus.ACTIVE, LocalDateTime.now(), LocalDateTime.now().plusMinutes(5));
+
+        when(tokenSigner.isSigned(signed)).thenReturn(true);
+        when(tokenSigner.verify(signed)).thenReturn(Optional.of(claims));
+
+        // When
+        QueueTokenCache.TokenState result = queueTokenVerifier.requireActive(signed);
+
+        // Then
+        assertThat(result.getTokenUuid()).isEqualTo("test-token-uuid");
+        assertThat(result.isActive()).isTrue();
+        verifyNoInteractions(queueTokenRepository, queueTokenCache);
+    }
+
+    @Test
+    @DisplayName("서명 토큰 검증 실패 - 폐기된 토큰")
+    void requireActive_RevokedSignedToken_ShouldThrowException() {
+        // Given
+        String signed = "v1.k1.payload.signature";
+        SignedQueueToken claims = new SignedQueueToken("k1", "test-token-uuid", 1L, "global",
+                QueueToken.TokenStatus.ACTIVE, LocalDateTime.now(), LocalDateTime.now().plusMinutes(5));
+
+        when(tokenSigner.isSigned(signed)).thenReturn(true);
+        when(tokenSigner.verify(signed)).thenReturn(Optional.of(claims));
+        when(revocationList.isRevoked("test-token-uuid")).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> queueTokenVerifier.requireActive(signed))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
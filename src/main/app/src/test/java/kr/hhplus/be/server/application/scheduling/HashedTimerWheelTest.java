@@ -0,0 +1,43 @@
+package kr.hhplus.be.server.application.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HashedTimerWheelTest {
+
+    @Test
+    @DisplayName("만료 시각이 지난 tick 에서만 꺼내고, 바퀴 한 바퀴보다 먼 항목은 다음 바퀴까지 유지")
+    void advance_FiresAtDueTick() {
+        // Given: 100ms tick, 칸 8개 (한 바퀴 800ms)
+        HashedTimerWheel<Long> wheel = new HashedTimerWheel<>(100, 8, 0);
+        wheel.schedule(1L, 250);   // tick 3
+        wheel.schedule(2L, 1_050); // tick 11 → 같은 칸(3)에 있지만 다음 바퀴
+
+        // When & Then
+        assertThat(wheel.advance(299)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly(1L);
+        assertThat(wheel.advance(1_099)).isEmpty();
+        assertThat(wheel.advance(1_100)).containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 등록하면 만료 시각 갱신, 취소한 항목과 지난 시각 항목 처리")
+    void scheduleAndCancel() {
+        // Given
+        HashedTimerWheel<String> wheel = new HashedTimerWheel<>(100, 8, 1_000);
+        wheel.schedule("a", 1_200);
+        wheel.schedule("a", 1_500); // 갱신 (중복 없음)
+        wheel.schedule("b", 1_300);
+        wheel.schedule("late", 500); // 이미 지남 → 다음 tick
+        wheel.cancel("b");
+
+        // When & Then
+        assertThat(wheel.size()).isEqualTo(2);
+        assertThat(wheel.advance(1_100)).containsExactly("late");
+        assertThat(wheel.advance(1_400)).isEmpty();
+        assertThat(wheel.advance(10_000)).containsExactly("a"); // 여러 바퀴 밀려도 한 번만
+    }
+}
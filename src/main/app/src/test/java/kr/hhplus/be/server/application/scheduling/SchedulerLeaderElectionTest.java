@@ -0,0 +1,113 @@
+package kr.hhplus.be.server.application.scheduling;
+
+import kr.hhplus.be.server.domain.scheduling.repository.SchedulerLeaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLeaderElectionTest {
+
+    @Mock
+    private SchedulerLeaseRepository schedulerLeaseRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SchedulerLeaderElection leaderElection;
+
+    @BeforeEach
+    void setUp() {
+        leaderElection = new SchedulerLeaderElection(schedulerLeaseRepository, eventPublisher, 3000);
+    }
+
+    @Test
+    @DisplayName("임대를 획득하면 리더가 되고 리더 변경 이벤트 발행")
+    void renew_Acquired() {
+        // Given
+        when(schedulerLeaseRepository.tryAcquire(eq(SchedulerLeaderElection.LEASE_NAME), anyString(), eq(Duration.ofMillis(3000))))
+                .thenReturn(true);
+
+        // When
+        leaderElection.renew();
+        leaderElection.renew();
+
+        // Then: 연장은 이벤트를 다시 발행하지 않음
+        assertThat(leaderElection.isLeader()).isTrue();
+        ArgumentCaptor<SchedulerLeaderElection.LeadershipChangedEvent> eventCaptor =
+                ArgumentCaptor.forClass(SchedulerLeaderElection.LeadershipChangedEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().isLeader()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 임대를 보유 중이면 리더가 아님")
+    void renew_HeldByOtherNode() {
+        // Given
+        when(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When
+        leaderElection.renew();
+
+        // Then
+        assertThat(leaderElection.isLeader()).isFalse();
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("임대 저장소 장애 시 리더를 내려놓음")
+    void renew_StoreFailure() {
+        // Given
+        when(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), any(Duration.class)))
+                .thenReturn(true)
+                .thenThrow(new IllegalStateException("redis down"));
+        leaderElection.renew();
+
+        // When
+        leaderElection.renew();
+
+        // Then
+        assertThat(leaderElection.isLeader()).isFalse();
+    }
+
+    @Test
+    @DisplayName("로컬 기준으로 임대가 만료되면 갱신 전이라도 리더가 아님")
+    void isLeader_LocalLeaseExpired() throws InterruptedException {
+        // Given
+        leaderElection = new SchedulerLeaderElection(schedulerLeaseRepository, eventPublisher, 50);
+        when(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        leaderElection.renew();
+
+        // When
+        Thread.sleep(100);
+
+        // Then
+        assertThat(leaderElection.isLeader()).isFalse();
+    }
+
+    @Test
+    @DisplayName("종료 시 보유 중인 임대를 즉시 반납")
+    void release_ReleasesLease() {
+        // Given
+        when(schedulerLeaseRepository.tryAcquire(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        leaderElection.renew();
+
+        // When
+        leaderElection.release();
+
+        // Then
+        assertThat(leaderElection.isLeader()).isFalse();
+        verify(schedulerLeaseRepository).release(SchedulerLeaderElection.LEASE_NAME, leaderElection.getNodeId());
+    }
+}
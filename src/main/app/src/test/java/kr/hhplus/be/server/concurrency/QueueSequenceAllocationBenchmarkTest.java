@@ -0,0 +1,97 @@
+package kr.hhplus.be.server.concurrency;
+
+import kr.hhplus.be.server.application.queue.QueueSequenceAllocator;
+import kr.hhplus.be.server.domain.queue.QueueSequence;
+import kr.hhplus.be.server.infrastructure.queue.JpaQueueSequenceRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 구간 예약은 노드마다 별도 트랜잭션으로 커밋
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sequencedb",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class QueueSequenceAllocationBenchmarkTest {
+
+    // 순번 저장소만 띄움 (다른 저장소의 MySQL 전용 쿼리는 H2 에서 생성되지 않음)
+    @Configuration
+    @EntityScan(basePackageClasses = QueueSequence.class)
+    @EnableJpaRepositories(basePackageClasses = JpaQueueSequenceRepository.class)
+    static class SequenceRepositoryConfig {
+    }
+
+    @Autowired
+    private JpaQueueSequenceRepository queueSequenceRepository;
+
+    @Test
+    @DisplayName("도착 순번 할당 벤치마크: DB 구간 예약 기반으로 초당 1만 건 이상, 중복 없음")
+    void allocateQueueSequencesTest() throws InterruptedException {
+        // Given: 같은 DB 를 공유하는 노드 4개, 노드당 8 스레드
+        List<QueueSequenceAllocator> nodes = List.of(
+                new QueueSequenceAllocator(queueSequenceRepository, 100, 1000),
+                new QueueSequenceAllocator(queueSequenceRepository, 100, 1000),
+                new QueueSequenceAllocator(queueSequenceRepository, 100, 1000),
+                new QueueSequenceAllocator(queueSequenceRepository, 100, 1000));
+        int threadCount = 32;
+        int perThread = 2000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch ready = new CountDownLatch(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        Set<Long> issued = ConcurrentHashMap.newKeySet();
+
+        for (int i = 0; i < threadCount; i++) {
+            QueueSequenceAllocator node = nodes.get(i % nodes.size());
+            executorService.submit(() -> {
+                try {
+                    ready.countDown();
+                    start.await();
+                    for (int j = 0; j < perThread; j++) {
+                        issued.add(node.next("schedule:1"));
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // When
+        ready.await();
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await(60, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        // Then
+        int total = threadCount * perThread;
+        double perSecond = total / (elapsedNanos / 1_000_000_000.0);
+        System.out.println("발급: " + total + "건, 소요: " + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms");
+        System.out.println("처리량: " + (long) perSecond + " tokens/sec");
+
+        assertThat(issued).hasSize(total);
+        assertThat(perSecond).isGreaterThan(10_000);
+    }
+}
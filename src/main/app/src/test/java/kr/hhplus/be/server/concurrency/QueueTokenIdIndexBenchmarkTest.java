@@ -0,0 +1,90 @@
+package kr.hhplus.be.server.concurrency;
+
+import kr.hhplus.be.server.domain.queue.QueueTokenId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 토큰 식별자 저장 방식 비교: 무작위 UUID VARCHAR(36) vs 시간 순서 BINARY(16)
+ *
+ * 파일 기반 H2 에 같은 구조의 테이블 두 개를 만들어 고유 인덱스가 있는 상태로 삽입 처리량과 테이블(인덱스 포함) 크기를 측정한다.
+ */
+class QueueTokenIdIndexBenchmarkTest {
+
+    private static final int TOKEN_COUNT = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("토큰 식별자 벤치마크: 시간 순서 BINARY(16) 가 무작위 UUID VARCHAR(36) 보다 작은 인덱스로 저장")
+    void compareTokenIdSchemes() throws SQLException {
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + tempDir.resolve("tokens"), "sa", "")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE tokens_v4 (token_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                        "token_uuid VARCHAR(36) NOT NULL, user_id BIGINT NOT NULL, CONSTRAINT uk_v4 UNIQUE (token_uuid))");
+                statement.execute("CREATE TABLE tokens_v7 (token_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+                        "token_uuid BINARY(16) NOT NULL, user_id BIGINT NOT NULL, CONSTRAINT uk_v7 UNIQUE (token_uuid))");
+            }
+            connection.setAutoCommit(false);
+
+            // When
+            long v4Nanos = insert(connection, "INSERT INTO tokens_v4 (token_uuid, user_id) VALUES (?, ?)", true);
+            long v7Nanos = insert(connection, "INSERT INTO tokens_v7 (token_uuid, user_id) VALUES (?, ?)", false);
+            long v4Bytes = diskSpaceUsed(connection, "TOKENS_V4");
+            long v7Bytes = diskSpaceUsed(connection, "TOKENS_V7");
+
+            // Then
+            System.out.println("UUIDv4 VARCHAR(36): " + perSecond(v4Nanos) + " inserts/sec, " + v4Bytes / 1024 + " KB");
+            System.out.println("UUIDv7 BINARY(16) : " + perSecond(v7Nanos) + " inserts/sec, " + v7Bytes / 1024 + " KB");
+
+            assertThat(v7Bytes).isLessThan(v4Bytes);
+        }
+    }
+
+    private long insert(Connection connection, String sql, boolean randomUuid) throws SQLException {
+        long startedAt = System.nanoTime();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < TOKEN_COUNT; i++) {
+                if (randomUuid) {
+                    statement.setString(1, UUID.randomUUID().toString());
+                } else {
+                    statement.setBytes(1, QueueTokenId.decode(QueueTokenId.generate()));
+                }
+                statement.setLong(2, i);
+                statement.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private long diskSpaceUsed(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT DISK_SPACE_USED('" + table + "')")) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private long perSecond(long nanos) {
+        return (long) (TOKEN_COUNT / (nanos / (double) TimeUnit.SECONDS.toNanos(1)));
+    }
+}
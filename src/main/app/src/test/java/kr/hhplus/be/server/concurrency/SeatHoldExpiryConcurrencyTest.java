@@ -0,0 +1,158 @@
+package kr.hhplus.be.server.concurrency;
+
+import jakarta.persistence.EntityManager;
+import kr.hhplus.be.server.domain.concert.Concert;
+import kr.hhplus.be.server.domain.concert.ConcertSchedule;
+import kr.hhplus.be.server.domain.concert.Reservation;
+import kr.hhplus.be.server.domain.concert.ReservationHold;
+import kr.hhplus.be.server.domain.concert.Seat;
+import kr.hhplus.be.server.domain.concert.repository.SeatRepository;
+import kr.hhplus.be.server.infrastructure.concert.JpaReservationRepository;
+import kr.hhplus.be.server.infrastructure.concert.JpaSeatRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 임시 예약 만료 처리의 잔여 좌석 수 반영: 이 트랜잭션이 실제로 되돌린 좌석만 더한다
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 작업 스레드가 커밋된 예약을 보도록
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seatexpirydb",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class SeatHoldExpiryConcurrencyTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    // 좌석/예약 저장소만 띄움 (다른 저장소의 MySQL 전용 쿼리는 H2 에서 생성되지 않음)
+    @Configuration
+    @EntityScan(basePackageClasses = Seat.class)
+    @EnableJpaRepositories(basePackageClasses = JpaSeatRepository.class)
+    static class SeatExpiryConfig {
+    }
+
+    @Autowired
+    private JpaSeatRepository seatRepository;
+
+    @Autowired
+    private JpaReservationRepository reservationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("같은 예약을 여러 노드가 동시에 만료 처리해도 잔여 좌석 수는 한 번만 증가")
+    void expireSameHoldConcurrently_CreditsOnce() throws InterruptedException {
+        // Given
+        Hold hold = createExpiredHold();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger released = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    released.addAndGet(reservationRepository.expireTemporaryReservations(
+                            List.of(hold.reservationId), LocalDateTime.now()).size());
+                } catch (Exception e) {
+                    failed.incrementAndGet(); // 잠금 대기 시간 초과는 다음 tick 에 재시도되는 실패
+                }
+            });
+        }
+        start.countDown();
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        // Then
+        assertThat(failed.get()).isZero();
+        assertThat(released.get()).isEqualTo(1);
+        assertThat(availableSeats(hold.scheduleId)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("만료 처리 전에 다른 사용자가 넘겨받은 좌석은 되돌리지 않고 잔여 좌석 수도 더하지 않음")
+    void expireTakenOverHold_NoCredit() {
+        // Given: 만료된 임시 예약 좌석을 다른 사용자가 넘겨받음
+        Hold hold = createExpiredHold();
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            assertThat(seatRepository.takeOverExpiredHold(hold.seatId, null, 2L, now, now.plusMinutes(5))).isEqualTo(1);
+            reservationRepository.cancelSupersededHolds(List.of(hold.seatId), now);
+        });
+
+        // When
+        List<ReservationHold> released = reservationRepository.expireTemporaryReservations(
+                List.of(hold.reservationId), LocalDateTime.now());
+
+        // Then
+        assertThat(released).isEmpty();
+        assertThat(availableSeats(hold.scheduleId)).isEqualTo(49);
+        assertThat(((SeatRepository) seatRepository).findById(hold.seatId).orElseThrow().getSeatStatus())
+                .isEqualTo(Seat.SeatStatus.TEMPORARY_RESERVED);
+    }
+
+    // 잔여 좌석 수에서 빠진 채 만료 시각이 지난 임시 예약 하나
+    private Hold createExpiredHold() {
+        return transactionTemplate.execute(status -> {
+            Concert concert = new Concert("Expiry Concert", "Artist", "Venue");
+            entityManager.persist(concert);
+            ConcertSchedule schedule = new ConcertSchedule(concert, LocalDateTime.now().plusDays(1), LocalDateTime.now());
+            entityManager.persist(schedule);
+            entityManager.flush();
+
+            Seat seat = schedule.getSeats().get(0);
+            LocalDateTime reservedAt = LocalDateTime.now().minusMinutes(10);
+            seatRepository.reserveIfAvailable(seat.getSeatId(), null, 1L, reservedAt, reservedAt.plusMinutes(5));
+            seatRepository.decreaseAvailableSeats(schedule.getScheduleId());
+            Reservation reservation = new Reservation(1L, seat, new BigDecimal("50000"), -5);
+            entityManager.persist(reservation);
+            return new Hold(reservation.getReservationId(), seat.getSeatId(), schedule.getScheduleId());
+        });
+    }
+
+    private int availableSeats(Long scheduleId) {
+        return transactionTemplate.execute(status ->
+                entityManager.find(ConcertSchedule.class, scheduleId).getAvailableSeats());
+    }
+
+    private static class Hold {
+        private final Long reservationId;
+        private final Long seatId;
+        private final Long scheduleId;
+
+        private Hold(Long reservationId, Long seatId, Long scheduleId) {
+            this.reservationId = reservationId;
+            this.seatId = seatId;
+            this.scheduleId = scheduleId;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package kr.hhplus.be.server.concurrency;
+
+import jakarta.persistence.EntityManager;
+import kr.hhplus.be.server.config.RedisConfig;
+import kr.hhplus.be.server.domain.concert.Concert;
+import kr.hhplus.be.server.domain.concert.ConcertSchedule;
+import kr.hhplus.be.server.domain.concert.Seat;
+import kr.hhplus.be.server.domain.concert.repository.SeatRepository;
+import kr.hhplus.be.server.infrastructure.concert.JpaSeatRepository;
+import kr.hhplus.be.server.infrastructure.redis.RedisDistributedLock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 같은 좌석에 대한 동시 예약 1,000건: Redisson 락 + 엔티티 조회/저장 vs 조건부 UPDATE 한 문장
+ *
+ * 좌석 저장소와 분산락만 필요하므로 JPA 슬라이스에 Redis 설정만 더해 띄운다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 작업 스레드가 커밋된 좌석을 보도록
+@ImportAutoConfiguration(RedisAutoConfiguration.class)
+@Testcontainers
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:seatcontentiondb",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class SeatReservationContentionBenchmarkTest {
+
+    private static final int REQUEST_COUNT = 1_000;
+    private static final int THREAD_COUNT = 100;
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    // 좌석 저장소와 분산락만 띄움 (다른 저장소의 MySQL 전용 쿼리는 H2 에서 생성되지 않음)
+    @Configuration
+    @EntityScan(basePackageClasses = Seat.class)
+    @EnableJpaRepositories(basePackageClasses = JpaSeatRepository.class)
+    @Import({RedisConfig.class, RedisDistributedLock.class})
+    static class SeatBenchmarkConfig {
+    }
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @Autowired
+    private JpaSeatRepository seatRepository;
+
+    @Autowired
+    private RedisDistributedLock distributedLock;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("좌석 경합 벤치마크: 조건부 UPDATE 는 락 대기 없이 한 명만 성공")
+    void compareSeatReservationPaths() throws InterruptedException {
+        // Given: 좌석 두 개 (경로마다 하나씩)
+        List<Long> seatIds = createSeats();
+        Long lockSeatId = seatIds.get(0);
+        Long updateSeatId = seatIds.get(1);
+
+        // When
+        Outcome lockOutcome = run(userId -> distributedLock.executeWithLock("seat:reserve:" + lockSeatId, 3, 10,
+                () -> transactionTemplate.execute(status -> {
+                    Seat seat = ((SeatRepository) seatRepository).findById(lockSeatId).orElseThrow();
+                    if (!seat.isAvailable()) {
+                        return false;
+                    }
+                    seat.reserve(userId, 5);
+                    seatRepository.save(seat);
+                    return true;
+                })));
+
+        Outcome updateOutcome = run(userId -> transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            return seatRepository.reserveIfAvailable(updateSeatId, null, userId, now, now.plusMinutes(5)) == 1;
+        }));
+
+        // Then
+        System.out.println("Redisson 락   : " + lockOutcome);
+        System.out.println("조건부 UPDATE : " + updateOutcome);
+
+        assertThat(updateOutcome.succeeded).isEqualTo(1);
+        assertThat(updateOutcome.failed).isZero();
+        assertThat(lockOutcome.succeeded).isLessThanOrEqualTo(1);
+        assertThat(((SeatRepository) seatRepository).findById(updateSeatId).orElseThrow().getSeatStatus())
+                .isEqualTo(Seat.SeatStatus.TEMPORARY_RESERVED);
+    }
+
+    private List<Long> createSeats() {
+        return transactionTemplate.execute(status -> {
+            Concert concert = new Concert("Benchmark Concert", "Artist", "Venue");
+            entityManager.persist(concert);
+            ConcertSchedule schedule = new ConcertSchedule(concert, LocalDateTime.now().plusDays(1), LocalDateTime.now());
+            entityManager.persist(schedule);
+            entityManager.flush();
+            return schedule.getSeats().stream().limit(2).map(Seat::getSeatId).toList();
+        });
+    }
+
+    private Outcome run(LongPredicate reserve) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger(); // 락 대기 시간 초과 등
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            long userId = i + 1;
+            executorService.submit(() -> {
+                try {
+                    start.await();
+                    long startedAt = System.nanoTime();
+                    try {
+                        if (reserve.test(userId)) {
+                            succeeded.incrementAndGet();
+                        } else {
+                            rejected.incrementAndGet();
+                        }
+                    } catch (RuntimeException e) {
+                        failed.incrementAndGet();
+                    }
+                    latencies.add(System.nanoTime() - startedAt);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        done.await(120, TimeUnit.SECONDS);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executorService.shutdown();
+
+        List<Long> sorted = latencies.stream().sorted().toList();
+        long p99Nanos = sorted.isEmpty() ? 0 : sorted.get(Math.max(0, (int) (sorted.size() * 0.99) - 1));
+        return new Outcome(succeeded.get(), rejected.get(), failed.get(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), TimeUnit.NANOSECONDS.toMillis(p99Nanos));
+    }
+
+    private record Outcome(int succeeded, int rejected, int failed, long elapsedMillis, long p99Millis) {
+        @Override
+        public String toString() {
+            return "성공 " + succeeded + ", 거절 " + rejected + ", 실패 " + failed
+                    + ", 소요 " + elapsedMillis + "ms, p99 " + p99Millis + "ms";
+        }
+    }
+}
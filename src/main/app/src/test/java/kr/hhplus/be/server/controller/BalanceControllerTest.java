@@ -1,6 +1,7 @@
 package kr.hhplus.be.server.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.application.queue.QueueTokenVerifier;
 import kr.hhplus.be.server.dto.BalanceChargeRequest;
 import kr.hhplus.be.server.dto.BalanceResponse;
 import kr.hhplus.be.server.exception.BusinessException;
@@ -36,6 +37,9 @@ class BalanceControllerTest {
     @MockBean
     private UserService userService;
 
+    @MockBean
+    private QueueTokenVerifier queueTokenVerifier; // WebConfig 의 대기열 토큰 인터셉터 의존성
+
     @Test
     @DisplayName("정상적인 잔액 충전")
     void chargeBalance_Success() throws Exception {
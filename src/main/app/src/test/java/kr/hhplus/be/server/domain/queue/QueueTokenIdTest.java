@@ -0,0 +1,82 @@
+package kr.hhplus.be.server.domain.queue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("QueueTokenId 테스트")
+class QueueTokenIdTest {
+
+    @Test
+    @DisplayName("발급 - 22자 base64url 이며 16바이트로 되돌릴 수 있음")
+    void generate_RoundTrip() {
+        // given
+        String id = QueueTokenId.generate();
+
+        // when
+        byte[] bytes = QueueTokenId.decode(id);
+
+        // then
+        assertThat(id).hasSize(22).matches("[A-Za-z0-9_-]+");
+        assertThat(bytes).hasSize(QueueTokenId.BYTES);
+        assertThat(QueueTokenId.encode(bytes)).isEqualTo(id);
+        assertThat((bytes[6] & 0xF0) >>> 4).isEqualTo(7); // version 7
+        assertThat((bytes[8] & 0xC0) >>> 6).isEqualTo(2);  // variant 10
+    }
+
+    @Test
+    @DisplayName("발급 - 늦게 발급된 식별자는 바이트 순서상 뒤에 위치")
+    void generate_TimeOrdered() {
+        // given
+        List<byte[]> ids = new ArrayList<>();
+        for (long millis = 1_700_000_000_000L; millis < 1_700_000_000_100L; millis++) {
+            ids.add(QueueTokenId.generateBytes(millis));
+        }
+
+        // when & then
+        for (int i = 1; i < ids.size(); i++) {
+            assertThat(Arrays.compareUnsigned(ids.get(i - 1), ids.get(i))).isNegative();
+        }
+        assertThat(QueueTokenId.timestampOf(QueueTokenId.encode(ids.get(0)))).isEqualTo(1_700_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("발급 - 같은 밀리초에도 충돌 없음")
+    void generate_Unique() {
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 100_000; i++) {
+            ids.add(QueueTokenId.encode(QueueTokenId.generateBytes(1_700_000_000_000L)));
+        }
+        assertThat(ids).hasSize(100_000);
+    }
+
+    @Test
+    @DisplayName("이전 형식 - 36자 UUID 문자열도 같은 16바이트로 해석")
+    void decode_LegacyUuid() {
+        // given
+        UUID legacy = UUID.randomUUID();
+
+        // when
+        String converted = QueueTokenId.encode(QueueTokenId.decode(legacy.toString()));
+
+        // then
+        assertThat(QueueTokenId.decode(converted)).isEqualTo(QueueTokenId.decode(legacy.toString()));
+    }
+
+    @Test
+    @DisplayName("검증 - 형식이 맞지 않는 값은 거부")
+    void isValid_RejectsMalformed() {
+        assertThat(QueueTokenId.isValid("invalid-token")).isFalse();
+        assertThat(QueueTokenId.isValid(null)).isFalse();
+        assertThat(QueueTokenId.isValid("v1.abc.def")).isFalse();
+        assertThat(QueueTokenId.isValid(QueueTokenId.generate())).isTrue();
+    }
+}
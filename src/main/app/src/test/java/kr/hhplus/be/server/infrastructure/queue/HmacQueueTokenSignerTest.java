@@ -0,0 +1,84 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.SignedQueueToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HmacQueueTokenSignerTest {
+
+    private QueueSigningProperties properties;
+    private HmacQueueTokenSigner signer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new QueueSigningProperties();
+        properties.setActiveKeyId("k1");
+        properties.setKeys(new HashMap<>(Map.of("k1", "secret-1")));
+        signer = new HmacQueueTokenSigner(properties);
+    }
+
+    @Test
+    @DisplayName("활성 토큰 서명 후 검증하면 클레임이 복원됨")
+    void signAndVerify() {
+        // Given
+        QueueToken token = new QueueToken(7L, 1L);
+        token.activate(10);
+
+        // When
+        String signed = signer.sign(token);
+        SignedQueueToken claims = signer.verify(signed).orElseThrow();
+
+        // Then
+        assertThat(signed).startsWith("v1.k1.");
+        assertThat(claims.getTokenUuid()).isEqualTo(token.getTokenUuid());
+        assertThat(claims.getUserId()).isEqualTo(7L);
+        assertThat(claims.getStatus()).isEqualTo(QueueToken.TokenStatus.ACTIVE);
+        assertThat(claims.getExpiresAt()).isAfter(claims.getAdmittedAt());
+    }
+
+    @Test
+    @DisplayName("대기 중인 토큰은 서명하지 않음")
+    void sign_WaitingToken_ReturnsNull() {
+        assertThat(signer.sign(new QueueToken(7L, 1L))).isNull();
+    }
+
+    @Test
+    @DisplayName("변조된 토큰은 검증 실패")
+    void verify_TamperedPayload_Fails() {
+        // Given
+        QueueToken token = new QueueToken(7L, 1L);
+        token.activate(10);
+        String[] parts = signer.sign(token).split("\\.");
+
+        QueueToken other = new QueueToken(8L, 2L);
+        other.activate(10);
+        String otherPayload = signer.sign(other).split("\\.")[2];
+
+        // When & Then
+        assertThat(signer.verify(parts[0] + "." + parts[1] + "." + otherPayload + "." + parts[3])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키 교체 후에도 이전 키로 서명된 토큰은 검증됨")
+    void verify_AfterKeyRotation() {
+        // Given
+        QueueToken token = new QueueToken(7L, 1L);
+        token.activate(10);
+        String signedWithOldKey = signer.sign(token);
+
+        // When
+        properties.getKeys().put("k2", "secret-2");
+        properties.setActiveKeyId("k2");
+
+        // Then
+        assertThat(signer.verify(signedWithOldKey)).isPresent();
+        assertThat(signer.sign(token)).startsWith("v1.k2.");
+    }
+}
@@ -0,0 +1,170 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.application.queue.AdmissionBudgetController;
+import kr.hhplus.be.server.application.queue.QueueAdmitter;
+import kr.hhplus.be.server.application.queue.QueueCounters;
+import kr.hhplus.be.server.application.queue.QueueHeartbeatTracker;
+import kr.hhplus.be.server.application.queue.QueueManagementUseCase;
+import kr.hhplus.be.server.application.queue.QueueSequenceAllocator;
+import kr.hhplus.be.server.application.queue.QueueShardProcessor;
+import kr.hhplus.be.server.application.queue.QueueThroughputEstimator;
+import kr.hhplus.be.server.application.queue.QueueTokenVerifier;
+import kr.hhplus.be.server.application.scheduling.SchedulerLeaderElection;
+import kr.hhplus.be.server.domain.queue.AdmissionBatch;
+import kr.hhplus.be.server.domain.queue.ExpiryBatch;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import kr.hhplus.be.server.domain.queue.repository.QueueWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueSlotFreedRelayTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private QueueAdmitter queueAdmitter;
+
+    @Mock
+    private QueueCounters queueCounters;
+
+    @Mock
+    private SchedulerLeaderElection leaderElection;
+
+    private QueueSlotFreedRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new QueueSlotFreedRelay(redisTemplate, listenerContainer, queueAdmitter, queueCounters, leaderElection);
+        lenient().when(leaderElection.getNodeId()).thenReturn("node-1");
+    }
+
+    @Test
+    @DisplayName("리더가 아닌 노드의 슬롯 반환 - 노드 ID 와 대기열 이름을 리더에게 전달")
+    void onSlotFreed_NotLeader_ForwardsToLeader() {
+        // Given
+        when(leaderElection.isLeader()).thenReturn(false);
+
+        // When
+        relay.onSlotFreed(new QueueManagementUseCase.QueueSlotFreedEvent("test-token-uuid", "global"));
+
+        // Then
+        verify(redisTemplate).convertAndSend("queue:slot-freed", "node-1|global");
+    }
+
+    @Test
+    @DisplayName("리더 노드의 슬롯 반환 - 직접 처리하므로 전달하지 않음")
+    void onSlotFreed_Leader_DoesNotForward() {
+        // Given
+        when(leaderElection.isLeader()).thenReturn(true);
+
+        // When
+        relay.onSlotFreed(new QueueManagementUseCase.QueueSlotFreedEvent("test-token-uuid", "global"));
+
+        // Then
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("전달 수신 - 다른 노드의 완료만 활성 카운터에 반영하고 입장 처리 요청")
+    void onMessage_AppliesRemoteCompletionAndSignals() {
+        // When
+        relay.onMessage(message("node-2|schedule:7"), null);
+        relay.onMessage(message("node-1|schedule:7"), null); // 자기 메시지는 이미 반영됨
+
+        // Then
+        verify(queueCounters, times(1)).onCompleted("schedule:7");
+        verify(queueAdmitter, times(2)).signal();
+    }
+
+    @Test
+    @DisplayName("두 노드 - 리더가 아닌 노드에서 토큰이 완료되면 리더가 다음 주기를 기다리지 않고 입장 처리")
+    void twoNodes_CompletionOnFollower_LeaderAdmitsImmediately() {
+        // Given: 예산 1, 리더 기준 활성 1 / 대기 1 (빈 슬롯 없음)
+        QueueTokenRepository leaderStore = mock(QueueTokenRepository.class);
+        lenient().when(leaderStore.findQueueNames()).thenReturn(List.of("global"));
+        QueueShardProcessor shardProcessor = mock(QueueShardProcessor.class);
+        when(shardProcessor.expire(eq("global"), any(LocalDateTime.class))).thenReturn(ExpiryBatch.empty());
+        when(shardProcessor.admit(eq("global"), anyInt(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenReturn(new AdmissionBatch(1, 2L));
+        AdmissionBudgetController budgetController = mock(AdmissionBudgetController.class);
+        when(budgetController.allocate(anyList())).thenReturn(Map.of("global", 1));
+
+        QueueCounters leaderCounters = new QueueCounters(leaderStore, new SimpleMeterRegistry(), 10);
+        leaderCounters.onIssued("global");
+        leaderCounters.onIssued("global");
+        leaderCounters.onAdmitted("global", 1);
+        QueueManagementUseCase leaderUseCase = new QueueManagementUseCase(
+                leaderStore, mock(QueueWatermarkRepository.class), mock(QueueTokenVerifier.class),
+                mock(HmacQueueTokenSigner.class), mock(ApplicationEventPublisher.class), budgetController,
+                shardProcessor, Runnable::run, new QueueThroughputEstimator(10, 5000, 60, 3, 1.96, 1),
+                mock(QueueSequenceAllocator.class), mock(QueueHeartbeatTracker.class), leaderCounters);
+        SchedulerLeaderElection leader = node("node-leader", true);
+        QueueAdmitter leaderAdmitter = new QueueAdmitter(leaderUseCase, leader);
+
+        SchedulerLeaderElection follower = node("node-follower", false);
+        QueueCounters followerCounters = new QueueCounters(mock(QueueTokenRepository.class), new SimpleMeterRegistry(), 10);
+        followerCounters.onIssued("global");
+        followerCounters.onIssued("global");
+        followerCounters.onAdmitted("global", 2);
+
+        // 두 노드가 같은 채널을 구독하는 pub/sub
+        List<QueueSlotFreedRelay> subscribers = new ArrayList<>();
+        StringRedisTemplate bus = mock(StringRedisTemplate.class);
+        doAnswer(invocation -> {
+            subscribers.forEach(subscriber -> subscriber.onMessage(message(invocation.getArgument(1)), null));
+            return null;
+        }).when(bus).convertAndSend(eq("queue:slot-freed"), anyString());
+        subscribers.add(new QueueSlotFreedRelay(bus, listenerContainer, leaderAdmitter, leaderCounters, leader));
+        QueueAdmitter followerAdmitter = new QueueAdmitter(mock(QueueManagementUseCase.class), follower);
+        QueueSlotFreedRelay followerRelay = new QueueSlotFreedRelay(bus, listenerContainer, followerAdmitter, followerCounters, follower);
+        subscribers.add(followerRelay);
+
+        try {
+            // When: 리더가 아닌 노드에서 활성 토큰 완료 (커밋 후 이벤트)
+            followerCounters.onCompleted("global");
+            followerRelay.onSlotFreed(new QueueManagementUseCase.QueueSlotFreedEvent("test-token-uuid", "global"));
+
+            // Then
+            verify(shardProcessor, timeout(1000)).admit(eq("global"), eq(1), any(LocalDateTime.class), any(LocalDateTime.class));
+            assertThat(followerCounters.getLoad("global").getActiveCount()).isEqualTo(1L); // 보낸 노드는 두 번 빼지 않음
+        } finally {
+            leaderAdmitter.shutdown();
+            followerAdmitter.shutdown();
+        }
+    }
+
+    private SchedulerLeaderElection node(String nodeId, boolean isLeader) {
+        SchedulerLeaderElection election = mock(SchedulerLeaderElection.class);
+        lenient().when(election.getNodeId()).thenReturn(nodeId);
+        lenient().when(election.isLeader()).thenReturn(isLeader);
+        return election;
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("queue:slot-freed".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
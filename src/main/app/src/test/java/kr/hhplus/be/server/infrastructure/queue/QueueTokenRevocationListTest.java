@@ -0,0 +1,113 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueueTokenRevocationListTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private QueueTokenRevocationList revocationList;
+
+    @BeforeEach
+    void setUp() {
+        revocationList = new QueueTokenRevocationList(redisTemplate, listenerContainer);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+    }
+
+    @Test
+    @DisplayName("토큰 폐기 - 폐기 시각을 점수로 Redis 에 기록하고 다른 노드에 전파")
+    void revoke_RecordsAndBroadcasts() {
+        // When
+        revocationList.revoke("uuid-1", LocalDateTime.now().plusMinutes(10));
+
+        // Then
+        verify(zSetOperations).add(eq("queue:revoked"), startsWith("uuid-1|"), anyDouble());
+        verify(redisTemplate).convertAndSend(eq("queue:revocations"), startsWith("uuid-1|"));
+        assertThat(revocationList.isRevoked("uuid-1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("폐기 확인 - 로컬 목록만 보고 요청마다 Redis 를 조회하지 않음, 전파 수신 시 즉시 반영")
+    void isRevoked_LocalOnly() {
+        // When & Then
+        assertThat(revocationList.isRevoked("uuid-1")).isFalse();
+        assertThat(revocationList.isRevoked("uuid-1")).isFalse();
+
+        revocationList.onMessage(message("uuid-1|" + (System.currentTimeMillis() + 60_000)), null);
+        assertThat(revocationList.isRevoked("uuid-1")).isTrue();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("재동기화 - 첫 실행은 전체 적재, 이후에는 직전 동기화 이후(시계 오차 여유 포함) 폐기만 읽고 오래된 폐기는 잘라냄")
+    void resync_FullLoadThenIncremental() {
+        // Given: 전파를 놓친 폐기 (이미 만료된 토큰은 로컬 목록에 남지 않음)
+        long now = System.currentTimeMillis();
+        when(zSetOperations.rangeByScore(eq("queue:revoked"), anyDouble(), eq(Double.POSITIVE_INFINITY)))
+                .thenReturn(Set.of("uuid-1|" + (now + 60_000), "uuid-2|" + (now - 1_000)))
+                .thenReturn(Set.of("uuid-3|" + (now + 60_000)));
+
+        // When
+        int loaded = revocationList.resync(now);
+        int synced = revocationList.resync(now + 5_000);
+
+        // Then
+        assertThat(loaded).isEqualTo(2);
+        assertThat(synced).isEqualTo(1);
+        assertThat(revocationList.isRevoked("uuid-1")).isTrue();
+        assertThat(revocationList.isRevoked("uuid-2")).isFalse();
+        assertThat(revocationList.isRevoked("uuid-3")).isTrue();
+        verify(zSetOperations).rangeByScore("queue:revoked", 0, Double.POSITIVE_INFINITY);
+        verify(zSetOperations).rangeByScore("queue:revoked", now - 5_000, Double.POSITIVE_INFINITY);
+        verify(zSetOperations).removeRangeByScore("queue:revoked", 0, now + 5_000 - 30 * 60_000);
+    }
+
+    @Test
+    @DisplayName("재동기화 실패 - 다음 실행에서 같은 구간부터 다시 읽음")
+    void resync_RetriesSameWindowAfterFailure() {
+        // Given
+        long now = System.currentTimeMillis();
+        when(zSetOperations.rangeByScore(eq("queue:revoked"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of())
+                .thenThrow(new RuntimeException("connection refused"))
+                .thenReturn(Set.of("uuid-1|" + (now + 60_000)));
+
+        // When
+        revocationList.resync(now);
+        revocationList.resync(now + 5_000);
+        revocationList.resync(now + 10_000);
+
+        // Then
+        verify(zSetOperations, times(2)).rangeByScore("queue:revoked", now - 5_000, Double.POSITIVE_INFINITY);
+        assertThat(revocationList.isRevoked("uuid-1")).isTrue();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("queue:revocations".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,179 @@
+package kr.hhplus.be.server.infrastructure.queue;
+
+import kr.hhplus.be.server.domain.queue.QueueToken;
+import kr.hhplus.be.server.domain.queue.repository.QueueSequenceRepository;
+import kr.hhplus.be.server.domain.queue.repository.QueueTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DataRedisTest(properties = "queue.store=redis")
+@Testcontainers
+@Import({RedisQueueTokenRepository.class, RedisQueueSequenceRepository.class})
+class RedisQueueTokenRepositoryTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @Autowired
+    private QueueTokenRepository queueTokenRepository;
+
+    @Autowired
+    private QueueSequenceRepository queueSequenceRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    void Redis_저장소가_선택된다() {
+        assertThat(queueTokenRepository).isInstanceOf(RedisQueueTokenRepository.class);
+    }
+
+    @Test
+    void 도착_순서대로_대기열에_정렬된다() {
+        // Given
+        for (long userId = 1; userId <= 3; userId++) {
+            queueTokenRepository.save(new QueueToken(userId, userId));
+        }
+
+        // When
+        List<QueueToken> waitingTokens = queueTokenRepository.findWaitingTokens();
+
+        // Then
+        assertThat(waitingTokens).extracting(QueueToken::getUserId).containsExactly(1L, 2L, 3L);
+        assertThat(waitingTokens).extracting(QueueToken::getQueuePosition).containsExactly(1L, 2L, 3L);
+        assertThat(queueTokenRepository.countWaitingTokens()).isEqualTo(3L);
+    }
+
+    @Test
+    void 입장한_토큰은_대기열에서_활성열로_이동한다() {
+        // Given
+        QueueToken first = new QueueToken(1L, 1L);
+        QueueToken second = new QueueToken(2L, 2L);
+        queueTokenRepository.save(first);
+        queueTokenRepository.save(second);
+
+        // When
+        first.activate(10);
+        queueTokenRepository.save(first);
+
+        // Then
+        assertThat(queueTokenRepository.findWaitingTokens()).extracting(QueueToken::getTokenUuid)
+                .containsExactly(second.getTokenUuid());
+        assertThat(queueTokenRepository.findActiveTokens()).extracting(QueueToken::getTokenUuid)
+                .containsExactly(first.getTokenUuid());
+        assertThat(queueTokenRepository.findByUserIdAndQueueName(1L, "global")).get()
+                .extracting(QueueToken::getTokenStatus).isEqualTo(QueueToken.TokenStatus.ACTIVE);
+    }
+
+    @Test
+    void 완료된_토큰은_대기열과_활성열에서_모두_제거된다() {
+        // Given
+        QueueToken token = new QueueToken(1L, 1L);
+        queueTokenRepository.save(token);
+        token.activate(10);
+        queueTokenRepository.save(token);
+
+        // When
+        token.complete();
+        queueTokenRepository.save(token);
+
+        // Then
+        assertThat(queueTokenRepository.findActiveTokens()).isEmpty();
+        assertThat(queueTokenRepository.countWaitingTokens()).isZero();
+        assertThat(queueTokenRepository.findByTokenUuid(token.getTokenUuid())).get()
+                .extracting(QueueToken::getTokenStatus).isEqualTo(QueueToken.TokenStatus.COMPLETED);
+    }
+
+    @Test
+    void 입장한_토큰을_늦게_도착한_대기_상태로_덮어쓰지_않는다() {
+        // Given: 입장 스크립트가 먼저 활성화
+        QueueToken token = new QueueToken(1L, 1L);
+        queueTokenRepository.save(token);
+        queueTokenRepository.activateNextWaitingTokens("global", 1, LocalDateTime.now(), LocalDateTime.now().plusMinutes(10));
+
+        // When: 활성화 전에 읽어 둔 대기 상태 토큰을 저장
+        QueueToken saved = queueTokenRepository.save(token);
+
+        // Then
+        assertThat(saved.getTokenStatus()).isEqualTo(QueueToken.TokenStatus.ACTIVE);
+        assertThat(queueTokenRepository.countWaitingTokens()).isZero();
+        assertThat(queueTokenRepository.findActiveTokens()).extracting(QueueToken::getTokenUuid)
+                .containsExactly(token.getTokenUuid());
+    }
+
+    @Test
+    void 한_대기열의_키는_같은_해시_슬롯에_있다() {
+        // Given
+        QueueToken token = new QueueToken(1L, "schedule:1", 1L);
+
+        // When
+        QueueToken saved = queueTokenRepository.save(token);
+
+        // Then: 대기열 키는 모두 {schedule:1} 해시 태그를 공유하고, 조회용 포인터로 찾을 수 있음
+        assertThat(redisTemplate.keys("queue:{schedule:1}:*")).containsExactlyInAnyOrder(
+                "queue:{schedule:1}:waiting",
+                "queue:{schedule:1}:token:" + token.getTokenUuid(),
+                "queue:{schedule:1}:user:1");
+        assertThat(queueTokenRepository.findByTokenUuid(token.getTokenUuid())).isPresent();
+        assertThat(queueTokenRepository.findById(saved.getTokenId())).get()
+                .extracting(QueueToken::getTokenUuid).isEqualTo(token.getTokenUuid());
+    }
+
+    @Test
+    void 만료된_활성_토큰과_조회용_포인터는_보관_시간_후_삭제된다() {
+        // Given
+        QueueToken token = new QueueToken(1L, 1L);
+        QueueToken saved = queueTokenRepository.save(token);
+        queueTokenRepository.activateNextWaitingTokens("global", 1, LocalDateTime.now(), LocalDateTime.now().minusSeconds(1));
+
+        // When
+        int expired = queueTokenRepository.expireActiveTokens("global", LocalDateTime.now());
+
+        // Then
+        assertThat(expired).isEqualTo(1);
+        assertThat(queueTokenRepository.findByTokenUuid(token.getTokenUuid())).get()
+                .extracting(QueueToken::getTokenStatus).isEqualTo(QueueToken.TokenStatus.EXPIRED);
+        assertThat(redisTemplate.getExpire("queue:token-queue:" + token.getTokenUuid())).isPositive();
+        assertThat(redisTemplate.getExpire("queue:id:" + saved.getTokenId())).isPositive();
+        assertThat(redisTemplate.getExpire("queue:{global}:user:1")).isPositive();
+    }
+
+    @Test
+    void 순번_구간은_INCRBY_로_겹치지_않게_예약된다() {
+        // When
+        long first = queueSequenceRepository.reserveBlock("global", 100);
+        long second = queueSequenceRepository.reserveBlock("global", 100);
+        long otherQueue = queueSequenceRepository.reserveBlock("schedule:1", 10);
+
+        // Then
+        assertThat(first).isEqualTo(100L);
+        assertThat(second).isEqualTo(200L);
+        assertThat(otherQueue).isEqualTo(10L);
+    }
+}
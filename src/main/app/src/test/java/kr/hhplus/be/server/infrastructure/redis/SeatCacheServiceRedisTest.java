@@ -0,0 +1,88 @@
+package kr.hhplus.be.server.infrastructure.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.config.RedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.data.redis.DataRedisTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 좌석 배치도 캐시의 Lua 스크립트(상태 부분 갱신, 버전 검사)를 실제 Redis 에서 확인
+ */
+@DataRedisTest
+@Testcontainers
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({RedisConfig.class, SeatCacheService.class, SeatLayoutNearCache.class, SimpleMeterRegistry.class})
+class SeatCacheServiceRedisTest {
+
+    @Container
+    static GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine")
+            .withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+    }
+
+    @Autowired
+    private SeatCacheService seatCacheService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.getConnectionFactory().getConnection().flushAll();
+    }
+
+    @Test
+    void 좌석_배치도_상태_부분_갱신_테스트() {
+        // Given
+        Long scheduleId = 1L;
+        long version = seatCacheService.getSeatLayoutVersion(scheduleId);
+        seatCacheService.cacheSeatLayout(scheduleId, List.of(
+                new SeatCacheService.SeatLayoutDto(11L, 1, "R", new BigDecimal("50000"), 1, 1, true),
+                new SeatCacheService.SeatLayoutDto(12L, 2, "R", new BigDecimal("50000"), 1, 2, true)), version);
+
+        // When: 한 좌석만 예약됨
+        seatCacheService.updateSeatStatus(scheduleId, 11L, false);
+
+        // Then: 배치도는 그대로 적중하고 해당 좌석 상태만 바뀜
+        List<SeatCacheService.SeatLayoutDto> layout = seatCacheService.getCachedSeatLayout(scheduleId);
+        assertThat(layout).extracting(SeatCacheService.SeatLayoutDto::getSeatId).containsExactly(11L, 12L);
+        assertThat(layout).extracting(SeatCacheService.SeatLayoutDto::isAvailable).containsExactly(false, true);
+        assertThat(seatCacheService.getSeatLayoutVersion(scheduleId)).isEqualTo(version + 1);
+    }
+
+    @Test
+    void 좌석_배치도_적재_중_상태_변경시_저장_안함_테스트() {
+        // Given: DB 조회 전에 버전을 읽은 뒤 그 사이 좌석이 예약됨
+        Long scheduleId = 2L;
+        long version = seatCacheService.getSeatLayoutVersion(scheduleId);
+        seatCacheService.updateSeatStatus(scheduleId, 21L, false);
+
+        // When
+        boolean cached = seatCacheService.cacheSeatLayout(scheduleId, List.of(
+                new SeatCacheService.SeatLayoutDto(21L, 1, "R", new BigDecimal("50000"), 1, 1, true)), version);
+
+        // Then
+        assertThat(cached).isFalse();
+        assertThat(seatCacheService.getCachedSeatLayout(scheduleId)).isNull();
+    }
+}
@@ -0,0 +1,73 @@
+package kr.hhplus.be.server.infrastructure.redis;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SeatLayoutNearCacheTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private SeatLayoutNearCache nearCache;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new SeatLayoutNearCache(redisTemplate, listenerContainer, new SimpleMeterRegistry(), 100, 60_000);
+        nearCache.put(1L, List.of(seat(11L, 1), seat(12L, 2)), 5);
+    }
+
+    @Test
+    @DisplayName("좌석 상태 변경 - 로컬 사본의 해당 좌석만 바꾸고 다른 노드에 전파")
+    void publishStatus_PatchesAndBroadcasts() {
+        // When
+        nearCache.publishStatus(1L, List.of(11L), false, 6);
+
+        // Then
+        assertThat(nearCache.get(1L)).extracting(SeatCacheService.SeatLayoutDto::isAvailable).containsExactly(false, true);
+        verify(redisTemplate).convertAndSend("seat:layout:events", "1|11|0|6");
+    }
+
+    @Test
+    @DisplayName("전파 수신 - 이미 반영된 버전은 건너뛰고, 무효화는 사본 제거")
+    void onMessage_AppliesNewerVersionsOnly() {
+        // When & Then
+        nearCache.onMessage(message("1|11|0|5"), null); // 로컬 버전과 같음
+        assertThat(nearCache.get(1L).get(0).isAvailable()).isTrue();
+
+        nearCache.onMessage(message("1|11|0|7"), null);
+        assertThat(nearCache.get(1L).get(0).isAvailable()).isFalse();
+
+        nearCache.put(1L, List.of(seat(11L, 1), seat(12L, 2)), 6); // 늦게 도착한 과거 적재는 무시
+        assertThat(nearCache.get(1L).get(0).isAvailable()).isFalse();
+
+        nearCache.onMessage(message("1|*"), null);
+        assertThat(nearCache.get(1L)).isNull();
+    }
+
+    private static SeatCacheService.SeatLayoutDto seat(Long seatId, int seatNumber) {
+        return new SeatCacheService.SeatLayoutDto(seatId, seatNumber, "R", new BigDecimal("50000"), 1, seatNumber, true);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("seat:layout:events".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}